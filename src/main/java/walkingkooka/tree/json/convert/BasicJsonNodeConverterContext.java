@@ -33,6 +33,7 @@ import java.math.MathContext;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link JsonNodeConverterContext} that uses given {@link ExpressionNumberConverterContext}, {@link JsonNodeMarshallContext}
@@ -123,6 +124,33 @@ final class BasicJsonNodeConverterContext implements JsonNodeConverterContext,
 
     private final JsonNodeMarshallUnmarshallContext marshallUnmarshallContext;
 
+    /**
+     * The json converters call this on every canConvert, after cheap identity checks of the target type, with the value
+     * class or for json-node-to the target type, so this is the only part of their (value class, target type) decision
+     * that depends on the context. Supported classes are remembered, as a class never stops being supported. Unsupported
+     * classes are always looked up again, because a class is registered when it is initialized, which may happen after a
+     * first check. Changing a processor creates a new context which starts with an empty cache.
+     */
+    @Override
+    public boolean isSupportedJsonType(final Class<?> type) {
+        boolean supported = this.supportedJsonTypes.containsKey(type);
+        if (false == supported) {
+            supported = this.marshallUnmarshallContext.isSupportedJsonType(type);
+            if (supported) {
+                this.supportedJsonTypes.put(
+                    type,
+                    Boolean.TRUE
+                );
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * Classes known to be supported. A {@link ConcurrentHashMap} is used because ClassValue is not available in J2CL.
+     */
+    private final ConcurrentHashMap<Class<?>, Boolean> supportedJsonTypes = new ConcurrentHashMap<>();
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContextObjectPostProcessor;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContextPreProcessor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link JsonNodeConverterContext} that wraps another, caching the {@link JsonNode} returned by
+ * {@link #marshall(Object)} and {@link #marshallWithType(Object)} for values whose class has been opted in. Only
+ * immutable value types with a proper equals and hashCode should be opted in, because a cached {@link JsonNode} is
+ * returned for any equal value. The cache is least recently used and bounded by the number of entries, all other
+ * methods delegate to the wrapped context.
+ * <br>
+ * The elements of a {@link Collection} given to {@link #marshallCollection(Collection)}, or to {@link #marshall(Object)}
+ * when it is one of the plain JDK collection classes, such as the chunks of a {@link ParallelJsonNodeConverterContext},
+ * are also marshalled through the cache. The first collections of each class are marshalled by the wrapped context and
+ * compared with their cached elements, to learn whether that class is marshalled as an array of elements with or
+ * without their type. Classes that are neither, and the elements of a {@link java.util.Map}, are always marshalled by
+ * the wrapped context. Statistics are available from {@link JsonNodeConverterContexts#cachingStatistics(JsonNodeConverterContext)}.
+ */
+final class CachingJsonNodeConverterContext implements JsonNodeConverterContextDelegator {
+
+    static CachingJsonNodeConverterContext with(final JsonNodeConverterContext context,
+                                                final Set<Class<?>> types,
+                                                final int capacity) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(types, "types");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " <= 0");
+        }
+
+        return new CachingJsonNodeConverterContext(
+            context,
+            Sets.immutable(types),
+            capacity
+        );
+    }
+
+    private CachingJsonNodeConverterContext(final JsonNodeConverterContext context,
+                                            final Set<Class<?>> types,
+                                            final int capacity) {
+        this.context = context;
+        this.types = types;
+        this.capacity = capacity;
+
+        this.cache = cache();
+        this.withTypeCache = cache();
+    }
+
+    /**
+     * A {@link LinkedHashMap} in access order, the first entry is always the least recently used.
+     */
+    private static LinkedHashMap<Object, JsonNode> cache() {
+        return new LinkedHashMap<>(
+            16,
+            0.75f,
+            true // access order
+        );
+    }
+
+    @Override
+    public JsonNode marshall(final Object value) {
+        final JsonNode json;
+
+        if (this.isCached(value)) {
+            json = this.marshallCached(
+                value,
+                this.cache,
+                false
+            );
+        } else if (JsonNodeJdkCollections.isCollection(value)) {
+            json = this.marshallJdkCollection(
+                (Collection<?>) value
+            );
+        } else {
+            json = this.context.marshall(value);
+        }
+
+        return json;
+    }
+
+    @Override
+    public JsonNode marshallWithType(final Object value) {
+        return this.isCached(value) ?
+            this.marshallCached(
+                value,
+                this.withTypeCache,
+                true
+            ) :
+            this.context.marshallWithType(value);
+    }
+
+    @Override
+    public JsonNode marshallCollection(final Collection<?> collection) {
+        return null == collection ?
+            this.context.marshallCollection(collection) :
+            this.marshallElements(
+                collection,
+                false
+            );
+    }
+
+    private boolean isCached(final Object value) {
+        return null != value && this.types.contains(value.getClass());
+    }
+
+    private JsonNode marshallCached(final Object value,
+                                    final LinkedHashMap<Object, JsonNode> cache,
+                                    final boolean withType) {
+        JsonNode json = this.get(
+            value,
+            cache
+        );
+        if (null == json) {
+            json = withType ?
+                this.context.marshallWithType(value) :
+                this.context.marshall(value);
+            this.put(
+                value,
+                json,
+                cache
+            );
+        }
+        return json;
+    }
+
+    /**
+     * Once the class of the collection is known to be marshalled as an array of elements, the elements are marshalled
+     * through the cache, otherwise the wrapped context marshalls the collection, which is then used to learn.
+     */
+    private JsonNode marshallJdkCollection(final Collection<?> collection) {
+        final CollectionMarshalling marshalling = this.collections.get(
+            collection.getClass()
+        );
+
+        final JsonNode json;
+        if (CollectionMarshalling.ELEMENTS == marshalling) {
+            json = this.marshallElements(
+                collection,
+                false
+            );
+        } else if (CollectionMarshalling.ELEMENTS_WITH_TYPE == marshalling) {
+            json = this.marshallElements(
+                collection,
+                true
+            );
+        } else {
+            json = this.context.marshall(collection);
+
+            if (null == marshalling) {
+                this.learn(
+                    collection,
+                    json
+                );
+            }
+        }
+
+        return json;
+    }
+
+    private JsonNode marshallElements(final Collection<?> collection,
+                                      final boolean withType) {
+        final List<JsonNode> children = Lists.array();
+        for (final Object element : collection) {
+            children.add(
+                withType ?
+                    this.marshallWithType(element) :
+                    this.marshall(element)
+            );
+        }
+
+        return JsonNode.array()
+            .setChildren(children);
+    }
+
+    /**
+     * Compares the children of the marshalled collection with its cached elements, marshalled with and without their
+     * type. Only elements where the two differ decide, until then the class remains unknown.
+     */
+    private void learn(final Collection<?> collection,
+                       final JsonNode json) {
+        CollectionMarshalling marshalling = null;
+
+        if (json.isArray() && json.children().size() == collection.size()) {
+            int i = 0;
+            for (final Object element : collection) {
+                if (this.isCached(element)) {
+                    final JsonNode child = json.children()
+                        .get(i);
+                    final JsonNode plain = this.marshall(element);
+                    final JsonNode typed = this.marshallWithType(element);
+
+                    if (false == plain.equals(typed)) {
+                        marshalling = child.equals(plain) ?
+                            CollectionMarshalling.ELEMENTS :
+                            child.equals(typed) ?
+                                CollectionMarshalling.ELEMENTS_WITH_TYPE :
+                                CollectionMarshalling.WRAPPED;
+                        break;
+                    }
+                    if (false == child.equals(plain)) {
+                        marshalling = CollectionMarshalling.WRAPPED;
+                        break;
+                    }
+                }
+                i++;
+            }
+        } else {
+            marshalling = CollectionMarshalling.WRAPPED;
+        }
+
+        if (null != marshalling) {
+            this.collections.put(
+                collection.getClass(),
+                marshalling
+            );
+        }
+    }
+
+    /**
+     * How the JDK collection classes learnt so far are marshalled by the wrapped context.
+     */
+    private final Map<Class<?>, CollectionMarshalling> collections = new ConcurrentHashMap<>();
+
+    private enum CollectionMarshalling {
+        /**
+         * An array of each element marshalled without its type.
+         */
+        ELEMENTS,
+
+        /**
+         * An array of each element marshalled with its type.
+         */
+        ELEMENTS_WITH_TYPE,
+
+        /**
+         * Anything else, always marshalled by the wrapped context.
+         */
+        WRAPPED
+    }
+
+    private synchronized JsonNode get(final Object value,
+                                      final LinkedHashMap<Object, JsonNode> cache) {
+        final JsonNode json = cache.get(value);
+        if (null != json) {
+            this.hits++;
+        } else {
+            this.misses++;
+        }
+        return json;
+    }
+
+    private synchronized void put(final Object value,
+                                  final JsonNode json,
+                                  final LinkedHashMap<Object, JsonNode> cache) {
+        cache.put(
+            value,
+            json
+        );
+
+        if (cache.size() > this.capacity) {
+            cache.remove(
+                cache.keySet()
+                    .iterator()
+                    .next()
+            );
+            this.evictions++;
+        }
+    }
+
+    /**
+     * Classes of the values that are cached, sub-classes must be listed individually.
+     */
+    private final Set<Class<?>> types;
+
+    /**
+     * The maximum number of cached entries.
+     */
+    private final int capacity;
+
+    /**
+     * Values marshalled without their type.
+     */
+    private final LinkedHashMap<Object, JsonNode> cache;
+
+    /**
+     * Values marshalled with their type, which is bounded by the same capacity.
+     */
+    private final LinkedHashMap<Object, JsonNode> withTypeCache;
+
+    // statistics.......................................................................................................
+
+    /**
+     * Returns a snapshot of the statistics of both caches.
+     */
+    synchronized JsonNodeCacheStatistics statistics() {
+        return JsonNodeCacheStatistics.with(
+            this.cache.size() + this.withTypeCache.size(),
+            this.hits,
+            this.misses,
+            this.evictions
+        );
+    }
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    // JsonNodeConverterContext.........................................................................................
+
+    /**
+     * A new {@link JsonNodeMarshallContextObjectPostProcessor} may change the marshalled {@link JsonNode}, so a new
+     * empty cache is created.
+     */
+    @Override
+    public JsonNodeConverterContext setObjectPostProcessor(final JsonNodeMarshallContextObjectPostProcessor processor) {
+        final JsonNodeConverterContext before = this.context;
+        final JsonNodeConverterContext after = before.setObjectPostProcessor(processor);
+
+        return before.equals(after) ?
+            this :
+            new CachingJsonNodeConverterContext(
+                after,
+                this.types,
+                this.capacity
+            );
+    }
+
+    @Override
+    public JsonNodeConverterContext setPreProcessor(final JsonNodeUnmarshallContextPreProcessor processor) {
+        final JsonNodeConverterContext before = this.context;
+        final JsonNodeConverterContext after = before.setPreProcessor(processor);
+
+        return before.equals(after) ?
+            this :
+            new CachingJsonNodeConverterContext(
+                after,
+                this.types,
+                this.capacity
+            );
+    }
+
+    // JsonNodeConverterContextDelegator................................................................................
+
+    @Override
+    public JsonNodeConverterContext jsonNodeConverterContext() {
+        return this.context;
+    }
+
+    private final JsonNodeConverterContext context;
+
+    // Object...........................................................................................................
+
+    /**
+     * Only the configuration is included so the text is stable, statistics are available from {@link #statistics()}.
+     */
+    @Override
+    public String toString() {
+        return this.context + " cache capacity=" + this.capacity;
+    }
+}
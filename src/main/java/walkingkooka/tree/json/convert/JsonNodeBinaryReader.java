@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.List;
+
+/**
+ * Decodes the binary format written by {@link JsonNodeBinaryWriter} back into a {@link JsonNode}. Property names are
+ * created once and shared by every later back reference. Any invalid or truncated input, or objects and arrays nested
+ * deeper than {@link JsonNodeTextParser#MAX_DEPTH}, fails with an {@link IllegalArgumentException} that includes the
+ * byte position.
+ */
+final class JsonNodeBinaryReader {
+
+    static JsonNode read(final byte[] bytes) {
+        final JsonNodeBinaryReader reader = new JsonNodeBinaryReader(bytes);
+
+        final byte version = reader.readByte();
+        if (JsonNodeBinaryWriter.VERSION != version) {
+            throw new IllegalArgumentException("Unsupported version " + version);
+        }
+
+        final JsonNode node = reader.value();
+        if (reader.position != bytes.length) {
+            throw reader.invalid("Unexpected byte");
+        }
+        return node;
+    }
+
+    private JsonNodeBinaryReader(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    private JsonNode value() {
+        final int position = this.position;
+        final JsonNode node;
+
+        final byte tag = this.readByte();
+        switch (tag) {
+            case JsonNodeBinaryWriter.NULL:
+                node = JsonNode.nullNode();
+                break;
+            case JsonNodeBinaryWriter.FALSE:
+                node = JsonNode.booleanNode(false);
+                break;
+            case JsonNodeBinaryWriter.TRUE:
+                node = JsonNode.booleanNode(true);
+                break;
+            case JsonNodeBinaryWriter.INTEGER:
+                final long zigzag = this.varint();
+                node = JsonNode.number(
+                    (zigzag >>> 1) ^ -(zigzag & 1)
+                );
+                break;
+            case JsonNodeBinaryWriter.DOUBLE:
+                long bits = 0;
+                for (int i = 0; i < 8; i++) {
+                    bits = (bits << 8) | (this.readByte() & 0xFF);
+                }
+                node = JsonNode.number(
+                    Double.longBitsToDouble(bits)
+                );
+                break;
+            case JsonNodeBinaryWriter.STRING:
+                node = JsonNode.string(
+                    this.string()
+                );
+                break;
+            case JsonNodeBinaryWriter.ARRAY:
+                node = this.array();
+                break;
+            case JsonNodeBinaryWriter.OBJECT:
+                node = this.object();
+                break;
+            default:
+                this.position = position;
+                throw this.invalid("Invalid tag 0x" + Integer.toHexString(tag & 0xFF));
+        }
+
+        return node;
+    }
+
+    private JsonNode array() {
+        this.enter();
+
+        final int count = this.count();
+        final List<JsonNode> children = Lists.array();
+
+        for (int i = 0; i < count; i++) {
+            children.add(
+                this.value()
+            );
+        }
+
+        this.depth--;
+
+        return JsonNode.array()
+            .setChildren(children);
+    }
+
+    private JsonNode object() {
+        this.enter();
+
+        final int count = this.count();
+        final List<JsonNode> children = Lists.array();
+
+        for (int i = 0; i < count; i++) {
+            final JsonPropertyName name = this.key();
+            children.add(
+                this.value()
+                    .setName(name)
+            );
+        }
+
+        this.depth--;
+
+        return JsonNode.object()
+            .setChildren(children);
+    }
+
+    /**
+     * Increments the nesting depth, failing if it exceeds {@link JsonNodeTextParser#MAX_DEPTH}, so untrusted bytes
+     * cannot overflow the stack. Note the depth is not restored if reading fails, as the reader is not used after a
+     * failure.
+     */
+    private void enter() {
+        if (++this.depth > JsonNodeTextParser.MAX_DEPTH) {
+            throw this.invalid("Nesting too deep");
+        }
+    }
+
+    /**
+     * The number of objects and arrays currently open.
+     */
+    private int depth;
+
+    private JsonPropertyName key() {
+        final int position = this.position;
+        final long reference = this.varint();
+
+        final List<JsonPropertyName> keys = this.keys;
+        final JsonPropertyName name;
+
+        if (0 == reference) {
+            name = JsonPropertyName.with(
+                this.string()
+            );
+            keys.add(name);
+        } else {
+            if (reference > keys.size()) {
+                this.position = position;
+                throw this.invalid("Invalid key reference " + reference);
+            }
+            name = keys.get((int) reference - 1);
+        }
+
+        return name;
+    }
+
+    /**
+     * Property names in the order they were first read, back references are indices into this {@link List}.
+     */
+    private final List<JsonPropertyName> keys = Lists.array();
+
+    private String string() {
+        final int length = this.count();
+        final char[] chars = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            final int b = this.readByte() & 0xFF;
+
+            final char c;
+            if (b < 0x80) {
+                c = (char) b;
+            } else if (b >= 0xC0 && b < 0xE0) {
+                c = (char) (((b & 0x1F) << 6) | this.continuation());
+            } else if (b >= 0xE0 && b < 0xF0) {
+                final int c1 = this.continuation();
+                c = (char) (((b & 0x0F) << 12) | (c1 << 6) | this.continuation());
+            } else {
+                this.position--;
+                throw this.invalid("Invalid byte 0x" + Integer.toHexString(b));
+            }
+            chars[i] = c;
+        }
+
+        return new String(chars);
+    }
+
+    private int continuation() {
+        final int b = this.readByte() & 0xFF;
+        if (0x80 != (b & 0xC0)) {
+            this.position--;
+            throw this.invalid("Invalid byte 0x" + Integer.toHexString(b));
+        }
+        return b & 0x3F;
+    }
+
+    /**
+     * Reads a length or count, which can never be more than the number of remaining bytes.
+     */
+    private int count() {
+        final int position = this.position;
+        final long count = this.varint();
+        if (count > this.bytes.length - this.position) {
+            this.position = position;
+            throw this.invalid("Invalid count " + count);
+        }
+        return (int) count;
+    }
+
+    private long varint() {
+        final int position = this.position;
+
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                this.position = position;
+                throw this.invalid("Invalid varint");
+            }
+            b = this.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        return value;
+    }
+
+    private byte readByte() {
+        if (this.position >= this.bytes.length) {
+            throw this.invalid("Unexpected end");
+        }
+        return this.bytes[this.position++];
+    }
+
+    private IllegalArgumentException invalid(final String message) {
+        return new IllegalArgumentException(message + " at " + this.position);
+    }
+
+    private final byte[] bytes;
+
+    private int position;
+
+    @Override
+    public String toString() {
+        return this.position + "/" + this.bytes.length;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.map.Maps;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a {@link JsonNode} into a compact tagged binary format, which is read back by {@link JsonNodeBinaryReader}.
+ * The format is intended for traffic between processes where no human reads the JSON, and round trips every
+ * {@link JsonNode} exactly.
+ * <pre>
+ * document := VERSION value
+ * value    := NULL | FALSE | TRUE
+ *           | INTEGER zigzag-varint   integral numbers within +/- 2^53
+ *           | DOUBLE 8-bytes          raw IEEE 754 bits, big endian
+ *           | STRING string
+ *           | ARRAY varint value*
+ *           | OBJECT varint (key value)*
+ * key      := varint(0) string        a new property name, given the next key index
+ *           | varint(index + 1)       a back reference to a previous property name
+ * string   := varint(length) char*    each UTF-16 char as 1 to 3 bytes, in the style of UTF-8
+ * </pre>
+ */
+final class JsonNodeBinaryWriter {
+
+    final static byte VERSION = 1;
+
+    final static byte NULL = 0;
+
+    final static byte FALSE = 1;
+
+    final static byte TRUE = 2;
+
+    final static byte INTEGER = 3;
+
+    final static byte DOUBLE = 4;
+
+    final static byte STRING = 5;
+
+    final static byte ARRAY = 6;
+
+    final static byte OBJECT = 7;
+
+    /**
+     * Integers beyond this magnitude may not be exact doubles, and are always written as {@link #DOUBLE}.
+     */
+    final static long MAX_INTEGER = 1L << 53;
+
+    static byte[] write(final JsonNode node) {
+        final JsonNodeBinaryWriter writer = new JsonNodeBinaryWriter();
+        writer.writeByte(VERSION);
+        writer.value(node);
+        return Arrays.copyOf(
+            writer.bytes,
+            writer.length
+        );
+    }
+
+    private JsonNodeBinaryWriter() {
+        super();
+    }
+
+    private void value(final JsonNode node) {
+        if (node.isNull()) {
+            this.writeByte(NULL);
+        } else if (node.isBoolean()) {
+            this.writeByte(
+                node.booleanOrFail() ?
+                    TRUE :
+                    FALSE
+            );
+        } else if (node.isNumber()) {
+            this.number(
+                node.numberOrFail()
+                    .doubleValue()
+            );
+        } else if (node.isString()) {
+            this.writeByte(STRING);
+            this.string(node.stringOrFail());
+        } else {
+            final boolean object = node.isObject();
+            final List<JsonNode> children = node.children();
+
+            this.writeByte(
+                object ?
+                    OBJECT :
+                    ARRAY
+            );
+            this.varint(children.size());
+
+            for (final JsonNode child : children) {
+                if (object) {
+                    this.key(
+                        child.name()
+                            .value()
+                    );
+                }
+                this.value(child);
+            }
+        }
+    }
+
+    private void number(final double value) {
+        final long integer = (long) value;
+
+        // negative zero is not integral because it would be read back as positive zero
+        if (integer == value &&
+            integer >= -MAX_INTEGER &&
+            integer <= MAX_INTEGER &&
+            false == (0 == integer && 1 / value < 0)) {
+            this.writeByte(INTEGER);
+            this.varint((integer << 1) ^ (integer >> 63));
+        } else {
+            this.writeByte(DOUBLE);
+
+            final long bits = Double.doubleToRawLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                this.writeByte((byte) (bits >>> shift));
+            }
+        }
+    }
+
+    private void key(final String name) {
+        final Integer index = this.keys.get(name);
+        if (null != index) {
+            this.varint(index + 1);
+        } else {
+            this.keys.put(
+                name,
+                this.keys.size()
+            );
+            this.varint(0);
+            this.string(name);
+        }
+    }
+
+    /**
+     * Property names that have already been written and their index.
+     */
+    private final Map<String, Integer> keys = Maps.hash();
+
+    private void string(final String string) {
+        final int length = string.length();
+        this.varint(length);
+        this.ensure(length * 3);
+
+        final byte[] bytes = this.bytes;
+        int i = this.length;
+
+        for (int j = 0; j < length; j++) {
+            final char c = string.charAt(j);
+            if (c < 0x80) {
+                bytes[i++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[i++] = (byte) (0xC0 | (c >> 6));
+                bytes[i++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                bytes[i++] = (byte) (0xE0 | (c >> 12));
+                bytes[i++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[i++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        this.length = i;
+    }
+
+    private void varint(final long value) {
+        long v = value;
+        while (0 != (v & ~0x7FL)) {
+            this.writeByte((byte) (0x80 | (v & 0x7F)));
+            v >>>= 7;
+        }
+        this.writeByte((byte) v);
+    }
+
+    private void writeByte(final byte b) {
+        this.ensure(1);
+        this.bytes[this.length++] = b;
+    }
+
+    private void ensure(final int count) {
+        final int required = this.length + count;
+        if (required > this.bytes.length) {
+            this.bytes = Arrays.copyOf(
+                this.bytes,
+                Math.max(
+                    required,
+                    this.bytes.length * 2
+                )
+            );
+        }
+    }
+
+    private byte[] bytes = new byte[256];
+
+    private int length;
+
+    @Override
+    public String toString() {
+        return this.length + " byte(s)";
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the statistics of a cache, such as the one used by
+ * {@link JsonNodeConverters#textToJsonNodeCache(int, int)}.
+ */
+public final class JsonNodeCacheStatistics {
+
+    public static JsonNodeCacheStatistics with(final int size,
+                                               final long hits,
+                                               final long misses,
+                                               final long evictions) {
+        return new JsonNodeCacheStatistics(
+            checkNotNegative(size, "size"),
+            checkNotNegative(hits, "hits"),
+            checkNotNegative(misses, "misses"),
+            checkNotNegative(evictions, "evictions")
+        );
+    }
+
+    private static long checkNotNegative(final long value,
+                                         final String label) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid " + label + " " + value + " < 0");
+        }
+        return value;
+    }
+
+    private static int checkNotNegative(final int value,
+                                        final String label) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid " + label + " " + value + " < 0");
+        }
+        return value;
+    }
+
+    private JsonNodeCacheStatistics(final int size,
+                                    final long hits,
+                                    final long misses,
+                                    final long evictions) {
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * The number of cached entries.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    /**
+     * The number of lookups that were found in the cache.
+     */
+    public long hits() {
+        return this.hits;
+    }
+
+    private final long hits;
+
+    /**
+     * The number of lookups that were not found in the cache.
+     */
+    public long misses() {
+        return this.misses;
+    }
+
+    private final long misses;
+
+    /**
+     * The number of entries removed to keep the cache within its bounds.
+     */
+    public long evictions() {
+        return this.evictions;
+    }
+
+    private final long evictions;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.size,
+            this.hits,
+            this.misses,
+            this.evictions
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof JsonNodeCacheStatistics &&
+                this.equals0((JsonNodeCacheStatistics) other);
+    }
+
+    private boolean equals0(final JsonNodeCacheStatistics other) {
+        return this.size == other.size &&
+            this.hits == other.hits &&
+            this.misses == other.misses &&
+            this.evictions == other.evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + this.size +
+            " hits=" + this.hits +
+            " misses=" + this.misses +
+            " evictions=" + this.evictions;
+    }
+}
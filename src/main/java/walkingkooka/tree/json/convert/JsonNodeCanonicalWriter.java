@@ -0,0 +1,368 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prints a {@link JsonNode} as canonical JSON text, so equal {@link JsonNode} always produce identical text.
+ * <ul>
+ * <li>object properties are sorted by name, comparing UTF-16 chars</li>
+ * <li>no whitespace</li>
+ * <li>numbers are printed like the ECMAScript Number toString, as required by RFC 8785, using the fewest digits that
+ * read back as the same double, negative zero as 0, and an exponent only when below 1e-6 or at least 1e21</li>
+ * <li>strings only escape quote, backslash and control characters, using the short escapes where available</li>
+ * </ul>
+ * The text may be hashed with {@link #hash(JsonNode)} without ever being created, which is useful for ETags and
+ * de-duplication.
+ */
+final class JsonNodeCanonicalWriter {
+
+    /**
+     * Integers within this magnitude are exact doubles, and are printed directly as a long.
+     */
+    private final static long MAX_INTEGER = 1L << 53;
+
+    /**
+     * Returns the canonical JSON text.
+     */
+    static String text(final JsonNode node) {
+        final StringBuilder b = new StringBuilder();
+        write(
+            node,
+            b
+        );
+        return b.toString();
+    }
+
+    /**
+     * Returns the 64 bit FNV-1a hash of the UTF-8 encoded canonical JSON text, without creating the text.
+     */
+    static long hash(final JsonNode node) {
+        final JsonNodeFnv1aAppendable hash = JsonNodeFnv1aAppendable.empty();
+        write(
+            node,
+            hash
+        );
+        return hash.hash();
+    }
+
+    /**
+     * Prints the canonical JSON text to the given {@link Appendable}, wrapping any {@link IOException} in an
+     * {@link UncheckedIOException}.
+     */
+    static void write(final JsonNode node,
+                      final Appendable appendable) {
+        try {
+            value(
+                node,
+                appendable
+            );
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    private static void value(final JsonNode node,
+                              final Appendable appendable) throws IOException {
+        if (node.isNull()) {
+            appendable.append("null");
+        } else if (node.isBoolean()) {
+            appendable.append(
+                node.booleanOrFail() ?
+                    "true" :
+                    "false"
+            );
+        } else if (node.isNumber()) {
+            number(
+                node.numberOrFail()
+                    .doubleValue(),
+                appendable
+            );
+        } else if (node.isString()) {
+            string(
+                node.stringOrFail(),
+                appendable
+            );
+        } else if (node.isObject()) {
+            object(
+                node.children(),
+                appendable
+            );
+        } else {
+            array(
+                node.children(),
+                appendable
+            );
+        }
+    }
+
+    private static void array(final List<JsonNode> children,
+                              final Appendable appendable) throws IOException {
+        appendable.append('[');
+
+        boolean first = true;
+        for (final JsonNode child : children) {
+            if (false == first) {
+                appendable.append(',');
+            }
+            first = false;
+
+            value(
+                child,
+                appendable
+            );
+        }
+
+        appendable.append(']');
+    }
+
+    private static void object(final List<JsonNode> children,
+                               final Appendable appendable) throws IOException {
+        final int count = children.size();
+
+        // sort the names, keeping the original index of each child
+        final String[] names = new String[count];
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            final JsonPropertyName name = children.get(i)
+                .name();
+            names[i] = name.value();
+            order[i] = i;
+        }
+        Arrays.sort(
+            order,
+            (l, r) -> names[l].compareTo(names[r])
+        );
+
+        appendable.append('{');
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                appendable.append(',');
+            }
+
+            final int index = order[i];
+            string(
+                names[index],
+                appendable
+            );
+            appendable.append(':');
+            value(
+                children.get(index),
+                appendable
+            );
+        }
+
+        appendable.append('}');
+    }
+
+    private static void number(final double value,
+                               final Appendable appendable) throws IOException {
+        final long integer = (long) value;
+
+        appendable.append(
+            integer == value && integer >= -MAX_INTEGER && integer <= MAX_INTEGER ?
+                Long.toString(integer) : // also prints -0.0 as 0
+                numberText(value)
+        );
+    }
+
+    /**
+     * Formats a double following the ECMAScript Number toString algorithm. {@link Double#toString(double)} is not used
+     * because its digits and format differ between the JVM versions and GWT, so the same value could hash differently.
+     */
+    static String numberText(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Invalid number " + value);
+        }
+        if (0 == value) {
+            return "0";
+        }
+
+        final BigDecimal digits = shortestDigits(
+            Math.abs(value)
+        ).stripTrailingZeros();
+
+        final String s = digits.unscaledValue()
+            .toString();
+        final int k = s.length();
+        final int n = k - digits.scale(); // the value is 0.s times 10 to the power n
+
+        final StringBuilder b = new StringBuilder();
+        if (value < 0) {
+            b.append('-');
+        }
+
+        if (k <= n && n <= 21) {
+            b.append(s);
+            for (int i = k; i < n; i++) {
+                b.append('0');
+            }
+        } else if (0 < n && n <= 21) {
+            b.append(s, 0, n)
+                .append('.')
+                .append(s, n, k);
+        } else if (-6 < n && n <= 0) {
+            b.append("0.");
+            for (int i = n; i < 0; i++) {
+                b.append('0');
+            }
+            b.append(s);
+        } else {
+            b.append(s.charAt(0));
+            if (k > 1) {
+                b.append('.')
+                    .append(s, 1, k);
+            }
+
+            final int exponent = n - 1;
+            b.append('e')
+                .append(
+                    exponent < 0 ?
+                        '-' :
+                        '+'
+                ).append(
+                    Math.abs(exponent)
+                );
+        }
+
+        return b.toString();
+    }
+
+    /**
+     * Returns the decimal with the fewest significant digits that reads back as the given positive double. When two
+     * candidates have the same number of digits the closest is returned, and if both are equally close the one with an
+     * even last digit.
+     */
+    private static BigDecimal shortestDigits(final double value) {
+        final BigDecimal exact = new BigDecimal(value);
+
+        for (int precision = 1; ; precision++) {
+            final BigDecimal down = exact.round(
+                new MathContext(
+                    precision,
+                    RoundingMode.FLOOR
+                )
+            );
+            final BigDecimal up = exact.round(
+                new MathContext(
+                    precision,
+                    RoundingMode.CEILING
+                )
+            );
+
+            final boolean downRoundTrips = value == down.doubleValue();
+            final boolean upRoundTrips = value == up.doubleValue();
+
+            if (downRoundTrips && upRoundTrips) {
+                final int compare = exact.subtract(down)
+                    .compareTo(
+                        up.subtract(exact)
+                    );
+                return compare < 0 || (0 == compare && false == down.unscaledValue().testBit(0)) ?
+                    down :
+                    up;
+            }
+            if (downRoundTrips) {
+                return down;
+            }
+            if (upRoundTrips) {
+                return up;
+            }
+            // 17 significant digits always read back as the same double, so this loop ends
+        }
+    }
+
+    private static void string(final String string,
+                               final Appendable appendable) throws IOException {
+        appendable.append('"');
+
+        final int length = string.length();
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+
+            final String escaped;
+            switch (c) {
+                case '"':
+                    escaped = "\\\"";
+                    break;
+                case '\\':
+                    escaped = "\\\\";
+                    break;
+                case '\b':
+                    escaped = "\\b";
+                    break;
+                case '\f':
+                    escaped = "\\f";
+                    break;
+                case '\n':
+                    escaped = "\\n";
+                    break;
+                case '\r':
+                    escaped = "\\r";
+                    break;
+                case '\t':
+                    escaped = "\\t";
+                    break;
+                default:
+                    escaped = c < 0x20 ?
+                        "\\u00" + HEX[c >> 4] + HEX[c & 0xF] :
+                        null;
+                    break;
+            }
+
+            if (null != escaped) {
+                appendable.append(
+                    string,
+                    start,
+                    i
+                );
+                appendable.append(escaped);
+                start = i + 1;
+            }
+        }
+
+        appendable.append(
+            string,
+            start,
+            length
+        );
+        appendable.append('"');
+    }
+
+    private final static char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Stop creation
+     */
+    private JsonNodeCanonicalWriter() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+import java.io.InputStream;
+
+/**
+ * A {@link Converter} that parses UTF-8 encoded json in a byte array or {@link InputStream} to one of the
+ * {@link JsonNode} sub-classes. The bytes are decoded directly into the parser buffer, without first creating a
+ * {@link String}. An {@link InputStream} is streamed through a small fixed buffer, so large files may be parsed without
+ * reading them into memory first. Note the {@link InputStream} is not closed. Invalid UTF-8 is reported with a byte
+ * offset, while invalid json is reported with the offset of the decoded char.
+ */
+final class JsonNodeConverterBytesToJsonNode<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterBytesToJsonNode<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterBytesToJsonNode<?> INSTANCE = new JsonNodeConverterBytesToJsonNode<>();
+
+    private JsonNodeConverterBytesToJsonNode() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return isBytes(value) &&
+            JsonNode.isClass(type);
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return parse(value)
+            .cast(
+                Cast.to(type)
+            );
+    }
+
+    static boolean isBytes(final Object value) {
+        return value instanceof byte[] ||
+            value instanceof InputStream;
+    }
+
+    static JsonNode parse(final Object value) {
+        return JsonNodeTextParser.reader(
+            value instanceof byte[] ?
+                JsonNodeUtf8Reader.bytes((byte[]) value) :
+                JsonNodeUtf8Reader.inputStream((InputStream) value)
+        ).parse();
+    }
+
+    @Override
+    public String toString() {
+        return "byte[] to " + JsonNode.class.getSimpleName();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.expression.ExpressionNumber;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that parses UTF-8 encoded json in a byte array or {@link java.io.InputStream} and then unmarshalls
+ * it to the requested {@link Class}. The same types as {@link JsonNodeConverterTextToObject} are supported.
+ */
+final class JsonNodeConverterBytesToObject<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterBytesToObject<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterBytesToObject<?> INSTANCE = new JsonNodeConverterBytesToObject<>();
+
+    private JsonNodeConverterBytesToObject() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return JsonNodeConverterBytesToJsonNode.isBytes(value) &&
+            false == (
+                JsonNode.isClass(type) ||
+                    type == Boolean.class ||
+                    ExpressionNumber.isClass(type) ||
+                    Number.class == type ||
+                    type == String.class
+            ) &&
+            context.isSupportedJsonType(type);
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return context.unmarshall(
+            JsonNodeConverterBytesToJsonNode.parse(value),
+            type
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
@@ -21,6 +21,9 @@ import walkingkooka.reflect.PublicStaticHelper;
 import walkingkooka.tree.expression.convert.ExpressionNumberConverterContext;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContext;
 
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * A collection of {@link JsonNodeConverterContext}
  */
@@ -37,6 +40,32 @@ public final class JsonNodeConverterContexts implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see CachingJsonNodeConverterContext}
+     */
+    public static JsonNodeConverterContext caching(final JsonNodeConverterContext context,
+                                                   final Set<Class<?>> types,
+                                                   final int capacity) {
+        return CachingJsonNodeConverterContext.with(
+            context,
+            types,
+            capacity
+        );
+    }
+
+    /**
+     * Returns the current statistics of a {@link JsonNodeConverterContext} created by
+     * {@link #caching(JsonNodeConverterContext, Set, int)}.
+     */
+    public static JsonNodeCacheStatistics cachingStatistics(final JsonNodeConverterContext context) {
+        Objects.requireNonNull(context, "context");
+
+        if (false == context instanceof CachingJsonNodeConverterContext) {
+            throw new IllegalArgumentException("Context is not caching " + context);
+        }
+        return ((CachingJsonNodeConverterContext) context).statistics();
+    }
+
     /**
      * {@see FakeJsonNodeConverterContext}
      */
@@ -44,6 +73,17 @@ public final class JsonNodeConverterContexts implements PublicStaticHelper {
         return new FakeJsonNodeConverterContext();
     }
 
+    /**
+     * {@see ParallelJsonNodeConverterContext}
+     */
+    public static JsonNodeConverterContext parallel(final JsonNodeConverterContext context,
+                                                    final int threshold) {
+        return ParallelJsonNodeConverterContext.with(
+            context,
+            threshold
+        );
+    }
+
     /**
      * Stop creation
      */
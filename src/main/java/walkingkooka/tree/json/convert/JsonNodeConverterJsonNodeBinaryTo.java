@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.expression.ExpressionNumber;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that decodes bytes written by {@link JsonNodeConverterToJsonNodeBinary} into a {@link JsonNode},
+ * returning that if one of the {@link JsonNode} sub-classes was requested, otherwise unmarshalling it to the target type.
+ * Like {@link JsonNodeConverterBytesToObject}, {@link Boolean}, {@link Number}, {@link ExpressionNumber} and
+ * {@link String} are not supported as targets.
+ */
+final class JsonNodeConverterJsonNodeBinaryTo<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterJsonNodeBinaryTo<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterJsonNodeBinaryTo<?> INSTANCE = new JsonNodeConverterJsonNodeBinaryTo<>();
+
+    private JsonNodeConverterJsonNodeBinaryTo() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return isBinary(value) &&
+            (JsonNode.isClass(type) ||
+                false == (
+                    type == Boolean.class ||
+                        ExpressionNumber.isClass(type) ||
+                        Number.class == type ||
+                        type == String.class
+                ) &&
+                    context.isSupportedJsonType(type)
+            );
+    }
+
+    /**
+     * Only bytes starting with the {@link JsonNodeBinaryWriter#VERSION} are claimed, which is never the first byte of
+     * JSON text, leaving other bytes to the bytes-to-json-node and bytes-to-object converters.
+     */
+    private static boolean isBinary(final Object value) {
+        return value instanceof byte[] &&
+            ((byte[]) value).length > 0 &&
+            JsonNodeBinaryWriter.VERSION == ((byte[]) value)[0];
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        final JsonNode node = JsonNodeBinaryReader.read((byte[]) value);
+
+        return JsonNode.isClass(type) ?
+            node.cast(
+                Cast.to(type)
+            ) :
+            context.unmarshall(
+                node,
+                type
+            );
+    }
+
+    @Override
+    public String toString() {
+        return "JSON binary to type";
+    }
+}
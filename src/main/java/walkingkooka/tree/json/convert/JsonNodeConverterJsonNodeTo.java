@@ -25,6 +25,7 @@ import walkingkooka.tree.json.JsonNode;
 
 /**
  * A {@link Converter} that supports unmarshalling a given {@link JsonNode} to the target type using {@link JsonNodeConverterContext#unmarshallWithType(JsonNode)}.
+ * A {@link JsonNodeTextIndex} is also accepted and is parsed into a {@link JsonNode} before unmarshalling.
  */
 final class JsonNodeConverterJsonNodeTo<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
     implements ShortCircuitingConverter<C> {
@@ -49,7 +50,7 @@ final class JsonNodeConverterJsonNodeTo<C extends JsonNodeConverterContext> exte
     public boolean canConvert(final Object value,
                               final Class<?> type,
                               final C context) {
-        return value instanceof JsonNode &&
+        return (value instanceof JsonNode || value instanceof JsonNodeTextIndex) &&
             context.isSupportedJsonType(type);
     }
 
@@ -59,7 +60,9 @@ final class JsonNodeConverterJsonNodeTo<C extends JsonNodeConverterContext> exte
                                            final C context) {
         return this.successfulConversion(
             context.unmarshall(
-                (JsonNode) value,
+                value instanceof JsonNodeTextIndex ?
+                    ((JsonNodeTextIndex) value).toJsonNode() :
+                    (JsonNode) value,
                 type
             ),
             type
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.convert.TextToTryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Base class for converters that parse newline delimited JSON, where each non blank line holds a single JSON value.
+ * The whole batch is a single conversion, so converter dispatch and type checks happen once rather than once per record.
+ * When an element type name is present it is resolved using {@link JsonNodeConverterContext#registeredType(JsonString)}
+ * once per batch, and each record is then unmarshalled to that type, otherwise records are returned as {@link JsonNode}.
+ * <br>
+ * Without an element type only text whose first record is a JSON object or array is claimed, leaving other text such as
+ * <code>1,2,3</code> to other converters. With an element type any text is claimed, so within a collection of converters
+ * these should follow any other converters of text to the same target type.
+ */
+abstract class JsonNodeConverterNdjson<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TextToTryingShortCircuitingConverter<C> {
+
+    static Optional<JsonString> elementTypeName(final String elementType) {
+        Objects.requireNonNull(elementType, "elementType");
+        if (elementType.isEmpty()) {
+            throw new IllegalArgumentException("Empty elementType");
+        }
+
+        return Optional.of(
+            JsonNode.string(elementType)
+        );
+    }
+
+    JsonNodeConverterNdjson(final Optional<JsonString> elementType) {
+        super();
+        this.elementType = elementType;
+    }
+
+    /**
+     * Resolves the element type, returning null when records should remain as {@link JsonNode}.
+     */
+    final Class<?> resolveElementType(final C context) {
+        final JsonString elementType = this.elementType.orElse(null);
+
+        return null == elementType ?
+            null :
+            context.registeredType(elementType)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown element type " + elementType));
+    }
+
+    /**
+     * The optional type name of each record.
+     */
+    final Optional<JsonString> elementType;
+
+    /**
+     * Returns true if the element type is present, or the first non blank character of the text starts a JSON object
+     * or array.
+     */
+    final boolean isNdjson(final Object value) {
+        boolean ndjson = this.elementType.isPresent();
+
+        if (false == ndjson && value instanceof CharSequence) {
+            final CharSequence text = (CharSequence) value;
+            final int length = text.length();
+
+            int i = 0;
+            while (i < length && isBlankOrNewLine(text.charAt(i))) {
+                i++;
+            }
+
+            if (i < length) {
+                final char c = text.charAt(i);
+                ndjson = '{' == c || '[' == c;
+            }
+        }
+
+        return ndjson;
+    }
+
+    /**
+     * Returns pairs of start and end positions for each non blank line.
+     */
+    static int[] lines(final String text) {
+        final int length = text.length();
+
+        int[] lines = new int[32];
+        int count = 0;
+
+        int start = 0;
+        while (start < length) {
+            int end = text.indexOf('\n', start);
+            if (-1 == end) {
+                end = length;
+            }
+
+            if (false == isBlank(text, start, end)) {
+                if (count + 2 > lines.length) {
+                    lines = Arrays.copyOf(
+                        lines,
+                        lines.length * 2
+                    );
+                }
+                lines[count++] = start;
+                lines[count++] = end;
+            }
+
+            start = end + 1;
+        }
+
+        return Arrays.copyOf(
+            lines,
+            count
+        );
+    }
+
+    private static boolean isBlankOrNewLine(final char c) {
+        return '\n' == c || isBlank(c);
+    }
+
+    private static boolean isBlank(final String text,
+                                   final int start,
+                                   final int end) {
+        for (int i = start; i < end; i++) {
+            if (false == isBlank(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(final char c) {
+        return ' ' == c || '\t' == c || '\r' == c;
+    }
+
+    /**
+     * Parses the line at the given index and unmarshalls it to the element type if one is present, including the line
+     * number in any error message. The {@link JsonNodeTextSymbols} may be shared between lines so repeated property names
+     * share a single {@link walkingkooka.tree.json.JsonPropertyName}, when null the parser creates its own table only if
+     * the line is long enough to benefit.
+     */
+    static Object parseLine(final String text,
+                            final int[] lines,
+                            final int index,
+                            final JsonNodeTextSymbols symbols,
+                            final Class<?> elementType,
+                            final JsonNodeConverterContext context) {
+        final int start = lines[index * 2];
+
+        try {
+            final JsonNodeTextParser parser = JsonNodeTextParser.charSequence(
+                text,
+                start,
+                lines[index * 2 + 1]
+            );
+            if (null != symbols) {
+                parser.setSymbols(symbols);
+            }
+            final JsonNode node = parser.parse();
+
+            return null == elementType ?
+                node :
+                context.unmarshall(
+                    node,
+                    elementType
+                );
+        } catch (final IllegalArgumentException cause) {
+            throw new IllegalArgumentException(
+                "Line " + lineNumber(text, start) + ": " + cause.getMessage(),
+                cause
+            );
+        }
+    }
+
+    private static int lineNumber(final String text,
+                                  final int position) {
+        int lineNumber = 1;
+        for (int i = 0; i < position; i++) {
+            if ('\n' == text.charAt(i)) {
+                lineNumber++;
+            }
+        }
+        return lineNumber;
+    }
+
+    final String toString(final Class<?> type) {
+        return "NDJSON to " + type.getSimpleName() +
+            this.elementType.map(t -> "<" + t.value() + ">")
+                .orElse("");
+    }
+}
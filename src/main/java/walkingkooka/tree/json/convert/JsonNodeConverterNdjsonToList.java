@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link Converter} that parses newline delimited JSON text into a {@link List} holding a {@link JsonNode} for each
+ * non blank line, or when created with an element type name, the value unmarshalled from each line.
+ */
+final class JsonNodeConverterNdjsonToList<C extends JsonNodeConverterContext> extends JsonNodeConverterNdjson<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterNdjsonToList<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterNdjsonToList<?> INSTANCE = new JsonNodeConverterNdjsonToList<>(Optional.empty());
+
+    /**
+     * Factory that creates a converter that unmarshalls each record to the type registered with the given type name.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterNdjsonToList<C> with(final String elementType) {
+        return new JsonNodeConverterNdjsonToList<>(
+            elementTypeName(elementType)
+        );
+    }
+
+    private JsonNodeConverterNdjsonToList(final Optional<JsonString> elementType) {
+        super(elementType);
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return List.class == type &&
+            this.isNdjson(value);
+    }
+
+    @Override
+    public Object parseText(final String text,
+                            final Class<?> type,
+                            final C context) {
+        final int[] lines = lines(text);
+        final int count = lines.length / 2;
+
+        // a table shared by all records, unless the whole text is too small for names to repeat
+        final JsonNodeTextSymbols symbols = text.length() < JsonNodeTextParser.MIN_SYMBOLS_LENGTH ?
+            null :
+            JsonNodeTextSymbols.empty();
+        final Class<?> elementType = this.resolveElementType(context);
+
+        final List<Object> elements = Lists.array();
+        for (int i = 0; i < count; i++) {
+            elements.add(
+                parseLine(
+                    text,
+                    lines,
+                    i,
+                    symbols,
+                    elementType,
+                    context
+                )
+            );
+        }
+
+        return Lists.immutable(elements);
+    }
+
+    @Override
+    public String toString() {
+        return this.toString(List.class);
+    }
+}
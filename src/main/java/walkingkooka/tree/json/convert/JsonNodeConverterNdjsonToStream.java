@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Converter} that converts newline delimited JSON text into a {@link Stream} of {@link JsonNode}, one for each
+ * non blank line, or when created with an element type name, the value unmarshalled from each line. The element type is
+ * resolved when the {@link Stream} is created. Only the line boundaries are found up front, each record is parsed
+ * lazily as the {@link Stream} is consumed, so invalid records only fail when they are reached.
+ */
+final class JsonNodeConverterNdjsonToStream<C extends JsonNodeConverterContext> extends JsonNodeConverterNdjson<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterNdjsonToStream<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterNdjsonToStream<?> INSTANCE = new JsonNodeConverterNdjsonToStream<>(Optional.empty());
+
+    /**
+     * Factory that creates a converter that unmarshalls each record to the type registered with the given type name.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterNdjsonToStream<C> with(final String elementType) {
+        return new JsonNodeConverterNdjsonToStream<>(
+            elementTypeName(elementType)
+        );
+    }
+
+    private JsonNodeConverterNdjsonToStream(final Optional<JsonString> elementType) {
+        super(elementType);
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return Stream.class == type &&
+            this.isNdjson(value);
+    }
+
+    @Override
+    public Object parseText(final String text,
+                            final Class<?> type,
+                            final C context) {
+        final int[] lines = lines(text);
+        final Class<?> elementType = this.resolveElementType(context);
+
+        return IntStream.range(0, lines.length / 2)
+            .mapToObj(
+                i -> parseLine(
+                    text,
+                    lines,
+                    i,
+                    null, // not shared as the Stream may be made parallel, the parser skips the table for short lines
+                    elementType,
+                    context
+                )
+            );
+    }
+
+    @Override
+    public String toString() {
+        return this.toString(Stream.class);
+    }
+}
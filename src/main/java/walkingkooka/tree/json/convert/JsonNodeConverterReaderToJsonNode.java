@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+import java.io.Reader;
+
+/**
+ * A {@link Converter} that supports parsing a {@link Reader} or {@link CharSequence} to one of the {@link JsonNode} sub-classes.
+ * Characters are streamed through a small fixed buffer, so the source is never copied into a single {@link String}.
+ * Note the {@link Reader} is not closed.
+ */
+final class JsonNodeConverterReaderToJsonNode<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterReaderToJsonNode<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterReaderToJsonNode<?> INSTANCE = new JsonNodeConverterReaderToJsonNode<>();
+
+    private JsonNodeConverterReaderToJsonNode() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return (value instanceof Reader || value instanceof CharSequence) &&
+            JsonNode.isClass(type);
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return (
+            value instanceof Reader ?
+                JsonNodeTextParser.reader((Reader) value) :
+                JsonNodeTextParser.charSequence((CharSequence) value)
+        ).parse()
+            .cast(
+                Cast.to(type)
+            );
+    }
+
+    @Override
+    public String toString() {
+        return "Reader to " + JsonNode.class.getSimpleName();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.List;
+
+/**
+ * A {@link Converter} that converts a {@link JsonNodeTextEdit} into the {@link JsonNode} for the edited text.
+ * The {@link JsonNodeTextIndex} of the previous text is used to find the smallest object or array that encloses the
+ * edit, only the text of that object or array with the replacement spliced in is parsed, and the result replaces the
+ * matching node in the previous {@link JsonNode}. The new text is never built. Edits that touch the delimiters of the
+ * root, or leave the enclosing slice invalid, fall back to parsing the entire new text.
+ */
+final class JsonNodeConverterTextEditToJsonNode<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextEditToJsonNode<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterTextEditToJsonNode<?> INSTANCE = new JsonNodeConverterTextEditToJsonNode<>();
+
+    private JsonNodeConverterTextEditToJsonNode() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return value instanceof JsonNodeTextEdit &&
+            JsonNode.isClass(type);
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return parse((JsonNodeTextEdit) value)
+            .cast(
+                Cast.to(type)
+            );
+    }
+
+    static JsonNode parse(final JsonNodeTextEdit edit) {
+        JsonNode node = null;
+        try {
+            node = reparse(edit);
+        } catch (final IllegalArgumentException ignore) {
+            // the enclosing slice is invalid, let the full parse report the error
+        }
+
+        return null != node ?
+            node :
+            JsonNodeTextParser.charSequence(edit.newText())
+                .parse();
+    }
+
+    /**
+     * Returns null if the edit could not be applied to a part of the previous {@link JsonNode}.
+     */
+    private static JsonNode reparse(final JsonNodeTextEdit edit) {
+        final int start = edit.start();
+        final int end = edit.end();
+
+        JsonNodeTextIndex index = edit.index();
+        JsonNode node = edit.node();
+        if (false == matches(index, node, start, end)) {
+            return null;
+        }
+
+        // descend into the smallest object or array enclosing the edit
+        final List<Integer> path = Lists.array();
+
+        for (; ; ) {
+            final int child = index.childEnclosing(
+                start,
+                end
+            );
+            if (-1 == child) {
+                break;
+            }
+
+            final JsonNodeTextIndex childIndex = index.index(child);
+            final JsonNode childNode = node.children()
+                .get(child);
+            if (false == matches(childIndex, childNode, start, end)) {
+                break;
+            }
+
+            path.add(child);
+            index = childIndex;
+            node = childNode;
+        }
+
+        // splice the replacement into the text of the enclosing object or array only
+        final String text = edit.text();
+        final String replacement = edit.replacement();
+        final int sliceStart = index.start();
+        final int sliceEnd = index.end();
+
+        final StringBuilder slice = new StringBuilder(sliceEnd - sliceStart - (end - start) + replacement.length());
+        slice.append(text, sliceStart, start)
+            .append(replacement)
+            .append(text, end, sliceEnd);
+
+        return replace(
+            edit.node(),
+            path,
+            0,
+            JsonNodeTextParser.charSequence(slice)
+                .parse()
+        );
+    }
+
+    /**
+     * Returns true if the index is an object or array enclosing the edit without touching its delimiters, and the
+     * {@link JsonNode} has the same children, which is not the case when an object has duplicate property names.
+     */
+    private static boolean matches(final JsonNodeTextIndex index,
+                                   final JsonNode node,
+                                   final int start,
+                                   final int end) {
+        return (index.isObject() && node.isObject() || index.isArray() && node.isArray()) &&
+            index.count() == node.children().size() &&
+            index.start() < start &&
+            end < index.end();
+    }
+
+    /**
+     * Replaces the node at the path, returning a new root {@link JsonNode}.
+     */
+    private static JsonNode replace(final JsonNode node,
+                                    final List<Integer> path,
+                                    final int depth,
+                                    final JsonNode replacement) {
+        final JsonNode replaced;
+
+        if (depth == path.size()) {
+            replaced = replacement;
+        } else {
+            final List<JsonNode> children = Lists.array();
+            children.addAll(node.children());
+
+            final int index = path.get(depth);
+            final JsonNode child = children.get(index);
+
+            JsonNode newChild = replace(
+                child,
+                path,
+                depth + 1,
+                replacement
+            );
+            if (node.isObject()) {
+                newChild = newChild.setName(child.name());
+            }
+            children.set(
+                index,
+                newChild
+            );
+
+            replaced = node.setChildren(children);
+        }
+
+        return replaced;
+    }
+
+    @Override
+    public String toString() {
+        return JsonNodeTextEdit.class.getSimpleName() + " to " + JsonNode.class.getSimpleName();
+    }
+}
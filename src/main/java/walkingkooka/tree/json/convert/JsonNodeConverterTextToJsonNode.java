@@ -24,6 +24,10 @@ import walkingkooka.tree.json.JsonNode;
 
 /**
  * A {@link Converter} that supports converting a {@link String} to one of the {@link JsonNode} sub-classes, using {@link JsonNode#parse(String)}.
+ * The opt in {@link #streaming()} instance uses {@link JsonNodeTextParser} instead, which builds the {@link JsonNode}
+ * directly from the characters without a parser token tree, but may report different error messages for invalid text.
+ * Only the streaming instance shares repeated property names and short strings and decodes common numbers without
+ * {@link Double#parseDouble(String)}.
  * If parsing fails an {@link IllegalArgumentException} will be thrown.
  */
 final class JsonNodeConverterTextToJsonNode<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
@@ -36,13 +40,26 @@ final class JsonNodeConverterTextToJsonNode<C extends JsonNodeConverterContext>
         return Cast.to(INSTANCE);
     }
 
+    /**
+     * Type safe getter for the instance that parses using {@link JsonNodeTextParser}.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToJsonNode<C> streaming() {
+        return Cast.to(STREAMING);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterTextToJsonNode<?> INSTANCE = new JsonNodeConverterTextToJsonNode<>(false);
+
     /**
      * Singleton
      */
-    private final static JsonNodeConverterTextToJsonNode<?> INSTANCE = new JsonNodeConverterTextToJsonNode<>();
+    private final static JsonNodeConverterTextToJsonNode<?> STREAMING = new JsonNodeConverterTextToJsonNode<>(true);
 
-    private JsonNodeConverterTextToJsonNode() {
+    private JsonNodeConverterTextToJsonNode(final boolean streaming) {
         super();
+        this.streaming = streaming;
     }
 
     @Override
@@ -56,14 +73,24 @@ final class JsonNodeConverterTextToJsonNode<C extends JsonNodeConverterContext>
     public Object parseText(final String json,
                             final Class<?> type,
                             final C context) {
-        return JsonNode.parse(json)
-            .cast(
-                Cast.to(type)
-            );
+        final JsonNode node = this.streaming ?
+            JsonNodeTextParser.charSequence(json)
+                .parse() :
+            JsonNode.parse(json);
+
+        return node.cast(
+            Cast.to(type)
+        );
     }
 
+    /**
+     * When true the text is parsed by {@link JsonNodeTextParser} otherwise {@link JsonNode#parse(String)}.
+     */
+    private final boolean streaming;
+
     @Override
     public String toString() {
-        return this.getClass().getSimpleName();
+        return this.getClass().getSimpleName() +
+            (this.streaming ? " streaming" : "");
     }
 }
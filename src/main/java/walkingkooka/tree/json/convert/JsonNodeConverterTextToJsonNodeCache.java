@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TextToTryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link Converter} that parses text to one of the {@link JsonNode} sub-classes, caching the parsed {@link JsonNode}.
+ * Because {@link JsonNode} are immutable a single cached instance is shared by all requests for the same text, and cast
+ * to the requested sub-class on each hit. The cache is least recently used, bounded by both the number of entries
+ * (capacity) and the sum of the cached text lengths (weight). Text longer than the weight is never cached. The cache
+ * statistics are available from {@link JsonNodeConverters#textToJsonNodeCacheStatistics(Converter)}.
+ */
+final class JsonNodeConverterTextToJsonNodeCache<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TextToTryingShortCircuitingConverter<C> {
+
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToJsonNodeCache<C> with(final int capacity,
+                                                                                          final int weight) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " <= 0");
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " <= 0");
+        }
+
+        return new JsonNodeConverterTextToJsonNodeCache<>(
+            capacity,
+            weight
+        );
+    }
+
+    private JsonNodeConverterTextToJsonNodeCache(final int capacity,
+                                                 final int weight) {
+        super();
+
+        this.capacity = capacity;
+        this.weight = weight;
+
+        this.cache = new LinkedHashMap<>(
+            16,
+            0.75f,
+            true // access order
+        );
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return JsonNode.isClass(type);
+    }
+
+    @Override
+    public Object parseText(final String json,
+                            final Class<?> type,
+                            final C context) {
+        JsonNode node = this.get(json);
+        if (null == node) {
+            // same parser as text-to-json-node so cached and uncached report the same errors
+            node = JsonNode.parse(json);
+            this.put(
+                json,
+                node
+            );
+        }
+
+        return node.cast(
+            Cast.to(type)
+        );
+    }
+
+    private synchronized JsonNode get(final String json) {
+        final JsonNode node = this.cache.get(json);
+        if (null != node) {
+            this.hits++;
+        } else {
+            this.misses++;
+        }
+        return node;
+    }
+
+    private synchronized void put(final String json,
+                                  final JsonNode node) {
+        final int length = json.length();
+        if (length <= this.weight && null == this.cache.put(json, node)) {
+            this.cachedWeight += length;
+
+            final Iterator<Map.Entry<String, JsonNode>> eldest = this.cache.entrySet()
+                .iterator();
+            while (this.cache.size() > this.capacity || this.cachedWeight > this.weight) {
+                this.cachedWeight -= eldest.next()
+                    .getKey()
+                    .length();
+                eldest.remove();
+                this.evictions++;
+            }
+        }
+    }
+
+    /**
+     * The maximum number of cached entries.
+     */
+    private final int capacity;
+
+    /**
+     * The maximum sum of the lengths of all cached text.
+     */
+    private final int weight;
+
+    /**
+     * A {@link LinkedHashMap} in access order, the first entry is always the least recently used.
+     */
+    private final LinkedHashMap<String, JsonNode> cache;
+
+    private int cachedWeight;
+
+    // statistics.......................................................................................................
+
+    /**
+     * Returns a snapshot of the current cache statistics.
+     */
+    synchronized JsonNodeCacheStatistics statistics() {
+        return JsonNodeCacheStatistics.with(
+            this.cache.size(),
+            this.hits,
+            this.misses,
+            this.evictions
+        );
+    }
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    // Object...........................................................................................................
+
+    /**
+     * The statistics are not included and are available from {@link #statistics()}.
+     */
+    @Override
+    public String toString() {
+        return JsonNodeConverterTextToJsonNode.instance() +
+            " cache capacity=" + this.capacity +
+            " weight=" + this.weight;
+    }
+}
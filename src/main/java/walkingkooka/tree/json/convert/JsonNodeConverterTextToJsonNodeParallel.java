@@ -0,0 +1,244 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TextToTryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Converter} that parses text to one of the {@link JsonNode} sub-classes, parsing the elements of large top
+ * level arrays in parallel. A quick pre-scan finds the boundaries of each element, the elements are then parsed using
+ * a parallel {@link IntStream} which runs on the common {@link java.util.concurrent.ForkJoinPool} and are assembled in
+ * their original order. Text shorter than the threshold, or that does not hold an array, is parsed on the calling thread.
+ */
+final class JsonNodeConverterTextToJsonNodeParallel<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TextToTryingShortCircuitingConverter<C> {
+
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToJsonNodeParallel<C> with(final int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Invalid threshold " + threshold + " < 0");
+        }
+
+        return new JsonNodeConverterTextToJsonNodeParallel<>(threshold);
+    }
+
+    private JsonNodeConverterTextToJsonNodeParallel(final int threshold) {
+        super();
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return JsonNode.isClass(type);
+    }
+
+    @Override
+    public Object parseText(final String json,
+                            final Class<?> type,
+                            final C context) {
+        final int[] boundaries = json.length() >= this.threshold ?
+            elementBoundaries(json) :
+            null;
+
+        return (
+            null != boundaries ?
+                parseElements(
+                    json,
+                    boundaries
+                ) :
+                JsonNodeTextParser.charSequence(json)
+                    .parse()
+        ).cast(
+            Cast.to(type)
+        );
+    }
+
+    /**
+     * Parses each element between the given boundaries in parallel, each element is fully validated by its own
+     * {@link JsonNodeTextParser}. The first element is parsed on the calling thread, its {@link JsonNodeTextSymbols} is
+     * then shared read only by the remaining elements, as the elements of large arrays usually repeat the same names.
+     */
+    private static JsonNode parseElements(final String json,
+                                          final int[] boundaries) {
+        final JsonNodeTextSymbols first = JsonNodeTextSymbols.empty();
+
+        final List<JsonNode> children = Lists.array();
+        children.add(
+            parseElement(
+                json,
+                boundaries,
+                0,
+                first
+            )
+        );
+        children.addAll(
+            IntStream.range(1, boundaries.length - 1)
+                .parallel()
+                .mapToObj(
+                    i -> parseElement(
+                        json,
+                        boundaries,
+                        i,
+                        JsonNodeTextSymbols.withParent(first)
+                    )
+                ).collect(Collectors.toList())
+        );
+
+        return JsonNode.array()
+            .setChildren(children);
+    }
+
+    private static JsonNode parseElement(final String json,
+                                         final int[] boundaries,
+                                         final int index,
+                                         final JsonNodeTextSymbols symbols) {
+        return JsonNodeTextParser.charSequence(
+            json,
+            boundaries[index] + 1, // skip the [ or comma
+            boundaries[index + 1]
+        ).setSymbols(symbols)
+            .parse();
+    }
+
+    /**
+     * Scans a root array returning the positions of the opening bracket, each separating comma and the closing bracket.
+     * The scan only tracks strings and nesting, and the elements themselves are validated when parsed. Null is returned
+     * if the text is not an array or is malformed, in which case it is parsed sequentially so the error is reported.
+     */
+    static int[] elementBoundaries(final String json) {
+        final int length = json.length();
+
+        int i = skipWhitespace(json, 0);
+        if (i == length || '[' != json.charAt(i)) {
+            return null;
+        }
+
+        int[] boundaries = new int[64];
+        int count = 0;
+        boundaries[count++] = i;
+
+        // empty arrays have nothing to parse in parallel
+        final int afterOpen = skipWhitespace(json, i + 1);
+        if (afterOpen < length && ']' == json.charAt(afterOpen)) {
+            return null;
+        }
+
+        int depth = 0;
+        boolean string = false;
+        int close = -1;
+
+        for (i++; i < length; i++) {
+            final char c = json.charAt(i);
+
+            if (string) {
+                switch (c) {
+                    case '\\':
+                        i++; // skip escaped character
+                        break;
+                    case '"':
+                        string = false;
+                        break;
+                    default:
+                        break;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"':
+                    string = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (0 == depth) {
+                        close = i;
+                    } else {
+                        depth--;
+                    }
+                    break;
+                case ',':
+                    if (0 == depth) {
+                        if (count == boundaries.length) {
+                            boundaries = Arrays.copyOf(
+                                boundaries,
+                                count * 2
+                            );
+                        }
+                        boundaries[count++] = i;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (-1 != close) {
+                break;
+            }
+        }
+
+        if (-1 == close || ']' != json.charAt(close) || skipWhitespace(json, close + 1) != length) {
+            return null;
+        }
+
+        final int[] copy = Arrays.copyOf(
+            boundaries,
+            count + 1
+        );
+        copy[count] = close;
+        return copy;
+    }
+
+    private static int skipWhitespace(final String json,
+                                      final int start) {
+        final int length = json.length();
+
+        int i = start;
+        while (i < length) {
+            final char c = json.charAt(i);
+            if (' ' != c && '\t' != c && '\n' != c && '\r' != c) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Text with a length below this is always parsed on the calling thread.
+     */
+    private final int threshold;
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " " + this.threshold;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TextToTryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.List;
+
+/**
+ * A {@link Converter} that parses text to one of the {@link JsonNode} sub-classes, keeping only the values selected by
+ * the given paths. Values that are not selected are skipped by the parser and never become a {@link JsonNode}, while
+ * the objects and arrays leading to selected values are kept. Objects and arrays without any selected value are omitted,
+ * see {@link JsonNodeTextProjection} for the path syntax including escapes.
+ * <pre>
+ * /a/b
+ * /items/*&#47;id
+ * </pre>
+ */
+final class JsonNodeConverterTextToJsonNodeProjected<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TextToTryingShortCircuitingConverter<C> {
+
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToJsonNodeProjected<C> with(final List<String> paths) {
+        final List<String> copy = Lists.immutable(paths);
+
+        return new JsonNodeConverterTextToJsonNodeProjected<>(
+            copy,
+            JsonNodeTextProjection.parse(copy)
+        );
+    }
+
+    private JsonNodeConverterTextToJsonNodeProjected(final List<String> paths,
+                                                     final JsonNodeTextProjection projection) {
+        super();
+
+        this.paths = paths;
+        this.projection = projection;
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return JsonNode.isClass(type);
+    }
+
+    @Override
+    public Object parseText(final String json,
+                            final Class<?> type,
+                            final C context) {
+        return this.projection.parse(
+            JsonNodeTextParser.charSequence(json)
+        ).cast(
+            Cast.to(type)
+        );
+    }
+
+    private final List<String> paths;
+
+    private final JsonNodeTextProjection projection;
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " " + this.paths;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TextToTryingShortCircuitingConverter;
+
+/**
+ * A {@link Converter} that scans text into a {@link JsonNodeTextIndex}, which only parses the properties or elements
+ * that are actually visited.
+ */
+final class JsonNodeConverterTextToJsonNodeTextIndex<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TextToTryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToJsonNodeTextIndex<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterTextToJsonNodeTextIndex<?> INSTANCE = new JsonNodeConverterTextToJsonNodeTextIndex<>();
+
+    private JsonNodeConverterTextToJsonNodeTextIndex() {
+        super();
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return JsonNodeTextIndex.class == type;
+    }
+
+    @Override
+    public Object parseText(final String json,
+                            final Class<?> type,
+                            final C context) {
+        return JsonNodeTextIndex.parse(json);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
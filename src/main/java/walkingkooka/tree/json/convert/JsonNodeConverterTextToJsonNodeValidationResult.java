@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TextToTryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that checks if text holds valid JSON without creating any {@link JsonNode}, returning a
+ * {@link JsonNodeValidationResult}. This is useful to reject malformed JSON at a fraction of the cost of a full parse,
+ * when the parsed {@link JsonNode} is not needed. {@link Boolean} is deliberately not a target, as that would claim
+ * every text to {@link Boolean} conversion, turning the text <code>false</code> into true.
+ */
+final class JsonNodeConverterTextToJsonNodeValidationResult<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TextToTryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToJsonNodeValidationResult<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterTextToJsonNodeValidationResult<?> INSTANCE = new JsonNodeConverterTextToJsonNodeValidationResult<>();
+
+    private JsonNodeConverterTextToJsonNodeValidationResult() {
+        super();
+    }
+
+    @Override
+    public boolean isTargetType(final Object value,
+                                final Class<?> type,
+                                final C context) {
+        return JsonNodeValidationResult.class == type;
+    }
+
+    @Override
+    public Object parseText(final String text,
+                            final Class<?> type,
+                            final C context) {
+        return JsonNodeValidationResult.validate(text);
+    }
+
+    @Override
+    public String toString() {
+        return "text to " + JsonNodeValidationResult.class.getSimpleName();
+    }
+}
@@ -25,6 +25,11 @@ import walkingkooka.tree.json.JsonNode;
 
 /**
  * A {@link Converter} that supports unmarshalling text holding json to a requested {@link Class}.
+ * The default instance parses the text using {@link JsonNode#parse(String)}. The opt in {@link #streaming()} instance
+ * uses {@link JsonNodeTextParser} which builds the {@link JsonNode} directly from the characters, avoiding the
+ * intermediate parser token tree, but may report different error messages for invalid text. Only the streaming
+ * instance shares repeated property names and short strings and decodes common numbers without
+ * {@link Double#parseDouble(String)}.
  */
 final class JsonNodeConverterTextToObject<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
     implements TextToTryingShortCircuitingConverter<C> {
@@ -36,13 +41,26 @@ final class JsonNodeConverterTextToObject<C extends JsonNodeConverterContext> ex
         return Cast.to(INSTANCE);
     }
 
+    /**
+     * Type safe getter for the instance that parses using {@link JsonNodeTextParser}.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterTextToObject<C> streaming() {
+        return Cast.to(STREAMING);
+    }
+
     /**
      * Singleton
      */
-    private final static JsonNodeConverterTextToObject<?> INSTANCE = new JsonNodeConverterTextToObject<>();
+    private final static JsonNodeConverterTextToObject<?> INSTANCE = new JsonNodeConverterTextToObject<>(false);
 
-    private JsonNodeConverterTextToObject() {
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterTextToObject<?> STREAMING = new JsonNodeConverterTextToObject<>(true);
+
+    private JsonNodeConverterTextToObject(final boolean streaming) {
         super();
+        this.streaming = streaming;
     }
 
     @Override
@@ -61,7 +79,7 @@ final class JsonNodeConverterTextToObject<C extends JsonNodeConverterContext> ex
     }
 
     /**
-     * Unmarshalls the json text.
+     * Parses and then unmarshalls the json text.
      */
     @Override
     public Object parseText(final String text,
@@ -70,13 +88,22 @@ final class JsonNodeConverterTextToObject<C extends JsonNodeConverterContext> ex
         return null == text ?
             null :
             context.unmarshall(
-                JsonNode.parse(text),
+                this.streaming ?
+                    JsonNodeTextParser.charSequence(text)
+                        .parse() :
+                    JsonNode.parse(text),
                 type
             );
     }
 
+    /**
+     * When true the text is parsed by {@link JsonNodeTextParser} otherwise {@link JsonNode#parse(String)}.
+     */
+    private final boolean streaming;
+
     @Override
     public String toString() {
-        return this.getClass().getSimpleName();
+        return this.getClass().getSimpleName() +
+            (this.streaming ? " streaming" : "");
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that marshalls a value to a {@link JsonNode} and then encodes that into the compact binary format
+ * of {@link JsonNodeBinaryWriter}. A {@link JsonNode} value is encoded as is. The bytes may be converted back using
+ * {@link JsonNodeConverterJsonNodeBinaryTo}.
+ */
+final class JsonNodeConverterToJsonNodeBinary<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterToJsonNodeBinary<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterToJsonNodeBinary<?> INSTANCE = new JsonNodeConverterToJsonNodeBinary<>();
+
+    private JsonNodeConverterToJsonNodeBinary() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return byte[].class == type &&
+            (value instanceof JsonNode ||
+                null != value && context.isSupportedJsonType(value.getClass())
+            );
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return JsonNodeBinaryWriter.write(
+            value instanceof JsonNode ?
+                (JsonNode) value :
+                context.marshall(value)
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "* to JSON binary";
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that marshalls a value to a {@link JsonNode} and then prints that as canonical JSON text, with
+ * sorted property names and no whitespace, using {@link JsonNodeCanonicalWriter}. A {@link JsonNode} value is printed
+ * as is. Equal values always produce identical text.
+ */
+final class JsonNodeConverterToJsonNodeCanonicalText<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterToJsonNodeCanonicalText<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterToJsonNodeCanonicalText<?> INSTANCE = new JsonNodeConverterToJsonNodeCanonicalText<>();
+
+    private JsonNodeConverterToJsonNodeCanonicalText() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return (String.class == type || CharSequence.class == type) &&
+            isJsonNodeOrSupported(
+                value,
+                context
+            );
+    }
+
+    static boolean isJsonNodeOrSupported(final Object value,
+                                         final JsonNodeConverterContext context) {
+        return value instanceof JsonNode ||
+            null != value && context.isSupportedJsonType(value.getClass());
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return JsonNodeCanonicalWriter.text(
+            toJsonNode(
+                value,
+                context
+            )
+        );
+    }
+
+    static JsonNode toJsonNode(final Object value,
+                               final JsonNodeConverterContext context) {
+        return value instanceof JsonNode ?
+            (JsonNode) value :
+            context.marshall(value);
+    }
+
+    @Override
+    public String toString() {
+        return "* to canonical JSON text";
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that marshalls a value to a {@link JsonNode} and returns the 64 bit FNV-1a hash of its UTF-8
+ * encoded canonical JSON text as a {@link JsonNodeHash}. The canonical text is streamed into the hash and is never created,
+ * making this suitable for ETags and de-duplication. The hash is the same as hashing the text produced by
+ * {@link JsonNodeConverterToJsonNodeCanonicalText}.
+ */
+final class JsonNodeConverterToJsonNodeHash<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterToJsonNodeHash<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterToJsonNodeHash<?> INSTANCE = new JsonNodeConverterToJsonNodeHash<>();
+
+    private JsonNodeConverterToJsonNodeHash() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return JsonNodeHash.class == type &&
+            JsonNodeConverterToJsonNodeCanonicalText.isJsonNodeOrSupported(
+                value,
+                context
+            );
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return JsonNodeHash.with(
+            JsonNodeCanonicalWriter.hash(
+                JsonNodeConverterToJsonNodeCanonicalText.toJsonNode(
+                    value,
+                    context
+                )
+            )
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "* to JSON hash";
+    }
+}
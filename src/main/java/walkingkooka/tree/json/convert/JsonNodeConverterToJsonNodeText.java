@@ -25,6 +25,8 @@ import walkingkooka.tree.json.JsonNode;
 
 /**
  * A {@link Converter} that supports converting a given value to a {@link JsonNode} and then converting that to text.
+ * The {@link JsonNode} is printed directly using {@link JsonNodeTextWriter}, which may also be used to stream large
+ * values to a {@link java.io.Writer} or {@link java.io.OutputStream}.
  */
 final class JsonNodeConverterToJsonNodeText<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
     implements ShortCircuitingConverter<C> {
@@ -49,28 +51,22 @@ final class JsonNodeConverterToJsonNodeText<C extends JsonNodeConverterContext>
     public boolean canConvert(final Object value,
                               final Class<?> type,
                               final C context) {
+        // the text is returned as is, so the context is not asked if text can be converted to the type
         return null != value &&
-            context.isSupportedJsonType(value.getClass()) &&
             (String.class == type || CharSequence.class == type) &&
-            context.canConvert(
-                "",
-                type
-            );
+            context.isSupportedJsonType(value.getClass());
     }
 
     @Override
     public <T> Either<T, String> doConvert(final Object value,
                                            final Class<T> type,
                                            final C context) {
+        // type is always String or CharSequence, so the text does not need converting to itself
         return this.successfulConversion(
-            context.convertOrFail(
-                context.marshall(value)
-                    .toJsonText(
-                        context.indentation(),
-                        context.lineEnding()
-                    ),
-                type
-            ),
+            JsonNodeTextWriter.with(context)
+                .write(
+                    context.marshall(value)
+                ),
             type
         );
     }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.TryingShortCircuitingConverter;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link Converter} that converts a value to a {@link JsonNode} and then prints that as text into a
+ * {@link JsonNodeSegmentedText}, which satisfies requests for a {@link CharSequence}. The text is held in fixed size
+ * chunks rather than a single {@link String}, so very large exports never need one huge allocation and may be written
+ * out chunk by chunk.
+ */
+final class JsonNodeConverterToJsonNodeTextSegmented<C extends JsonNodeConverterContext> extends JsonNodeConverter<C>
+    implements TryingShortCircuitingConverter<C> {
+
+    /**
+     * Type safe getter.
+     */
+    static <C extends JsonNodeConverterContext> JsonNodeConverterToJsonNodeTextSegmented<C> instance() {
+        return Cast.to(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    private final static JsonNodeConverterToJsonNodeTextSegmented<?> INSTANCE = new JsonNodeConverterToJsonNodeTextSegmented<>();
+
+    private JsonNodeConverterToJsonNodeTextSegmented() {
+        super();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return null != value &&
+            (CharSequence.class == type || JsonNodeSegmentedText.class == type) &&
+            context.isSupportedJsonType(value.getClass());
+    }
+
+    @Override
+    public Object tryConvertOrFail(final Object value,
+                                   final Class<?> type,
+                                   final C context) {
+        return JsonNodeTextWriter.with(context)
+            .writeSegmented(
+                context.marshall(value)
+            );
+    }
+
+    @Override
+    public String toString() {
+        return "* to segmented JSON text";
+    }
+}
@@ -20,11 +20,35 @@ package walkingkooka.tree.json.convert;
 import walkingkooka.convert.Converter;
 import walkingkooka.reflect.PublicStaticHelper;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * A collection of {@link walkingkooka.convert.Converter} for walkingkooka.tree.json
  */
 public final class JsonNodeConverters implements PublicStaticHelper {
 
+    /**
+     * {@see JsonNodeConverterBytesToJsonNode}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> bytesToJsonNode() {
+        return JsonNodeConverterBytesToJsonNode.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterBytesToObject}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> bytesToObject() {
+        return JsonNodeConverterBytesToObject.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterJsonNodeBinaryTo}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> jsonBinaryTo() {
+        return JsonNodeConverterJsonNodeBinaryTo.instance();
+    }
+
     /**
      * {@see JsonNodeConverterJsonNodeTo}
      */
@@ -32,6 +56,48 @@ public final class JsonNodeConverters implements PublicStaticHelper {
         return JsonNodeConverterJsonNodeTo.instance();
     }
 
+    /**
+     * {@see JsonNodeConverterNdjsonToList}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> ndjsonToList() {
+        return JsonNodeConverterNdjsonToList.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterNdjsonToList}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> ndjsonToList(final String elementType) {
+        return JsonNodeConverterNdjsonToList.with(elementType);
+    }
+
+    /**
+     * {@see JsonNodeConverterNdjsonToStream}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> ndjsonToStream() {
+        return JsonNodeConverterNdjsonToStream.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterNdjsonToStream}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> ndjsonToStream(final String elementType) {
+        return JsonNodeConverterNdjsonToStream.with(elementType);
+    }
+
+    /**
+     * {@see JsonNodeConverterReaderToJsonNode}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> readerToJsonNode() {
+        return JsonNodeConverterReaderToJsonNode.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterTextEditToJsonNode}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textEditToJsonNode() {
+        return JsonNodeConverterTextEditToJsonNode.instance();
+    }
+
     /**
      * {@see JsonNodeConverterTextToObject}
      */
@@ -39,6 +105,13 @@ public final class JsonNodeConverters implements PublicStaticHelper {
         return JsonNodeConverterTextToObject.instance();
     }
 
+    /**
+     * {@see JsonNodeConverterTextToObject}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToObjectStreaming() {
+        return JsonNodeConverterTextToObject.streaming();
+    }
+
     /**
      * {@see JsonNodeConverterTextToJsonNode}
      */
@@ -46,6 +119,85 @@ public final class JsonNodeConverters implements PublicStaticHelper {
         return JsonNodeConverterTextToJsonNode.instance();
     }
 
+    /**
+     * {@see JsonNodeConverterTextToJsonNodeCache}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToJsonNodeCache(final int capacity,
+                                                                                     final int weight) {
+        return JsonNodeConverterTextToJsonNodeCache.with(
+            capacity,
+            weight
+        );
+    }
+
+    /**
+     * Returns the current statistics of a {@link Converter} created by {@link #textToJsonNodeCache(int, int)}.
+     */
+    public static JsonNodeCacheStatistics textToJsonNodeCacheStatistics(final Converter<?> converter) {
+        Objects.requireNonNull(converter, "converter");
+
+        if (false == converter instanceof JsonNodeConverterTextToJsonNodeCache) {
+            throw new IllegalArgumentException("Converter is not a " + JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_CACHE + " " + converter);
+        }
+        return ((JsonNodeConverterTextToJsonNodeCache<?>) converter).statistics();
+    }
+
+    /**
+     * {@see JsonNodeConverterTextToJsonNodeParallel}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToJsonNodeParallel(final int threshold) {
+        return JsonNodeConverterTextToJsonNodeParallel.with(threshold);
+    }
+
+    /**
+     * {@see JsonNodeConverterTextToJsonNodeProjected}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToJsonNodeProjected(final List<String> paths) {
+        return JsonNodeConverterTextToJsonNodeProjected.with(paths);
+    }
+
+    /**
+     * {@see JsonNodeConverterTextToJsonNode}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToJsonNodeStreaming() {
+        return JsonNodeConverterTextToJsonNode.streaming();
+    }
+
+    /**
+     * {@see JsonNodeConverterTextToJsonNodeTextIndex}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToJsonNodeTextIndex() {
+        return JsonNodeConverterTextToJsonNodeTextIndex.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterTextToJsonNodeValidationResult}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> textToJsonNodeValidationResult() {
+        return JsonNodeConverterTextToJsonNodeValidationResult.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterToJsonNodeBinary}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> toJsonBinary() {
+        return JsonNodeConverterToJsonNodeBinary.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterToJsonNodeCanonicalText}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> toJsonCanonicalText() {
+        return JsonNodeConverterToJsonNodeCanonicalText.instance();
+    }
+
+    /**
+     * {@see JsonNodeConverterToJsonNodeHash}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> toJsonHash() {
+        return JsonNodeConverterToJsonNodeHash.instance();
+    }
+
     /**
      * {@see JsonNodeConverterToJsonNode}
      */
@@ -60,6 +212,13 @@ public final class JsonNodeConverters implements PublicStaticHelper {
         return JsonNodeConverterToJsonNodeText.instance();
     }
 
+    /**
+     * {@see JsonNodeConverterToJsonNodeTextSegmented}
+     */
+    public static <C extends JsonNodeConverterContext> Converter<C> toJsonTextSegmented() {
+        return JsonNodeConverterToJsonNodeTextSegmented.instance();
+    }
+
     /**
      * Stop creation
      */
@@ -69,6 +69,27 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
         final int count = copy.size();
 
         switch (name.value()) {
+            case BYTES_TO_JSON_NODE_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.bytesToJsonNode();
+                break;
+            case BYTES_TO_OBJECT_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.bytesToObject();
+                break;
+            case JSON_BINARY_TO_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.jsonBinaryTo();
+                break;
             case JSON_NODE_TO_STRING:
                 if (0 != count) {
                     throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
@@ -76,6 +97,54 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
 
                 converter = JsonNodeConverters.jsonNodeTo();
                 break;
+            case NDJSON_TO_LIST_STRING:
+                switch (count) {
+                    case 0:
+                        converter = JsonNodeConverters.ndjsonToList();
+                        break;
+                    case 1:
+                        converter = JsonNodeConverters.ndjsonToList(
+                            stringValues(
+                                copy,
+                                "elementType"
+                            ).get(0)
+                        );
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Expected 0 or 1 value(s) got " + count + " " + values);
+                }
+                break;
+            case NDJSON_TO_STREAM_STRING:
+                switch (count) {
+                    case 0:
+                        converter = JsonNodeConverters.ndjsonToStream();
+                        break;
+                    case 1:
+                        converter = JsonNodeConverters.ndjsonToStream(
+                            stringValues(
+                                copy,
+                                "elementType"
+                            ).get(0)
+                        );
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Expected 0 or 1 value(s) got " + count + " " + values);
+                }
+                break;
+            case READER_TO_JSON_NODE_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.readerToJsonNode();
+                break;
+            case TEXT_EDIT_TO_JSON_NODE_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textEditToJsonNode();
+                break;
             case TEXT_TO_JSON_NODE_STRING:
                 if (0 != count) {
                     throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
@@ -83,6 +152,95 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
 
                 converter = JsonNodeConverters.textToJsonNode();
                 break;
+            case TEXT_TO_JSON_NODE_CACHE_STRING:
+                if (2 != count) {
+                    throw new IllegalArgumentException("Expected 2 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToJsonNodeCache(
+                    intValue(
+                        copy.get(0),
+                        "capacity"
+                    ),
+                    intValue(
+                        copy.get(1),
+                        "weight"
+                    )
+                );
+                break;
+            case TEXT_TO_JSON_NODE_PARALLEL_STRING:
+                if (1 != count) {
+                    throw new IllegalArgumentException("Expected 1 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToJsonNodeParallel(
+                    intValue(
+                        copy.get(0),
+                        "threshold"
+                    )
+                );
+                break;
+            case TEXT_TO_JSON_NODE_PROJECTED_STRING:
+                if (0 == count) {
+                    throw new IllegalArgumentException("Expected 1 or more value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToJsonNodeProjected(
+                    stringValues(
+                        copy,
+                        "path"
+                    )
+                );
+                break;
+            case TEXT_TO_JSON_NODE_STREAMING_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToJsonNodeStreaming();
+                break;
+            case TEXT_TO_JSON_NODE_TEXT_INDEX_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToJsonNodeTextIndex();
+                break;
+            case TEXT_TO_JSON_NODE_VALIDATION_RESULT_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToJsonNodeValidationResult();
+                break;
+            case TEXT_TO_OBJECT_STREAMING_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.textToObjectStreaming();
+                break;
+            case TO_JSON_BINARY_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.toJsonBinary();
+                break;
+            case TO_JSON_CANONICAL_TEXT_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.toJsonCanonicalText();
+                break;
+            case TO_JSON_HASH_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.toJsonHash();
+                break;
             case TO_JSON_NODE_STRING:
                 if (0 != count) {
                     throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
@@ -97,6 +255,13 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
 
                 converter = JsonNodeConverters.toJsonText();
                 break;
+            case TO_JSON_TEXT_SEGMENTED_STRING:
+                if (0 != count) {
+                    throw new IllegalArgumentException("Expected 0 value(s) got " + count + " " + values);
+                }
+
+                converter = JsonNodeConverters.toJsonTextSegmented();
+                break;
             default:
                 throw new IllegalArgumentException("Unknown converter " + name);
         }
@@ -104,14 +269,110 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
         return Cast.to(converter);
     }
 
+    private static List<String> stringValues(final List<?> values,
+                                             final String label) {
+        final List<String> strings = Lists.array();
+
+        for (final Object value : values) {
+            if (false == value instanceof String) {
+                throw new IllegalArgumentException("Expected string " + label + " got " + value);
+            }
+            strings.add((String) value);
+        }
+
+        return strings;
+    }
+
+    private static int intValue(final Object value,
+                                final String label) {
+        if (false == value instanceof Number) {
+            throw new IllegalArgumentException("Expected number " + label + " got " + value);
+        }
+
+        // Number#intValue would silently truncate fractions and wrap large values
+        final double number = ((Number) value).doubleValue();
+        if (number != Math.rint(number) || number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Expected integer " + label + " got " + value);
+        }
+        return (int) number;
+    }
+
+    final static String BYTES_TO_JSON_NODE_STRING = "bytes-to-json-node";
+
+    final static ConverterName BYTES_TO_JSON_NODE = ConverterName.with(BYTES_TO_JSON_NODE_STRING);
+
+    final static String BYTES_TO_OBJECT_STRING = "bytes-to-object";
+
+    final static ConverterName BYTES_TO_OBJECT = ConverterName.with(BYTES_TO_OBJECT_STRING);
+
+    final static String JSON_BINARY_TO_STRING = "json-binary-to";
+
+    final static ConverterName JSON_BINARY_TO = ConverterName.with(JSON_BINARY_TO_STRING);
+
     final static String JSON_NODE_TO_STRING = "json-node-to";
 
     final static ConverterName JSON_NODE_TO = ConverterName.with(JSON_NODE_TO_STRING);
 
+    final static String NDJSON_TO_LIST_STRING = "ndjson-to-list";
+
+    final static ConverterName NDJSON_TO_LIST = ConverterName.with(NDJSON_TO_LIST_STRING);
+
+    final static String NDJSON_TO_STREAM_STRING = "ndjson-to-stream";
+
+    final static ConverterName NDJSON_TO_STREAM = ConverterName.with(NDJSON_TO_STREAM_STRING);
+
+    final static String READER_TO_JSON_NODE_STRING = "reader-to-json-node";
+
+    final static ConverterName READER_TO_JSON_NODE = ConverterName.with(READER_TO_JSON_NODE_STRING);
+
+    final static String TEXT_EDIT_TO_JSON_NODE_STRING = "text-edit-to-json-node";
+
+    final static ConverterName TEXT_EDIT_TO_JSON_NODE = ConverterName.with(TEXT_EDIT_TO_JSON_NODE_STRING);
+
     final static String TEXT_TO_JSON_NODE_STRING = "text-to-json-node";
 
     final static ConverterName TEXT_TO_JSON_NODE = ConverterName.with(TEXT_TO_JSON_NODE_STRING);
 
+    final static String TEXT_TO_JSON_NODE_CACHE_STRING = "text-to-json-node-cache";
+
+    final static ConverterName TEXT_TO_JSON_NODE_CACHE = ConverterName.with(TEXT_TO_JSON_NODE_CACHE_STRING);
+
+    final static String TEXT_TO_JSON_NODE_PARALLEL_STRING = "text-to-json-node-parallel";
+
+    final static ConverterName TEXT_TO_JSON_NODE_PARALLEL = ConverterName.with(TEXT_TO_JSON_NODE_PARALLEL_STRING);
+
+    final static String TEXT_TO_JSON_NODE_PROJECTED_STRING = "text-to-json-node-projected";
+
+    final static ConverterName TEXT_TO_JSON_NODE_PROJECTED = ConverterName.with(TEXT_TO_JSON_NODE_PROJECTED_STRING);
+
+    final static String TEXT_TO_JSON_NODE_STREAMING_STRING = "text-to-json-node-streaming";
+
+    final static ConverterName TEXT_TO_JSON_NODE_STREAMING = ConverterName.with(TEXT_TO_JSON_NODE_STREAMING_STRING);
+
+    final static String TEXT_TO_JSON_NODE_TEXT_INDEX_STRING = "text-to-json-node-text-index";
+
+    final static ConverterName TEXT_TO_JSON_NODE_TEXT_INDEX = ConverterName.with(TEXT_TO_JSON_NODE_TEXT_INDEX_STRING);
+
+    final static String TEXT_TO_JSON_NODE_VALIDATION_RESULT_STRING = "text-to-json-node-validation-result";
+
+    final static ConverterName TEXT_TO_JSON_NODE_VALIDATION_RESULT = ConverterName.with(TEXT_TO_JSON_NODE_VALIDATION_RESULT_STRING);
+
+    final static String TEXT_TO_OBJECT_STREAMING_STRING = "text-to-object-streaming";
+
+    final static ConverterName TEXT_TO_OBJECT_STREAMING = ConverterName.with(TEXT_TO_OBJECT_STREAMING_STRING);
+
+    final static String TO_JSON_BINARY_STRING = "to-json-binary";
+
+    final static ConverterName TO_JSON_BINARY = ConverterName.with(TO_JSON_BINARY_STRING);
+
+    final static String TO_JSON_CANONICAL_TEXT_STRING = "to-json-canonical-text";
+
+    final static ConverterName TO_JSON_CANONICAL_TEXT = ConverterName.with(TO_JSON_CANONICAL_TEXT_STRING);
+
+    final static String TO_JSON_HASH_STRING = "to-json-hash";
+
+    final static ConverterName TO_JSON_HASH = ConverterName.with(TO_JSON_HASH_STRING);
+
     final static String TO_JSON_NODE_STRING = "to-json-node";
 
     final static ConverterName TO_JSON_NODE = ConverterName.with(TO_JSON_NODE_STRING);
@@ -120,6 +381,10 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
 
     final static ConverterName TO_JSON_TEXT = ConverterName.with(TO_JSON_TEXT_STRING);
 
+    final static String TO_JSON_TEXT_SEGMENTED_STRING = "to-json-text-segmented";
+
+    final static ConverterName TO_JSON_TEXT_SEGMENTED = ConverterName.with(TO_JSON_TEXT_SEGMENTED_STRING);
+
     @Override
     public ConverterInfoSet converterInfos() {
         return INFOS;
@@ -127,10 +392,28 @@ final class JsonNodeConvertersConverterProvider implements ConverterProvider {
 
     private final static ConverterInfoSet INFOS = ConverterInfoSet.with(
         Sets.of(
+            nameToConverterInfo(BYTES_TO_JSON_NODE),
+            nameToConverterInfo(BYTES_TO_OBJECT),
+            nameToConverterInfo(JSON_BINARY_TO),
             nameToConverterInfo(JSON_NODE_TO),
+            nameToConverterInfo(NDJSON_TO_LIST),
+            nameToConverterInfo(NDJSON_TO_STREAM),
+            nameToConverterInfo(READER_TO_JSON_NODE),
+            nameToConverterInfo(TEXT_EDIT_TO_JSON_NODE),
             nameToConverterInfo(TEXT_TO_JSON_NODE),
+            nameToConverterInfo(TEXT_TO_JSON_NODE_CACHE),
+            nameToConverterInfo(TEXT_TO_JSON_NODE_PARALLEL),
+            nameToConverterInfo(TEXT_TO_JSON_NODE_PROJECTED),
+            nameToConverterInfo(TEXT_TO_JSON_NODE_STREAMING),
+            nameToConverterInfo(TEXT_TO_JSON_NODE_TEXT_INDEX),
+            nameToConverterInfo(TEXT_TO_JSON_NODE_VALIDATION_RESULT),
+            nameToConverterInfo(TEXT_TO_OBJECT_STREAMING),
+            nameToConverterInfo(TO_JSON_BINARY),
+            nameToConverterInfo(TO_JSON_CANONICAL_TEXT),
+            nameToConverterInfo(TO_JSON_HASH),
             nameToConverterInfo(TO_JSON_NODE),
-            nameToConverterInfo(TO_JSON_TEXT)
+            nameToConverterInfo(TO_JSON_TEXT),
+            nameToConverterInfo(TO_JSON_TEXT_SEGMENTED)
         )
     );
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+/**
+ * An {@link Appendable} that folds the UTF-8 encoding of each character into a 64 bit FNV-1a hash, so text may be
+ * hashed without it ever being held in memory. Unpaired surrogates are hashed as a question mark, matching
+ * {@link JsonNodeUtf8Appendable}. The result is the same as hashing the UTF-8 bytes of the entire text.
+ */
+final class JsonNodeFnv1aAppendable implements Appendable {
+
+    final static long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    final static long PRIME = 0x100000001b3L;
+
+    static JsonNodeFnv1aAppendable empty() {
+        return new JsonNodeFnv1aAppendable();
+    }
+
+    private JsonNodeFnv1aAppendable() {
+        super();
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars) {
+        final CharSequence text = null == chars ?
+            "null" :
+            chars;
+        return this.append(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars,
+                             final int start,
+                             final int end) {
+        final CharSequence text = null == chars ?
+            "null" :
+            chars;
+
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+
+            // ascii fast path
+            if (c < 0x80 && 0 == this.highSurrogate) {
+                this.hash = (this.hash ^ c) * PRIME;
+            } else {
+                this.append(c);
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) {
+        final char high = this.highSurrogate;
+        if (0 != high) {
+            this.highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                this.codePoint(
+                    Character.toCodePoint(
+                        high,
+                        c
+                    )
+                );
+                return this;
+            }
+            this.hashByte('?');
+        }
+
+        if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.hashByte('?');
+        } else {
+            this.codePoint(c);
+        }
+
+        return this;
+    }
+
+    private void codePoint(final int codePoint) {
+        if (codePoint < 0x80) {
+            this.hashByte(codePoint);
+        } else if (codePoint < 0x800) {
+            this.hashByte(0xC0 | (codePoint >> 6));
+            this.hashByte(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            this.hashByte(0xE0 | (codePoint >> 12));
+            this.hashByte(0x80 | ((codePoint >> 6) & 0x3F));
+            this.hashByte(0x80 | (codePoint & 0x3F));
+        } else {
+            this.hashByte(0xF0 | (codePoint >> 18));
+            this.hashByte(0x80 | ((codePoint >> 12) & 0x3F));
+            this.hashByte(0x80 | ((codePoint >> 6) & 0x3F));
+            this.hashByte(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void hashByte(final int b) {
+        this.hash = (this.hash ^ (b & 0xFF)) * PRIME;
+    }
+
+    /**
+     * Returns the hash of all characters appended so far, including an unpaired high surrogate.
+     */
+    long hash() {
+        long hash = this.hash;
+        if (0 != this.highSurrogate) {
+            hash = (hash ^ '?') * PRIME;
+        }
+        return hash;
+    }
+
+    private long hash = OFFSET_BASIS;
+
+    /**
+     * A high surrogate waiting for the low surrogate in the next character.
+     */
+    private char highSurrogate;
+
+    @Override
+    public String toString() {
+        return Long.toHexString(this.hash());
+    }
+}
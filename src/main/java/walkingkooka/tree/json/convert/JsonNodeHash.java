@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+/**
+ * The 64 bit FNV-1a hash of the UTF-8 encoded canonical JSON text of a value, returned by
+ * {@link JsonNodeConverters#toJsonHash()}. A dedicated type is used rather than {@link Long}, so the converter
+ * never claims conversions to {@link Long}. The {@link #toString()} is 16 lowercase hex digits, suitable for an ETag.
+ */
+public final class JsonNodeHash {
+
+    public static JsonNodeHash with(final long value) {
+        return new JsonNodeHash(value);
+    }
+
+    private JsonNodeHash(final long value) {
+        this.value = value;
+    }
+
+    public long value() {
+        return this.value;
+    }
+
+    private final long value;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.value);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof JsonNodeHash &&
+                this.value == ((JsonNodeHash) other).value;
+    }
+
+    @Override
+    public String toString() {
+        final String hex = Long.toHexString(this.value);
+        return "0000000000000000".substring(hex.length()) + hex;
+    }
+}
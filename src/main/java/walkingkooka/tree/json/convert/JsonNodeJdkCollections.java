@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.set.Sets;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Identifies values of the plain JDK {@link java.util.Collection} and {@link Map} classes. Sub-classes and other
+ * implementations may have their own registered marshaller, and are never matched.
+ */
+final class JsonNodeJdkCollections {
+
+    /**
+     * Returns true if the value is exactly one of the JDK {@link java.util.Collection} classes.
+     */
+    static boolean isCollection(final Object value) {
+        return null != value && COLLECTIONS.contains(value.getClass());
+    }
+
+    private final static Set<Class<?>> COLLECTIONS = Sets.of(
+        ArrayList.class,
+        HashSet.class,
+        LinkedHashSet.class,
+        LinkedList.class,
+        TreeSet.class
+    );
+
+    /**
+     * Returns true if the value is exactly one of the JDK {@link Map} classes.
+     */
+    static boolean isMap(final Object value) {
+        return null != value && MAPS.contains(value.getClass());
+    }
+
+    private final static Set<Class<?>> MAPS = Sets.of(
+        HashMap.class,
+        LinkedHashMap.class,
+        TreeMap.class
+    );
+
+    /**
+     * Stop creation
+     */
+    private JsonNodeJdkCollections() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * An immutable {@link CharSequence} that holds its characters in many fixed size chunks rather than a single array,
+ * so very large JSON text never requires one huge allocation. The text may be written out chunk by chunk using
+ * {@link #write(Writer)} or {@link #write(Appendable)}. Note {@link #toString()} and {@link #subSequence(int, int)}
+ * copy the selected characters into a new {@link String}.
+ */
+public final class JsonNodeSegmentedText implements CharSequence {
+
+    /**
+     * The number of bits of an index that select the character within a chunk.
+     */
+    final static int CHUNK_SHIFT = 14;
+
+    /**
+     * The number of characters in each chunk, small enough that a chunk is never a humongous object.
+     */
+    final static int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private final static int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Empty text with no chunks.
+     */
+    public final static JsonNodeSegmentedText EMPTY = new JsonNodeSegmentedText(
+        new char[0][],
+        0
+    );
+
+    /**
+     * Factory only called by {@link JsonNodeSegmentedTextAppendable}, all chunks except the last must be full.
+     */
+    static JsonNodeSegmentedText with(final char[][] chunks,
+                                      final int length) {
+        return 0 == length ?
+            EMPTY :
+            new JsonNodeSegmentedText(
+                chunks,
+                length
+            );
+    }
+
+    private JsonNodeSegmentedText(final char[][] chunks,
+                                  final int length) {
+        this.chunks = chunks;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    private final int length;
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.length);
+        }
+        return this.chunks[index >> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                   final int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + ".." + end + " not within 0.." + this.length);
+        }
+
+        final char[] chars = new char[end - start];
+
+        int i = start;
+        while (i < end) {
+            final int offset = i & CHUNK_MASK;
+            final int count = Math.min(
+                end - i,
+                CHUNK_SIZE - offset
+            );
+
+            System.arraycopy(
+                this.chunks[i >> CHUNK_SHIFT],
+                offset,
+                chars,
+                i - start,
+                count
+            );
+            i += count;
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Returns the number of chunks.
+     */
+    public int chunkCount() {
+        return this.chunks.length;
+    }
+
+    /**
+     * Writes each chunk to the given {@link Writer}, which is not flushed or closed.
+     */
+    public void write(final Writer writer) {
+        Objects.requireNonNull(writer, "writer");
+
+        try {
+            final char[][] chunks = this.chunks;
+            final int count = chunks.length;
+            for (int i = 0; i < count; i++) {
+                writer.write(
+                    chunks[i],
+                    0,
+                    this.chunkLength(i)
+                );
+            }
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    /**
+     * Appends each chunk to the given {@link Appendable}.
+     */
+    public void write(final Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+
+        try {
+            final char[][] chunks = this.chunks;
+            final int count = chunks.length;
+            for (int i = 0; i < count; i++) {
+                appendable.append(
+                    new String(
+                        chunks[i],
+                        0,
+                        this.chunkLength(i)
+                    )
+                );
+            }
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    private int chunkLength(final int index) {
+        return index < this.chunks.length - 1 ?
+            CHUNK_SIZE :
+            this.length - (index << CHUNK_SHIFT);
+    }
+
+    private final char[][] chunks;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+
+        final int length = this.length;
+        for (int i = 0; i < length; i++) {
+            hashCode = 31 * hashCode + this.charAt(i);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof JsonNodeSegmentedText &&
+                this.equals0((JsonNodeSegmentedText) other);
+    }
+
+    private boolean equals0(final JsonNodeSegmentedText other) {
+        boolean equals = this.length == other.length;
+
+        final int count = this.chunks.length;
+        for (int i = 0; equals && i < count; i++) {
+            final char[] chunk = this.chunks[i];
+            final char[] otherChunk = other.chunks[i];
+
+            final int length = this.chunkLength(i);
+            for (int j = 0; j < length; j++) {
+                if (chunk[j] != otherChunk[j]) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    /**
+     * Copies all characters into a single {@link String}, which should be avoided for very large text.
+     */
+    @Override
+    public String toString() {
+        return this.subSequence(
+            0,
+            this.length
+        ).toString();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import java.util.Arrays;
+
+/**
+ * An {@link Appendable} that collects characters into fixed size chunks, and then creates a
+ * {@link JsonNodeSegmentedText} from them. Full chunks are never copied again.
+ */
+final class JsonNodeSegmentedTextAppendable implements Appendable {
+
+    static JsonNodeSegmentedTextAppendable empty() {
+        return new JsonNodeSegmentedTextAppendable();
+    }
+
+    private JsonNodeSegmentedTextAppendable() {
+        super();
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars) {
+        final CharSequence text = null == chars ?
+            "null" :
+            chars;
+        return this.append(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars,
+                             final int start,
+                             final int end) {
+        final CharSequence text = null == chars ?
+            "null" :
+            chars;
+
+        int i = start;
+        while (i < end) {
+            if (this.position == JsonNodeSegmentedText.CHUNK_SIZE) {
+                this.nextChunk();
+            }
+
+            final int count = Math.min(
+                end - i,
+                JsonNodeSegmentedText.CHUNK_SIZE - this.position
+            );
+
+            if (text instanceof String) {
+                ((String) text).getChars(
+                    i,
+                    i + count,
+                    this.chunk,
+                    this.position
+                );
+            } else {
+                final char[] chunk = this.chunk;
+                for (int j = 0; j < count; j++) {
+                    chunk[this.position + j] = text.charAt(i + j);
+                }
+            }
+
+            this.position += count;
+            i += count;
+        }
+
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) {
+        if (this.position == JsonNodeSegmentedText.CHUNK_SIZE) {
+            this.nextChunk();
+        }
+        this.chunk[this.position++] = c;
+        return this;
+    }
+
+    private void nextChunk() {
+        if (this.count == this.chunks.length) {
+            this.chunks = Arrays.copyOf(
+                this.chunks,
+                this.count * 2
+            );
+        }
+        this.chunks[this.count++] = this.chunk;
+
+        this.chunk = new char[JsonNodeSegmentedText.CHUNK_SIZE];
+        this.position = 0;
+    }
+
+    /**
+     * Creates a {@link JsonNodeSegmentedText} holding all characters appended so far, this {@link Appendable} should
+     * not be used afterwards.
+     */
+    JsonNodeSegmentedText build() {
+        final int length = this.count * JsonNodeSegmentedText.CHUNK_SIZE + this.position;
+
+        final char[][] chunks = Arrays.copyOf(
+            this.chunks,
+            this.count + (this.position > 0 ? 1 : 0)
+        );
+        if (this.position > 0) {
+            // trim the last chunk
+            chunks[this.count] = Arrays.copyOf(
+                this.chunk,
+                this.position
+            );
+        }
+
+        return JsonNodeSegmentedText.with(
+            chunks,
+            length
+        );
+    }
+
+    /**
+     * Full chunks.
+     */
+    private char[][] chunks = new char[8][];
+
+    private int count;
+
+    /**
+     * The chunk currently being filled.
+     */
+    private char[] chunk = new char[JsonNodeSegmentedText.CHUNK_SIZE];
+
+    private int position;
+
+    @Override
+    public String toString() {
+        return (this.count * JsonNodeSegmentedText.CHUNK_SIZE + this.position) + " char(s)";
+    }
+}
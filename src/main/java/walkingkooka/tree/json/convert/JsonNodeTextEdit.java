@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Objects;
+
+/**
+ * An edit of JSON text that was previously parsed into a {@link JsonNode}, replacing the characters between start
+ * and end with some new text. Converting an edit to a {@link JsonNode} using
+ * {@link JsonNodeConverters#textEditToJsonNode()} re-parses only the smallest object or array that encloses the edit,
+ * and reuses the rest of the previous {@link JsonNode}.
+ * <br>
+ * Finding that object or array uses a {@link JsonNodeTextIndex} of the previous text. An edit created with
+ * {@link #withIndex(JsonNodeTextIndex, JsonNode, int, int, String)} reuses that index, so only the enclosing object or
+ * array is read, otherwise the previous text is scanned once when the edit is first converted.
+ */
+public final class JsonNodeTextEdit {
+
+    /**
+     * Factory that creates a new {@link JsonNodeTextEdit}. The {@link JsonNode} must be the result of parsing the text.
+     */
+    public static JsonNodeTextEdit with(final String text,
+                                        final JsonNode node,
+                                        final int start,
+                                        final int end,
+                                        final String replacement) {
+        Objects.requireNonNull(text, "text");
+
+        return with(
+            text,
+            null,
+            node,
+            start,
+            end,
+            replacement
+        );
+    }
+
+    /**
+     * Factory that creates a new {@link JsonNodeTextEdit} reusing the {@link JsonNodeTextIndex} of the text before the
+     * edit, which must cover the whole text. The {@link JsonNode} must be the result of parsing the text.
+     */
+    public static JsonNodeTextEdit withIndex(final JsonNodeTextIndex index,
+                                             final JsonNode node,
+                                             final int start,
+                                             final int end,
+                                             final String replacement) {
+        Objects.requireNonNull(index, "index");
+        if (false == index.isWholeText()) {
+            throw new IllegalArgumentException("Index does not cover the whole text");
+        }
+
+        return with(
+            index.text(),
+            index,
+            node,
+            start,
+            end,
+            replacement
+        );
+    }
+
+    private static JsonNodeTextEdit with(final String text,
+                                         final JsonNodeTextIndex index,
+                                         final JsonNode node,
+                                         final int start,
+                                         final int end,
+                                         final String replacement) {
+        Objects.requireNonNull(node, "node");
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IllegalArgumentException("Invalid range " + start + ".." + end + " not within 0.." + text.length());
+        }
+        Objects.requireNonNull(replacement, "replacement");
+
+        return new JsonNodeTextEdit(
+            text,
+            index,
+            node,
+            start,
+            end,
+            replacement
+        );
+    }
+
+    private JsonNodeTextEdit(final String text,
+                             final JsonNodeTextIndex index,
+                             final JsonNode node,
+                             final int start,
+                             final int end,
+                             final String replacement) {
+        this.text = text;
+        this.index = index;
+        this.node = node;
+        this.start = start;
+        this.end = end;
+        this.replacement = replacement;
+    }
+
+    /**
+     * The text before the edit.
+     */
+    public String text() {
+        return this.text;
+    }
+
+    private final String text;
+
+    /**
+     * Returns the {@link JsonNodeTextIndex} of the text before the edit, scanning the text the first time if the edit
+     * was not created with an index. Nested indexes are cached by the {@link JsonNodeTextIndex}, so instances are not
+     * thread safe.
+     */
+    JsonNodeTextIndex index() {
+        JsonNodeTextIndex index = this.index;
+        if (null == index) {
+            index = JsonNodeTextIndex.parse(this.text);
+            this.index = index;
+        }
+        return index;
+    }
+
+    private JsonNodeTextIndex index;
+
+    /**
+     * The {@link JsonNode} parsed from the text before the edit.
+     */
+    public JsonNode node() {
+        return this.node;
+    }
+
+    private final JsonNode node;
+
+    /**
+     * The position of the first replaced character.
+     */
+    public int start() {
+        return this.start;
+    }
+
+    private final int start;
+
+    /**
+     * The position after the last replaced character, equal to start for an insert.
+     */
+    public int end() {
+        return this.end;
+    }
+
+    private final int end;
+
+    /**
+     * The replacing text, empty for a delete.
+     */
+    public String replacement() {
+        return this.replacement;
+    }
+
+    private final String replacement;
+
+    /**
+     * Returns the text after the edit.
+     */
+    public String newText() {
+        final String text = this.text;
+
+        return text.substring(0, this.start) +
+            this.replacement +
+            text.substring(this.end);
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.text,
+            this.start,
+            this.end,
+            this.replacement
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof JsonNodeTextEdit &&
+                this.equals0((JsonNodeTextEdit) other);
+    }
+
+    private boolean equals0(final JsonNodeTextEdit other) {
+        return this.text.equals(other.text) &&
+            this.node.equals(other.node) &&
+            this.start == other.start &&
+            this.end == other.end &&
+            this.replacement.equals(other.replacement);
+    }
+
+    @Override
+    public String toString() {
+        return this.start + ".." + this.end + " " + CharSequences.quoteAndEscape(this.replacement);
+    }
+}
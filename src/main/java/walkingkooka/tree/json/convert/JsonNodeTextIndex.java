@@ -0,0 +1,496 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A structural index of JSON text, recording the position of each property or element of the root object or array.
+ * The text is validated by a single fast scan which creates no {@link JsonNode}, and children are only parsed into a
+ * {@link JsonNode} when they are first visited. This makes reading a few properties of a large document cost in
+ * proportion to what is read, rather than the document size.
+ * <br>
+ * Nested objects and arrays may be indexed on demand using {@link #index(int)} or {@link #index(JsonPropertyName)}.
+ * <br>
+ * The text is copied to a {@link String} so later changes to a mutable {@link CharSequence} are not seen. Parsed
+ * children are cached, so instances are not thread safe.
+ */
+public final class JsonNodeTextIndex {
+
+    /**
+     * Scans and indexes the given JSON text, failing if it is invalid.
+     */
+    public static JsonNodeTextIndex parse(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return parse(
+            text.toString(),
+            0,
+            text.length()
+        );
+    }
+
+    static JsonNodeTextIndex parse(final String text,
+                                   final int start,
+                                   final int end) {
+        final JsonNodeTextIndex index = new JsonNodeTextIndex(
+            text,
+            start,
+            end
+        );
+        index.scan();
+        return index;
+    }
+
+    private JsonNodeTextIndex(final String text,
+                              final int start,
+                              final int end) {
+        this.text = text;
+        this.start = start;
+        this.end = end;
+    }
+
+    private void scan() {
+        final JsonNodeTextParser parser = JsonNodeTextParser.charSequence(
+            this.text,
+            this.start,
+            this.end
+        );
+
+        final int c = parser.nextNonWhitespace();
+        switch (c) {
+            case '{':
+                this.object = true;
+                parser.expect('{');
+
+                if (false == parser.consumeIf('}')) {
+                    do {
+                        final JsonPropertyName name = parser.propertyName();
+                        parser.expect(':');
+                        this.addChild(
+                            name,
+                            parser
+                        );
+                    } while (parser.consumeIf(','));
+
+                    parser.expect('}');
+                }
+                break;
+            case '[':
+                this.array = true;
+                parser.expect('[');
+
+                if (false == parser.consumeIf(']')) {
+                    do {
+                        this.addChild(
+                            null,
+                            parser
+                        );
+                    } while (parser.consumeIf(','));
+
+                    parser.expect(']');
+                }
+                break;
+            default:
+                parser.skipValue();
+                break;
+        }
+
+        parser.end();
+    }
+
+    private void addChild(final JsonPropertyName name,
+                          final JsonNodeTextParser parser) {
+        parser.nextNonWhitespace();
+        final int start = (int) parser.position();
+        parser.skipValue();
+        final int end = (int) parser.position();
+
+        final int count = this.count;
+        if (count == this.starts.length) {
+            final int capacity = count * 2;
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            if (null != name) {
+                this.names = Arrays.copyOf(this.names, capacity);
+            }
+        }
+
+        this.starts[count] = start;
+        this.ends[count] = end;
+        if (null != name) {
+            this.names[count] = name;
+        }
+        this.count = count + 1;
+    }
+
+    /**
+     * Returns true if the indexed text holds a JSON object.
+     */
+    public boolean isObject() {
+        return this.object;
+    }
+
+    private boolean object;
+
+    /**
+     * Returns true if the indexed text holds a JSON array.
+     */
+    public boolean isArray() {
+        return this.array;
+    }
+
+    private boolean array;
+
+    /**
+     * Returns the number of properties or elements, scalar values have no children.
+     */
+    public int count() {
+        return this.count;
+    }
+
+    private int count;
+
+    /**
+     * Returns the names of the properties in text order, for arrays and scalars an empty {@link List} is returned.
+     */
+    public List<JsonPropertyName> names() {
+        return this.object ?
+            Lists.of(
+                Arrays.copyOf(
+                    this.names,
+                    this.count
+                )
+            ) :
+            Lists.empty();
+    }
+
+    /**
+     * Parses and returns the property with the given name, if the text holds an object and the property is present.
+     */
+    public Optional<JsonNode> get(final JsonPropertyName name) {
+        final int index = this.indexOf(name);
+
+        return Optional.ofNullable(
+            -1 != index ?
+                this.get(index) :
+                null
+        );
+    }
+
+    /**
+     * Parses and returns the property or element at the given index.
+     */
+    public JsonNode get(final int index) {
+        this.checkIndex(index);
+
+        JsonNode[] children = this.children;
+        if (null == children) {
+            children = new JsonNode[this.count];
+            this.children = children;
+        }
+
+        JsonNode child = children[index];
+        if (null == child) {
+            child = JsonNodeTextParser.charSequence(
+                this.text,
+                this.starts[index],
+                this.ends[index]
+            ).parse();
+
+            children[index] = child;
+        }
+
+        return child;
+    }
+
+    /**
+     * Indexes the property with the given name, if the text holds an object and the property is present.
+     */
+    public Optional<JsonNodeTextIndex> index(final JsonPropertyName name) {
+        final int index = this.indexOf(name);
+
+        return Optional.ofNullable(
+            -1 != index ?
+                this.index(index) :
+                null
+        );
+    }
+
+    /**
+     * Indexes the property or element at the given index. Nested indexes are cached, so visiting the same child again
+     * does not scan its text again.
+     */
+    public JsonNodeTextIndex index(final int index) {
+        this.checkIndex(index);
+
+        JsonNodeTextIndex[] indexes = this.indexes;
+        if (null == indexes) {
+            indexes = new JsonNodeTextIndex[this.count];
+            this.indexes = indexes;
+        }
+
+        JsonNodeTextIndex child = indexes[index];
+        if (null == child) {
+            child = parse(
+                this.text,
+                this.starts[index],
+                this.ends[index]
+            );
+            indexes[index] = child;
+        }
+
+        return child;
+    }
+
+    private int indexOf(final JsonPropertyName name) {
+        Objects.requireNonNull(name, "name");
+
+        int index = -1;
+
+        if (this.object) {
+            final JsonPropertyName[] names = this.names;
+            final int count = this.count;
+
+            // last wins, matching duplicate property handling of JsonObject
+            for (int i = count - 1; i >= 0; i--) {
+                if (name.equals(names[i])) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the index of the property value or element that strictly encloses the given range, without touching its
+     * first or last character, or -1 if none does. Children are in text order, so a binary search is used.
+     */
+    int childEnclosing(final int start,
+                       final int end) {
+        final int[] starts = this.starts;
+
+        // find the last child starting before start
+        int low = 0;
+        int high = this.count - 1;
+        int child = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (starts[mid] < start) {
+                child = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return -1 != child && end < this.ends[child] ?
+            child :
+            -1;
+    }
+
+    /**
+     * The position of the first character of the property value or element at the given index.
+     */
+    int childStart(final int index) {
+        this.checkIndex(index);
+        return this.starts[index];
+    }
+
+    /**
+     * The position after the last character of the property value or element at the given index.
+     */
+    int childEnd(final int index) {
+        this.checkIndex(index);
+        return this.ends[index];
+    }
+
+    /**
+     * The position of the first character of the indexed text, after any leading whitespace.
+     */
+    int start() {
+        final String text = this.text;
+        int start = this.start;
+        while (start < this.end && isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * The position after the last character of the indexed text, before any trailing whitespace.
+     */
+    int end() {
+        final String text = this.text;
+        int end = this.end;
+        while (end > this.start && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns true if this index covers the entire text, rather than a nested property value or element.
+     */
+    boolean isWholeText() {
+        return 0 == this.start && this.text.length() == this.end;
+    }
+
+    /**
+     * The text holding the indexed characters, which for a nested index is the text of the root.
+     */
+    String text() {
+        return this.text;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.count);
+        }
+    }
+
+    /**
+     * Returns the entire text as a {@link JsonNode}. If no children have been parsed the text is parsed in a single pass,
+     * otherwise the {@link JsonNode} is assembled from the children, parsing only those that have not been visited.
+     */
+    public JsonNode toJsonNode() {
+        JsonNode json = this.json;
+        if (null == json) {
+            json = null != this.children ?
+                this.assemble() :
+                JsonNodeTextParser.charSequence(
+                    this.text,
+                    this.start,
+                    this.end
+                ).parse();
+            this.json = json;
+        }
+        return json;
+    }
+
+    private JsonNode assemble() {
+        final int count = this.count;
+        final List<JsonNode> children = Lists.array();
+
+        for (int i = 0; i < count; i++) {
+            final JsonNode child = this.get(i);
+            children.add(
+                this.object ?
+                    child.setName(this.names[i]) :
+                    child
+            );
+        }
+
+        return this.object ?
+            JsonNode.object()
+                .setChildren(children) :
+            JsonNode.array()
+                .setChildren(children);
+    }
+
+    /**
+     * The entire text as a {@link JsonNode}, created by the first {@link #toJsonNode()}.
+     */
+    private JsonNode json;
+
+    private final String text;
+
+    private final int start;
+
+    private final int end;
+
+    private int[] starts = new int[8];
+
+    private int[] ends = new int[8];
+
+    private JsonPropertyName[] names = new JsonPropertyName[8];
+
+    /**
+     * Lazily created cache of parsed children.
+     */
+    private JsonNode[] children;
+
+    /**
+     * Lazily created cache of nested indexes.
+     */
+    private JsonNodeTextIndex[] indexes;
+
+    // Object...........................................................................................................
+
+    /**
+     * The same as the hash code of {@link #toString()}, computed once without creating the {@link String}.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = this.hashCode;
+        if (0 == hashCode) {
+            final String text = this.text;
+            final int end = this.end;
+            for (int i = this.start; i < end; i++) {
+                hashCode = 31 * hashCode + text.charAt(i);
+            }
+            this.hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    private int hashCode;
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof JsonNodeTextIndex &&
+                this.equals0((JsonNodeTextIndex) other);
+    }
+
+    private boolean equals0(final JsonNodeTextIndex other) {
+        final int length = this.end - this.start;
+
+        return length == other.end - other.start &&
+            this.text.regionMatches(
+                this.start,
+                other.text,
+                other.start,
+                length
+            );
+    }
+
+    /**
+     * Returns the indexed text.
+     */
+    @Override
+    public String toString() {
+        return this.text.substring(
+            this.start,
+            this.end
+        );
+    }
+}
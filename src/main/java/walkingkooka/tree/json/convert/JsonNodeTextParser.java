@@ -0,0 +1,956 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A streaming recursive descent JSON parser, that pulls characters from a {@link Reader} or {@link CharSequence} through
+ * a small fixed buffer and builds the {@link JsonNode} as it goes. Unlike {@link JsonNode#parse(String)} the entire
+ * text is never required to be held in memory, and no intermediate parser token tree is created.
+ * <br>
+ * Instances are not thread safe and should be used to parse a single value.
+ */
+final class JsonNodeTextParser {
+
+    /**
+     * The size of the buffer used to read characters from the source.
+     */
+    final static int BUFFER_SIZE = 4096;
+
+    /**
+     * Marker returned when the end of the text has been reached.
+     */
+    private final static int EOF = -1;
+
+    /**
+     * The maximum nesting of objects and arrays, deeper text fails rather than overflowing the stack, because both
+     * parsing and skipping values are recursive.
+     */
+    final static int MAX_DEPTH = 1000;
+
+    /**
+     * Text shorter than this is parsed without a {@link JsonNodeTextSymbols}, unless one is set, as too few names can
+     * repeat to repay creating the table.
+     */
+    final static int MIN_SYMBOLS_LENGTH = 256;
+
+    static JsonNodeTextParser reader(final Reader reader) {
+        return new JsonNodeTextParser(
+            Objects.requireNonNull(reader, "reader"),
+            null,
+            0,
+            0
+        );
+    }
+
+    static JsonNodeTextParser charSequence(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return charSequence(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    /**
+     * Creates a parser that reads the characters between start and end, positions are reported relative to the
+     * start of the given text.
+     */
+    static JsonNodeTextParser charSequence(final CharSequence text,
+                                           final int start,
+                                           final int end) {
+        Objects.requireNonNull(text, "text");
+
+        return new JsonNodeTextParser(
+            null,
+            text,
+            start,
+            end
+        );
+    }
+
+    private JsonNodeTextParser(final Reader reader,
+                               final CharSequence text,
+                               final int start,
+                               final int end) {
+        this.reader = reader;
+        this.text = text;
+        this.offset = start;
+        this.end = end;
+        this.small = null != text && end - start < MIN_SYMBOLS_LENGTH;
+
+        this.buffer = new char[
+            null != text ?
+                Math.max(
+                    1,
+                    Math.min(
+                        BUFFER_SIZE,
+                        end - start
+                    )
+                ) :
+                BUFFER_SIZE
+            ];
+    }
+
+    /**
+     * Parses a single JSON value, failing if any non whitespace characters follow.
+     */
+    JsonNode parse() {
+        final JsonNode node = this.value();
+        this.end();
+        return node;
+    }
+
+    /**
+     * Verifies that only whitespace remains.
+     */
+    void end() {
+        final int c = this.nextNonWhitespace();
+        if (EOF != c) {
+            throw this.invalidCharacter(c);
+        }
+    }
+
+    // values...........................................................................................................
+
+    /**
+     * Parses and returns the next JSON value.
+     */
+    JsonNode value() {
+        final JsonNode value;
+
+        final int c = this.nextNonWhitespace();
+        switch (c) {
+            case '{':
+                value = this.object();
+                break;
+            case '[':
+                value = this.array();
+                break;
+            case '"':
+                value = JsonNode.string(
+                    this.string()
+                );
+                break;
+            case 't':
+                this.literal("true");
+                value = JsonNode.booleanNode(true);
+                break;
+            case 'f':
+                this.literal("false");
+                value = JsonNode.booleanNode(false);
+                break;
+            case 'n':
+                this.literal("null");
+                value = JsonNode.nullNode();
+                break;
+            default:
+                if ('-' == c || isDigit(c)) {
+                    value = JsonNode.number(
+                        this.number()
+                    );
+                    break;
+                }
+                throw this.invalidCharacter(c);
+        }
+
+        return value;
+    }
+
+    private JsonNode object() {
+        this.position++; // skip {
+        this.enter();
+
+        final List<JsonNode> children = Lists.array();
+
+        if (false == this.consumeIf('}')) {
+            do {
+                final JsonPropertyName name = this.propertyName();
+                this.expect(':');
+                children.add(
+                    this.value()
+                        .setName(name)
+                );
+            } while (this.consumeIf(','));
+
+            this.expect('}');
+        }
+
+        this.depth--;
+
+        return JsonNode.object()
+            .setChildren(children);
+    }
+
+    private JsonNode array() {
+        this.position++; // skip [
+        this.enter();
+
+        final List<JsonNode> children = Lists.array();
+
+        if (false == this.consumeIf(']')) {
+            do {
+                children.add(
+                    this.value()
+                );
+            } while (this.consumeIf(','));
+
+            this.expect(']');
+        }
+
+        this.depth--;
+
+        return JsonNode.array()
+            .setChildren(children);
+    }
+
+    /**
+     * Increments the nesting depth, failing if it exceeds {@link #MAX_DEPTH}. Note the depth is not restored if
+     * parsing fails, as the parser is not used after a failure.
+     */
+    private void enter() {
+        if (++this.depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Nesting too deep at " + this.position());
+        }
+    }
+
+    /**
+     * The number of objects and arrays currently open.
+     */
+    private int depth;
+
+    /**
+     * Reads a property name, including the surrounding quotes. Repeated names share the same {@link JsonPropertyName}.
+     */
+    JsonPropertyName propertyName() {
+        final int c = this.nextNonWhitespace();
+        if ('"' != c) {
+            throw this.invalidCharacter(c);
+        }
+        this.scanString();
+
+        final JsonNodeTextSymbols symbols = this.symbols();
+        return null != symbols ?
+            symbols.propertyName(
+                this.stringChars,
+                this.stringStart,
+                this.stringLength
+            ) :
+            JsonPropertyName.with(
+                this.newString()
+            );
+    }
+
+    /**
+     * Reads a string literal, the current character must be the opening double quote. Short repeated strings are
+     * shared.
+     */
+    String string() {
+        this.scanString();
+
+        final JsonNodeTextSymbols symbols = this.symbols();
+        return null != symbols ?
+            symbols.string(
+                this.stringChars,
+                this.stringStart,
+                this.stringLength
+            ) :
+            this.newString();
+    }
+
+    private String newString() {
+        return new String(
+            this.stringChars,
+            this.stringStart,
+            this.stringLength
+        );
+    }
+
+    /**
+     * Reads a string literal, leaving its characters in {@link #stringChars}, {@link #stringStart} and
+     * {@link #stringLength}.
+     */
+    private void scanString() {
+        this.position++; // skip opening "
+
+        // fast path, the entire string is within the buffer and has no escapes
+        final char[] buffer = this.buffer;
+        final int start = this.position;
+        final int limit = this.limit;
+
+        for (int i = start; i < limit; i++) {
+            final char c = buffer[i];
+            if ('"' == c) {
+                this.position = i + 1;
+                this.stringChars = buffer;
+                this.stringStart = start;
+                this.stringLength = i - start;
+                return;
+            }
+            if ('\\' == c || c < 0x20) {
+                break;
+            }
+        }
+
+        // slow path copy characters into scratch
+        this.charsLength = 0;
+
+        for (; ; ) {
+            final int c = this.nextChar();
+            switch (c) {
+                case '"':
+                    this.stringChars = this.chars;
+                    this.stringStart = 0;
+                    this.stringLength = this.charsLength;
+                    return;
+                case '\\':
+                    this.appendChar(
+                        this.escaped()
+                    );
+                    break;
+                default:
+                    if (c < 0x20) {
+                        throw this.invalidCharacter(c);
+                    }
+                    this.appendChar((char) c);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * The characters of the last string read by {@link #scanString()}, either the {@link #buffer} or {@link #chars}.
+     */
+    private char[] stringChars;
+
+    private int stringStart;
+
+    private int stringLength;
+
+    /**
+     * Replaces the symbol table, allowing several parsers to share names and strings, such as the records of a batch.
+     */
+    JsonNodeTextParser setSymbols(final JsonNodeTextSymbols symbols) {
+        this.symbols = Objects.requireNonNull(symbols, "symbols");
+        return this;
+    }
+
+    /**
+     * Returns the {@link JsonNodeTextSymbols} or null if the text is too small to use one.
+     */
+    private JsonNodeTextSymbols symbols() {
+        if (null == this.symbols && false == this.small) {
+            this.symbols = JsonNodeTextSymbols.empty();
+        }
+        return this.symbols;
+    }
+
+    /**
+     * Shares repeated property names and short strings, lazily created for the life of this parser, unless one was set.
+     */
+    private JsonNodeTextSymbols symbols;
+
+    /**
+     * When true the text is shorter than {@link #MIN_SYMBOLS_LENGTH} and a {@link JsonNodeTextSymbols} is not created.
+     */
+    private final boolean small;
+
+    /**
+     * Reads the character after a backslash returning the unescaped character.
+     */
+    private char escaped() {
+        final char unescaped;
+
+        final int c = this.nextChar();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                unescaped = (char) c;
+                break;
+            case 'b':
+                unescaped = '\b';
+                break;
+            case 'f':
+                unescaped = '\f';
+                break;
+            case 'n':
+                unescaped = '\n';
+                break;
+            case 'r':
+                unescaped = '\r';
+                break;
+            case 't':
+                unescaped = '\t';
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int hex = this.nextChar();
+                    final int digit = hexDigit(hex);
+                    if (-1 == digit) {
+                        throw this.invalidCharacter(hex);
+                    }
+                    value = value * 16 + digit;
+                }
+                unescaped = (char) value;
+                break;
+            default:
+                throw this.invalidCharacter(c);
+        }
+
+        return unescaped;
+    }
+
+    /**
+     * Returns the value of an ASCII hex digit or -1. {@link Character#digit(char, int)} is not used because it also
+     * accepts other unicode digits and fullwidth letters, while RFC 8259 only allows ASCII hex digits.
+     */
+    private static int hexDigit(final int c) {
+        final int digit;
+
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            digit = c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            digit = c - 'A' + 10;
+        } else {
+            digit = -1;
+        }
+
+        return digit;
+    }
+
+    /**
+     * Reads a number, the current character must be a minus sign or digit.
+     */
+    private double number() {
+        this.charsLength = 0;
+        this.scanNumber(true);
+
+        return decodeNumber(
+            this.chars,
+            this.charsLength
+        );
+    }
+
+    /**
+     * Decodes the already validated number characters. Numbers with at most {@link #MAX_FAST_DIGITS} significant
+     * digits and a small decimal exponent, which covers most integers and prices, are decoded exactly with a single
+     * multiply or divide by an exact power of ten, avoiding the {@link String} and {@link Double#parseDouble(String)}.
+     * All other numbers fall back to {@link Double#parseDouble(String)}.
+     */
+    static double decodeNumber(final char[] chars,
+                               final int length) {
+        int i = 0;
+
+        final boolean negative = '-' == chars[0];
+        if (negative) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fast = true;
+
+        // integer and fraction digits
+        boolean fraction = false;
+        for (; i < length; i++) {
+            final char c = chars[i];
+            if ('.' == c) {
+                fraction = true;
+                continue;
+            }
+            if ('e' == c || 'E' == c) {
+                break;
+            }
+
+            if (0 != mantissa || '0' != c) {
+                digits++;
+                if (digits > MAX_FAST_DIGITS) {
+                    fast = false;
+                    break;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+            }
+            if (fraction) {
+                exponent--;
+            }
+        }
+
+        // exponent
+        if (fast && i < length) {
+            i++; // skip e
+
+            boolean negativeExponent = false;
+            final char sign = chars[i];
+            if ('-' == sign || '+' == sign) {
+                negativeExponent = '-' == sign;
+                i++;
+            }
+
+            int value = 0;
+            for (; i < length; i++) {
+                value = value * 10 + (chars[i] - '0');
+                if (value > MAX_POWER_OF_TEN * 2) {
+                    fast = false;
+                    break;
+                }
+            }
+
+            exponent += negativeExponent ?
+                -value :
+                value;
+        }
+
+        final double decoded;
+        if (fast && 0 == mantissa) {
+            decoded = negative ?
+                -0.0 :
+                0.0;
+        } else if (fast && exponent >= -MAX_POWER_OF_TEN && exponent <= MAX_POWER_OF_TEN) {
+            final double value = exponent < 0 ?
+                mantissa / POWERS_OF_TEN[-exponent] :
+                mantissa * POWERS_OF_TEN[exponent];
+            decoded = negative ?
+                -value :
+                value;
+        } else {
+            decoded = Double.parseDouble(
+                new String(
+                    chars,
+                    0,
+                    length
+                )
+            );
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Any mantissa with this many digits is below 2^53 and therefore exactly representable as a double.
+     */
+    private final static int MAX_FAST_DIGITS = 15;
+
+    /**
+     * The largest power of ten that is exactly representable as a double.
+     */
+    private final static int MAX_POWER_OF_TEN = 22;
+
+    private final static double[] POWERS_OF_TEN = new double[]{
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+
+    /**
+     * Consumes a number, optionally appending the characters to the scratch buffer.
+     */
+    private void scanNumber(final boolean append) {
+        if ('-' == this.peekChar()) {
+            this.appendCharIf('-', append);
+            this.position++;
+        }
+
+        // integer
+        int c = this.peekChar();
+        if ('0' == c) {
+            this.appendCharIf('0', append);
+            this.position++;
+        } else {
+            this.digits(append);
+        }
+
+        // fraction
+        c = this.peekChar();
+        if ('.' == c) {
+            this.appendCharIf('.', append);
+            this.position++;
+            this.digits(append);
+            c = this.peekChar();
+        }
+
+        // exponent
+        if ('e' == c || 'E' == c) {
+            this.appendCharIf('e', append);
+            this.position++;
+
+            c = this.peekChar();
+            if ('+' == c || '-' == c) {
+                this.appendCharIf((char) c, append);
+                this.position++;
+            }
+            this.digits(append);
+        }
+    }
+
+    /**
+     * Consumes one or more digits.
+     */
+    private void digits(final boolean append) {
+        int c = this.peekChar();
+        if (false == isDigit(c)) {
+            throw this.invalidCharacter(c);
+        }
+
+        do {
+            this.appendCharIf((char) c, append);
+            this.position++;
+            c = this.peekChar();
+        } while (isDigit(c));
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Consumes the given literal, the first character has already been matched but not consumed.
+     */
+    private void literal(final String literal) {
+        final int length = literal.length();
+        for (int i = 0; i < length; i++) {
+            final int c = this.nextChar();
+            if (literal.charAt(i) != c) {
+                throw this.invalidCharacter(c);
+            }
+        }
+    }
+
+    // skip.............................................................................................................
+
+    /**
+     * Consumes and validates the next JSON value without creating any {@link JsonNode} or {@link String}.
+     */
+    void skipValue() {
+        final int c = this.nextNonWhitespace();
+        switch (c) {
+            case '{':
+                this.position++;
+                this.enter();
+
+                if (false == this.consumeIf('}')) {
+                    do {
+                        final int quote = this.nextNonWhitespace();
+                        if ('"' != quote) {
+                            throw this.invalidCharacter(quote);
+                        }
+                        this.skipString();
+                        this.expect(':');
+                        this.skipValue();
+                    } while (this.consumeIf(','));
+
+                    this.expect('}');
+                }
+
+                this.depth--;
+                break;
+            case '[':
+                this.position++;
+                this.enter();
+
+                if (false == this.consumeIf(']')) {
+                    do {
+                        this.skipValue();
+                    } while (this.consumeIf(','));
+
+                    this.expect(']');
+                }
+
+                this.depth--;
+                break;
+            case '"':
+                this.skipString();
+                break;
+            case 't':
+                this.literal("true");
+                break;
+            case 'f':
+                this.literal("false");
+                break;
+            case 'n':
+                this.literal("null");
+                break;
+            default:
+                if ('-' == c || isDigit(c)) {
+                    this.scanNumber(false);
+                    break;
+                }
+                throw this.invalidCharacter(c);
+        }
+    }
+
+    /**
+     * Consumes and validates a string literal, the current character must be the opening double quote.
+     */
+    void skipString() {
+        this.position++; // skip opening "
+
+        for (; ; ) {
+            // skip plain characters within the buffer
+            final char[] buffer = this.buffer;
+            final int limit = this.limit;
+            int i = this.position;
+            while (i < limit) {
+                final char c = buffer[i];
+                if ('"' == c || '\\' == c || c < 0x20) {
+                    break;
+                }
+                i++;
+            }
+            this.position = i;
+
+            final int c = this.nextChar();
+            switch (c) {
+                case '"':
+                    return;
+                case '\\':
+                    this.escaped();
+                    break;
+                default:
+                    if (c < 0x20) {
+                        throw this.invalidCharacter(c);
+                    }
+                    break;
+            }
+        }
+    }
+
+    // scratch..........................................................................................................
+
+    private void appendCharIf(final char c,
+                              final boolean append) {
+        if (append) {
+            this.appendChar(c);
+        }
+    }
+
+    private void appendChar(final char c) {
+        final int length = this.charsLength;
+        char[] chars = this.chars;
+        if (length == chars.length) {
+            final char[] copy = new char[length * 2];
+            System.arraycopy(
+                chars,
+                0,
+                copy,
+                0,
+                length
+            );
+            this.chars = chars = copy;
+        }
+        chars[length] = c;
+        this.charsLength = length + 1;
+    }
+
+    /**
+     * Scratch buffer used to accumulate characters for strings that span buffer fills or contain escapes and numbers.
+     */
+    private char[] chars = new char[64];
+
+    private int charsLength;
+
+    // characters.......................................................................................................
+
+    /**
+     * Skips any whitespace and returns but does not consume the next character.
+     */
+    int nextNonWhitespace() {
+        for (; ; ) {
+            final int c = this.peekChar();
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    this.position++;
+                    break;
+                default:
+                    return c;
+            }
+        }
+    }
+
+    /**
+     * Skips any whitespace and consumes the next character if it matches the given character.
+     */
+    boolean consumeIf(final char c) {
+        final boolean consumed = c == this.nextNonWhitespace();
+        if (consumed) {
+            this.position++;
+        }
+        return consumed;
+    }
+
+    /**
+     * Skips any whitespace and consumes the expected character or fails.
+     */
+    void expect(final char c) {
+        final int next = this.nextNonWhitespace();
+        if (c != next) {
+            throw this.invalidCharacter(next);
+        }
+        this.position++;
+    }
+
+    /**
+     * Returns and consumes the next character.
+     */
+    private int nextChar() {
+        final int c = this.peekChar();
+        if (EOF != c) {
+            this.position++;
+        }
+        return c;
+    }
+
+    /**
+     * Returns but does not consume the next character, refilling the buffer when necessary.
+     */
+    private int peekChar() {
+        return this.position < this.limit || this.fill() ?
+            this.buffer[this.position] :
+            EOF;
+    }
+
+    /**
+     * Refills the buffer from the source, returning false if the source has been exhausted.
+     */
+    private boolean fill() {
+        this.offset += this.limit;
+        this.position = 0;
+        this.limit = 0;
+
+        final char[] buffer = this.buffer;
+        final int count;
+
+        final CharSequence text = this.text;
+        if (null != text) {
+            final int offset = (int) this.offset; // a CharSequence never holds more than Integer.MAX_VALUE chars
+            count = Math.min(
+                buffer.length,
+                this.end - offset
+            );
+            if (text instanceof String) {
+                // copy the whole block at once
+                ((String) text).getChars(
+                    offset,
+                    offset + count,
+                    buffer,
+                    0
+                );
+            } else {
+                for (int i = 0; i < count; i++) {
+                    buffer[i] = text.charAt(offset + i);
+                }
+            }
+        } else {
+            count = this.read(buffer);
+        }
+
+        this.limit = Math.max(
+            0,
+            count
+        );
+        return count > 0;
+    }
+
+    private int read(final char[] buffer) {
+        try {
+            int count;
+            do {
+                count = this.reader.read(
+                    buffer,
+                    0,
+                    buffer.length
+                );
+            } while (0 == count);
+
+            return count;
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    /**
+     * Returns the absolute position of the next character, useful for error reporting. This counts chars and not
+     * bytes, and is a long because a {@link Reader} source may supply more than {@link Integer#MAX_VALUE} chars.
+     */
+    long position() {
+        return this.offset + this.position;
+    }
+
+    /**
+     * The source of characters when reading from a {@link Reader}.
+     */
+    private final Reader reader;
+
+    /**
+     * The source of characters when reading from a {@link CharSequence}.
+     */
+    private final CharSequence text;
+
+    /**
+     * The end of the characters within {@link #text} that will be read.
+     */
+    private final int end;
+
+    private final char[] buffer;
+
+    /**
+     * The position of the next character within the {@link #buffer}.
+     */
+    private int position;
+
+    /**
+     * The number of valid characters in the {@link #buffer}.
+     */
+    private int limit;
+
+    /**
+     * The absolute position of the first character in the {@link #buffer}.
+     */
+    private long offset;
+
+    // errors...........................................................................................................
+
+    IllegalArgumentException invalidCharacter(final int c) {
+        return new IllegalArgumentException(
+            EOF == c ?
+                "Incomplete json at " + this.position() :
+                "Invalid character " + quote(c) + " at " + this.position()
+        );
+    }
+
+    private static String quote(final int c) {
+        return '\'' + String.valueOf((char) c) + '\'';
+    }
+}
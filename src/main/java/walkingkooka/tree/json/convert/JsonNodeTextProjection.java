@@ -0,0 +1,343 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A tree of path segments, used to parse only selected parts of JSON text. Paths are slash separated property names
+ * or array indices, where a star matches any property or element, for example <code>/items/*&#47;id</code>. Values
+ * that are not selected are skipped by the parser without creating any {@link JsonNode}.
+ * <br>
+ * Within a segment <code>~1</code> is a slash and <code>~0</code> a tilde, as in JSON Pointer, and <code>~2</code> is a
+ * property literally named star.
+ * <br>
+ * A property or element is kept only if it is selected or contains a selected value, all others, whether scalars,
+ * objects or arrays, are omitted. Omitted array elements are removed, so indices in the result may differ from the
+ * text. The root object or array is always returned, even if it is empty.
+ */
+final class JsonNodeTextProjection {
+
+    private final static String SEPARATOR = "/";
+
+    private final static String WILDCARD = "*";
+
+    private final static char ESCAPE = '~';
+
+    /**
+     * Creates a {@link JsonNodeTextProjection} from one or more paths.
+     */
+    static JsonNodeTextProjection parse(final List<String> paths) {
+        Objects.requireNonNull(paths, "paths");
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("Missing paths");
+        }
+
+        final JsonNodeTextProjection root = new JsonNodeTextProjection();
+        for (final String path : paths) {
+            root.add(path);
+        }
+        root.mergeWildcard();
+        return root;
+    }
+
+    private JsonNodeTextProjection() {
+        super();
+    }
+
+    private void add(final String path) {
+        Objects.requireNonNull(path, "path");
+        if (false == path.startsWith(SEPARATOR)) {
+            throw new IllegalArgumentException("Invalid path " + path + " must start with " + SEPARATOR);
+        }
+
+        JsonNodeTextProjection projection = this;
+
+        if (path.length() > 1) {
+            for (final String segment : path.substring(1).split(SEPARATOR, -1)) {
+                if (segment.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid path " + path + " contains empty segment");
+                }
+                projection = WILDCARD.equals(segment) ?
+                    projection.addWildcard() :
+                    projection.addChild(
+                        unescape(
+                            segment,
+                            path
+                        )
+                    );
+            }
+        }
+
+        projection.selected = true;
+    }
+
+    /**
+     * Replaces <code>~0</code>, <code>~1</code> and <code>~2</code> with a tilde, slash and star.
+     */
+    private static String unescape(final String segment,
+                                   final String path) {
+        String unescaped = segment;
+
+        if (-1 != segment.indexOf(ESCAPE)) {
+            final StringBuilder b = new StringBuilder();
+            final int length = segment.length();
+
+            for (int i = 0; i < length; i++) {
+                final char c = segment.charAt(i);
+                if (ESCAPE == c) {
+                    i++;
+                    final char escaped = i < length ?
+                        segment.charAt(i) :
+                        0;
+                    switch (escaped) {
+                        case '0':
+                            b.append(ESCAPE);
+                            break;
+                        case '1':
+                            b.append(SEPARATOR);
+                            break;
+                        case '2':
+                            b.append(WILDCARD);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Invalid path " + path + " contains invalid escape in " + segment);
+                    }
+                } else {
+                    b.append(c);
+                }
+            }
+
+            unescaped = b.toString();
+        }
+
+        return unescaped;
+    }
+
+    private JsonNodeTextProjection addChild(final String name) {
+        JsonNodeTextProjection child = this.children.get(name);
+        if (null == child) {
+            child = new JsonNodeTextProjection();
+            this.children.put(
+                name,
+                child
+            );
+        }
+        return child;
+    }
+
+    private JsonNodeTextProjection addWildcard() {
+        JsonNodeTextProjection wildcard = this.wildcard;
+        if (null == wildcard) {
+            this.wildcard = wildcard = new JsonNodeTextProjection();
+        }
+        return wildcard;
+    }
+
+    /**
+     * Merges the wildcard into each named child, so a lookup by name returns a single projection.
+     */
+    private void mergeWildcard() {
+        final JsonNodeTextProjection wildcard = this.wildcard;
+
+        for (final Map.Entry<String, JsonNodeTextProjection> nameAndChild : this.children.entrySet()) {
+            final JsonNodeTextProjection child = nameAndChild.getValue();
+            if (null != wildcard) {
+                child.merge(wildcard);
+            }
+            child.mergeWildcard();
+        }
+
+        if (null != wildcard) {
+            wildcard.mergeWildcard();
+        }
+    }
+
+    private void merge(final JsonNodeTextProjection other) {
+        this.selected |= other.selected;
+
+        for (final Map.Entry<String, JsonNodeTextProjection> nameAndChild : other.children.entrySet()) {
+            this.addChild(nameAndChild.getKey())
+                .merge(nameAndChild.getValue());
+        }
+
+        if (null != other.wildcard) {
+            this.addWildcard()
+                .merge(other.wildcard);
+        }
+    }
+
+    /**
+     * Returns the projection for the given property name or array index, or null if it is not selected.
+     */
+    private JsonNodeTextProjection child(final String nameOrIndex) {
+        final JsonNodeTextProjection child = this.children.get(nameOrIndex);
+        return null != child ?
+            child :
+            this.wildcard;
+    }
+
+    private JsonNodeTextProjection child(final int index) {
+        return this.children.isEmpty() ?
+            this.wildcard :
+            this.child(String.valueOf(index));
+    }
+
+    /**
+     * When true the entire value at this path is selected.
+     */
+    private boolean selected;
+
+    private final Map<String, JsonNodeTextProjection> children = Maps.sorted();
+
+    private JsonNodeTextProjection wildcard;
+
+    // parse............................................................................................................
+
+    /**
+     * Parses the next value from the given {@link JsonNodeTextParser}, only creating the {@link JsonNode} for selected
+     * values. If the root value is not an object or array and is not selected a {@link JsonNode#nullNode()} is returned.
+     */
+    JsonNode parse(final JsonNodeTextParser parser) {
+        final JsonNode node;
+
+        if (this.selected) {
+            node = parser.value();
+        } else {
+            switch (parser.nextNonWhitespace()) {
+                case '{':
+                    node = this.object(parser);
+                    break;
+                case '[':
+                    node = this.array(parser);
+                    break;
+                default:
+                    parser.skipValue();
+                    node = JsonNode.nullNode();
+                    break;
+            }
+        }
+
+        parser.end();
+        return node;
+    }
+
+    /**
+     * Returns null when the value is not selected and contains no selected value.
+     */
+    private JsonNode value(final JsonNodeTextParser parser) {
+        JsonNode value;
+
+        if (this.selected) {
+            value = parser.value();
+        } else {
+            switch (parser.nextNonWhitespace()) {
+                case '{':
+                    value = this.object(parser);
+                    break;
+                case '[':
+                    value = this.array(parser);
+                    break;
+                default:
+                    parser.skipValue();
+                    value = null;
+                    break;
+            }
+
+            // omit objects and arrays that are not selected and hold nothing selected, just like scalars
+            if (null != value && value.children().isEmpty()) {
+                value = null;
+            }
+        }
+
+        return value;
+    }
+
+    private JsonNode object(final JsonNodeTextParser parser) {
+        parser.expect('{');
+
+        final List<JsonNode> children = Lists.array();
+
+        if (false == parser.consumeIf('}')) {
+            do {
+                final JsonPropertyName name = parser.propertyName();
+                parser.expect(':');
+
+                final JsonNodeTextProjection child = this.child(name.value());
+                if (null == child) {
+                    parser.skipValue();
+                } else {
+                    final JsonNode value = child.value(parser);
+                    if (null != value) {
+                        children.add(
+                            value.setName(name)
+                        );
+                    }
+                }
+            } while (parser.consumeIf(','));
+
+            parser.expect('}');
+        }
+
+        return JsonNode.object()
+            .setChildren(children);
+    }
+
+    private JsonNode array(final JsonNodeTextParser parser) {
+        parser.expect('[');
+
+        final List<JsonNode> children = Lists.array();
+
+        if (false == parser.consumeIf(']')) {
+            int i = 0;
+            do {
+                final JsonNodeTextProjection child = this.child(i);
+                if (null == child) {
+                    parser.skipValue();
+                } else {
+                    final JsonNode value = child.value(parser);
+                    if (null != value) {
+                        children.add(value);
+                    }
+                }
+                i++;
+            } while (parser.consumeIf(','));
+
+            parser.expect(']');
+        }
+
+        return JsonNode.array()
+            .setChildren(children);
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return (this.selected ? "*selected* " : "") +
+            this.children +
+            (null != this.wildcard ? " " + WILDCARD + "=" + this.wildcard : "");
+    }
+}
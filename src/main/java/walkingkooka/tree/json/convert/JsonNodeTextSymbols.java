@@ -0,0 +1,341 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Objects;
+
+/**
+ * A symbol table used by a single {@link JsonNodeTextParser} to share the {@link String} and {@link JsonPropertyName}
+ * of repeated property names and short string values, such as the keys of an array of objects. Lookups hash the
+ * characters directly from the parser buffer, so a hit creates no objects. The table stops growing once it holds
+ * {@link #MAX_SIZE} symbols, after which new text is simply copied. The slots are only allocated when the first symbol
+ * is added.
+ * <br>
+ * A table may have a parent, which is searched first but never modified, allowing several threads each with their own
+ * table to share the symbols of a parent that is no longer being added to.
+ */
+final class JsonNodeTextSymbols {
+
+    /**
+     * String values longer than this are never shared.
+     */
+    final static int MAX_STRING_LENGTH = 32;
+
+    /**
+     * Property names longer than this are never shared, so unusually long names do not fill the table.
+     */
+    final static int MAX_PROPERTY_NAME_LENGTH = 128;
+
+    /**
+     * The maximum number of symbols.
+     */
+    final static int MAX_SIZE = 4096;
+
+    private final static int INITIAL_CAPACITY = 64;
+
+    static JsonNodeTextSymbols empty() {
+        return new JsonNodeTextSymbols(null);
+    }
+
+    /**
+     * Creates an empty table that first searches the given parent, which must no longer be added to.
+     */
+    static JsonNodeTextSymbols withParent(final JsonNodeTextSymbols parent) {
+        return new JsonNodeTextSymbols(
+            Objects.requireNonNull(parent, "parent")
+        );
+    }
+
+    private JsonNodeTextSymbols(final JsonNodeTextSymbols parent) {
+        super();
+        this.parent = parent;
+    }
+
+    /**
+     * Returns a shared {@link String} with the given characters, short strings only.
+     */
+    String string(final char[] chars,
+                  final int start,
+                  final int length) {
+        String string = null;
+
+        if (length <= MAX_STRING_LENGTH) {
+            final int hash = hash(
+                chars,
+                start,
+                length
+            );
+
+            final JsonNodeTextSymbols parent = this.parent;
+            if (null != parent) {
+                final int index = parent.find(
+                    hash,
+                    chars,
+                    start,
+                    length
+                );
+                if (-1 != index) {
+                    string = parent.keys[index];
+                }
+            }
+
+            if (null == string) {
+                final int index = this.add(
+                    hash,
+                    chars,
+                    start,
+                    length
+                );
+                if (-1 != index) {
+                    string = this.keys[index];
+                }
+            }
+        }
+
+        return null != string ?
+            string :
+            new String(
+                chars,
+                start,
+                length
+            );
+    }
+
+    /**
+     * Returns a shared {@link JsonPropertyName} with the given characters, names that are too long are not shared.
+     */
+    JsonPropertyName propertyName(final char[] chars,
+                                  final int start,
+                                  final int length) {
+        JsonPropertyName name = null;
+
+        if (length <= MAX_PROPERTY_NAME_LENGTH) {
+            final int hash = hash(
+                chars,
+                start,
+                length
+            );
+
+            final JsonNodeTextSymbols parent = this.parent;
+            if (null != parent) {
+                final int index = parent.find(
+                    hash,
+                    chars,
+                    start,
+                    length
+                );
+                // the parent is never modified, so a key that was not yet used as a name is added below
+                if (-1 != index) {
+                    name = parent.names[index];
+                }
+            }
+
+            if (null == name) {
+                final int index = this.add(
+                    hash,
+                    chars,
+                    start,
+                    length
+                );
+                if (-1 != index) {
+                    name = this.names[index];
+                    if (null == name) {
+                        name = JsonPropertyName.with(this.keys[index]);
+                        this.names[index] = name;
+                    }
+                }
+            }
+        }
+
+        return null != name ?
+            name :
+            JsonPropertyName.with(
+                new String(
+                    chars,
+                    start,
+                    length
+                )
+            );
+    }
+
+    private static int hash(final char[] chars,
+                            final int start,
+                            final int length) {
+        int hash = 0;
+        final int end = start + length;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the slot holding the given characters or -1 if they are absent, never modifies this table.
+     */
+    private int find(final int hash,
+                     final char[] chars,
+                     final int start,
+                     final int length) {
+        final String[] keys = this.keys;
+        if (null != keys) {
+            final int mask = keys.length - 1;
+            int index = hash & mask;
+
+            for (; ; ) {
+                final String key = keys[index];
+                if (null == key) {
+                    break;
+                }
+                if (hash == this.hashes[index] && equals(key, chars, start, length)) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds or adds the given characters returning their slot, or -1 if they are absent and the table is full.
+     */
+    private int add(final int hash,
+                    final char[] chars,
+                    final int start,
+                    final int length) {
+        final int found = this.find(
+            hash,
+            chars,
+            start,
+            length
+        );
+        if (-1 != found) {
+            return found;
+        }
+
+        if (this.size >= MAX_SIZE) {
+            return -1;
+        }
+
+        if (null == this.keys) {
+            this.keys = new String[INITIAL_CAPACITY];
+            this.hashes = new int[INITIAL_CAPACITY];
+            this.names = new JsonPropertyName[INITIAL_CAPACITY];
+        } else {
+            // keep the load factor below half
+            if ((this.size + 1) * 2 > this.keys.length) {
+                this.grow();
+            }
+        }
+
+        final String[] keys = this.keys;
+        final int mask = keys.length - 1;
+        int index = hash & mask;
+        while (null != keys[index]) {
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = new String(
+            chars,
+            start,
+            length
+        );
+        this.hashes[index] = hash;
+        this.size++;
+
+        return index;
+    }
+
+    private static boolean equals(final String key,
+                                  final char[] chars,
+                                  final int start,
+                                  final int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void grow() {
+        final String[] keys = this.keys;
+        final int[] hashes = this.hashes;
+        final JsonPropertyName[] names = this.names;
+
+        final int capacity = keys.length * 2;
+        final int mask = capacity - 1;
+
+        final String[] newKeys = new String[capacity];
+        final int[] newHashes = new int[capacity];
+        final JsonPropertyName[] newNames = new JsonPropertyName[capacity];
+
+        for (int i = 0; i < keys.length; i++) {
+            final String key = keys[i];
+            if (null != key) {
+                int index = hashes[i] & mask;
+                while (null != newKeys[index]) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = key;
+                newHashes[index] = hashes[i];
+                newNames[index] = names[i];
+            }
+        }
+
+        this.keys = newKeys;
+        this.hashes = newHashes;
+        this.names = newNames;
+    }
+
+    /**
+     * The number of symbols.
+     */
+    int size() {
+        return this.size;
+    }
+
+    private int size;
+
+    /**
+     * Searched before this table, and never modified.
+     */
+    private final JsonNodeTextSymbols parent;
+
+    /**
+     * The slots, all three arrays are null until the first symbol is added.
+     */
+    private String[] keys;
+
+    private int[] hashes;
+
+    /**
+     * Lazily created {@link JsonPropertyName} for keys used as property names.
+     */
+    private JsonPropertyName[] names;
+
+    @Override
+    public String toString() {
+        return "size=" + this.size;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.map.Maps;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.Indentation;
+import walkingkooka.text.LineEnding;
+import walkingkooka.tree.json.JsonNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prints a {@link JsonNode} directly to an {@link Appendable}, {@link Writer} or UTF-8 {@link OutputStream}, producing
+ * the same text as {@link JsonNode#toJsonText(Indentation, LineEnding)}, without first creating a {@link String} of the
+ * entire document. Output to an {@link OutputStream} is encoded in fixed size chunks, so memory is bounded by the chunk
+ * size rather than the document size. Scalar values are printed directly, only strings that need escaping and numbers
+ * that {@link Double#toString(double)} would print with an exponent are printed by the {@link JsonNode} itself.
+ * <br>
+ * The output {@link Writer} or {@link OutputStream} is flushed but not closed. Instances are not thread safe.
+ */
+public final class JsonNodeTextWriter {
+
+    /**
+     * Creates a {@link JsonNodeTextWriter} using the {@link Indentation} and {@link LineEnding} of the given context.
+     */
+    public static JsonNodeTextWriter with(final JsonNodeConverterContext context) {
+        Objects.requireNonNull(context, "context");
+
+        return with(
+            context.indentation(),
+            context.lineEnding()
+        );
+    }
+
+    public static JsonNodeTextWriter with(final Indentation indentation,
+                                          final LineEnding lineEnding) {
+        return new JsonNodeTextWriter(
+            Objects.requireNonNull(indentation, "indentation"),
+            Objects.requireNonNull(lineEnding, "lineEnding")
+        );
+    }
+
+    private JsonNodeTextWriter(final Indentation indentation,
+                               final LineEnding lineEnding) {
+        this.indentation = indentation;
+        this.indentationText = indentation.toString();
+        this.lineEnding = lineEnding;
+        this.lineEndingText = lineEnding.toString();
+
+        this.newLines = newLines(
+            this.indentationText,
+            this.lineEndingText
+        );
+    }
+
+    /**
+     * Returns the shared table of line ending followed by indentation for each depth, creating it if necessary.
+     */
+    private static String[] newLines(final String indentation,
+                                     final String lineEnding) {
+        final String key = indentation + '|' + lineEnding;
+
+        String[] newLines = NEW_LINES.get(key);
+        if (null == newLines) {
+            newLines = new String[NEW_LINES_DEPTH];
+
+            final StringBuilder b = new StringBuilder(lineEnding);
+            for (int i = 0; i < NEW_LINES_DEPTH; i++) {
+                newLines[i] = b.toString();
+                b.append(indentation);
+            }
+
+            NEW_LINES.put(
+                key,
+                newLines
+            );
+        }
+        return newLines;
+    }
+
+    /**
+     * The number of depths precomputed in each table, deeper values are built as needed.
+     */
+    final static int NEW_LINES_DEPTH = 16;
+
+    /**
+     * Line ending and indentation tables, there are only a handful of {@link Indentation} and {@link LineEnding} in
+     * practice.
+     */
+    private final static Map<String, String[]> NEW_LINES = new ConcurrentHashMap<>();
+
+    /**
+     * Prints the {@link JsonNode} to a new {@link String}. The {@link StringBuilder} is kept by this writer and reused by
+     * the next call unless it grew beyond {@link #MAX_REUSED_CAPACITY}, and new builders are sized using the length of
+     * the last {@link String} written by any writer, so similar values are rarely copied while growing.
+     */
+    public String write(final JsonNode node) {
+        StringBuilder b = this.builder;
+        if (null == b) {
+            b = new StringBuilder(estimate);
+        }
+        this.builder = null;
+
+        this.write(
+            node,
+            b
+        );
+
+        final String text = b.toString();
+        final int length = text.length();
+
+        estimate = Math.min(
+            Math.max(
+                length,
+                INITIAL_CAPACITY
+            ),
+            MAX_REUSED_CAPACITY
+        );
+
+        if (b.capacity() <= MAX_REUSED_CAPACITY) {
+            b.setLength(0);
+            this.builder = b;
+        }
+        return text;
+    }
+
+    /**
+     * The smallest capacity of a new {@link StringBuilder}, large enough for most small values.
+     */
+    final static int INITIAL_CAPACITY = 256;
+
+    /**
+     * Larger {@link StringBuilder} are discarded after use rather than retained, and estimates are never larger.
+     */
+    final static int MAX_REUSED_CAPACITY = 64 * 1024;
+
+    /**
+     * The capacity of the next new {@link StringBuilder}, the length of the last {@link String} written. Updates from
+     * different threads may overwrite each other, which only affects the next estimate.
+     */
+    private static volatile int estimate = INITIAL_CAPACITY;
+
+    /**
+     * The {@link StringBuilder} from the previous {@link #write(JsonNode)}, empty and ready to be reused.
+     */
+    private StringBuilder builder;
+
+    /**
+     * Prints the {@link JsonNode} into a {@link JsonNodeSegmentedText}, which holds the text in fixed size chunks,
+     * avoiding the single huge allocation of {@link #write(JsonNode)} for very large values.
+     */
+    public JsonNodeSegmentedText writeSegmented(final JsonNode node) {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        this.write(
+            node,
+            appendable
+        );
+        return appendable.build();
+    }
+
+    /**
+     * Prints the {@link JsonNode} to the given {@link Writer} and then flushes it.
+     */
+    public void write(final JsonNode node,
+                      final Writer writer) {
+        this.write(
+            node,
+            (Appendable) writer
+        );
+
+        try {
+            writer.flush();
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    /**
+     * Prints the {@link JsonNode} as UTF-8 to the given {@link OutputStream} in chunks and then flushes it.
+     */
+    public void write(final JsonNode node,
+                      final OutputStream outputStream) {
+        Objects.requireNonNull(outputStream, "outputStream");
+
+        final JsonNodeUtf8Appendable appendable = JsonNodeUtf8Appendable.with(outputStream);
+        this.write(
+            node,
+            appendable
+        );
+
+        try {
+            appendable.flush();
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    /**
+     * Prints the {@link JsonNode} to the given {@link Appendable}.
+     */
+    public void write(final JsonNode node,
+                      final Appendable appendable) {
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(appendable, "appendable");
+
+        try {
+            this.value(
+                node,
+                0,
+                appendable
+            );
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    private void value(final JsonNode node,
+                       final int depth,
+                       final Appendable appendable) throws IOException {
+        final List<JsonNode> children = node.children();
+
+        if (node.isNull()) {
+            appendable.append("null");
+        } else if (node.isBoolean()) {
+            appendable.append(
+                node.booleanOrFail() ?
+                    "true" :
+                    "false"
+            );
+        } else if (node.isNumber()) {
+            this.number(
+                node,
+                appendable
+            );
+        } else if (node.isString()) {
+            this.string(
+                node.stringOrFail(),
+                appendable
+            );
+        } else if (children.isEmpty()) {
+            appendable.append(
+                node.isObject() ?
+                    "{}" :
+                    "[]"
+            );
+        } else {
+            final boolean object = node.isObject();
+            appendable.append(
+                object ?
+                    '{' :
+                    '['
+            );
+
+            final int childDepth = depth + 1;
+            boolean first = true;
+
+            for (final JsonNode child : children) {
+                if (false == first) {
+                    appendable.append(',');
+                }
+                first = false;
+
+                appendable.append(
+                    this.newLine(childDepth)
+                );
+
+                if (object) {
+                    this.string(
+                        child.name()
+                            .value(),
+                        appendable
+                    );
+                    appendable.append(": ");
+                }
+
+                this.value(
+                    child,
+                    childDepth,
+                    appendable
+                );
+            }
+
+            appendable.append(
+                this.newLine(depth)
+            );
+            appendable.append(
+                object ?
+                    '}' :
+                    ']'
+            );
+        }
+    }
+
+    /**
+     * Returns the line ending followed by the indentation for the given depth.
+     */
+    private String newLine(final int depth) {
+        final String[] newLines = this.newLines;
+
+        String newLine;
+        if (depth < newLines.length) {
+            newLine = newLines[depth];
+        } else {
+            final StringBuilder b = new StringBuilder(newLines[newLines.length - 1]);
+            for (int i = newLines.length - 1; i < depth; i++) {
+                b.append(this.indentationText);
+            }
+            newLine = b.toString();
+        }
+        return newLine;
+    }
+
+    /**
+     * Integers and decimals that {@link Double#toString(double)} prints without an exponent are printed directly, any
+     * other number is printed by the {@link JsonNode}.
+     */
+    private void number(final JsonNode node,
+                        final Appendable appendable) throws IOException {
+        final double value = node.numberOrFail()
+            .doubleValue();
+        final long integer = (long) value;
+        final double abs = Math.abs(value);
+
+        if (integer == value && integer >= -MAX_INTEGER && integer <= MAX_INTEGER && (0 != integer || 1 / value > 0)) {
+            appendable.append(
+                Long.toString(integer)
+            );
+        } else if (abs >= 1E-3 && abs < 1E7) {
+            appendable.append(
+                String.valueOf(value)
+            );
+        } else {
+            appendable.append(
+                node.toJsonText(
+                    this.indentation,
+                    this.lineEnding
+                )
+            );
+        }
+    }
+
+    /**
+     * Larger integers are not exact and are printed by the {@link JsonNode}.
+     */
+    private final static long MAX_INTEGER = 1L << 53;
+
+    /**
+     * Strings and property names made of printable ASCII without a quote or backslash are printed as is, anything else
+     * is quoted and escaped by a {@link JsonNode#string(String)} so escaping is identical and remembered, so repeated
+     * values such as the property names in an array of objects are only escaped once.
+     */
+    private void string(final String value,
+                        final Appendable appendable) throws IOException {
+        if (isPlain(value)) {
+            appendable.append('"');
+            appendable.append(value);
+            appendable.append('"');
+        } else {
+            Map<String, String> quoted = this.quoted;
+            if (null == quoted) {
+                quoted = Maps.hash();
+                this.quoted = quoted;
+            }
+
+            String text = quoted.get(value);
+            if (null == text) {
+                text = JsonNode.string(value)
+                    .toJsonText(
+                        this.indentation,
+                        this.lineEnding
+                    );
+                quoted.put(
+                    value,
+                    text
+                );
+            }
+            appendable.append(text);
+        }
+    }
+
+    private static boolean isPlain(final String value) {
+        final int length = value.length();
+
+        boolean plain = true;
+        for (int i = 0; plain && i < length; i++) {
+            final char c = value.charAt(i);
+            plain = c >= ' ' && c <= '~' && '"' != c && '\\' != c;
+        }
+        return plain;
+    }
+
+    /**
+     * Quoted and escaped strings that needed escaping, created when the first is printed, so writers that only print
+     * plain strings never allocate a {@link Map}.
+     */
+    private Map<String, String> quoted;
+
+    private final Indentation indentation;
+
+    private final String indentationText;
+
+    private final LineEnding lineEnding;
+
+    private final String lineEndingText;
+
+    /**
+     * Line ending followed by indentation indexed by depth.
+     */
+    private final String[] newLines;
+
+    @Override
+    public String toString() {
+        return CharSequences.quoteAndEscape(this.indentationText) + " " + CharSequences.quoteAndEscape(this.lineEndingText);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link Appendable} that encodes characters as UTF-8 into a fixed size buffer, writing the buffer to an
+ * {@link OutputStream} each time it fills, so the output is never held in memory as a single {@link String} or byte
+ * array. Unpaired surrogates are written as a question mark, matching {@link String#getBytes(java.nio.charset.Charset)}.
+ * Note {@link #flush()} must be called once all characters are appended, and the {@link OutputStream} is not closed.
+ */
+final class JsonNodeUtf8Appendable implements Appendable {
+
+    /**
+     * The number of bytes buffered before they are written to the {@link OutputStream}.
+     */
+    final static int BUFFER_SIZE = 8192;
+
+    static JsonNodeUtf8Appendable with(final OutputStream outputStream) {
+        return new JsonNodeUtf8Appendable(outputStream);
+    }
+
+    private JsonNodeUtf8Appendable(final OutputStream outputStream) {
+        super();
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars) throws IOException {
+        final CharSequence text = null == chars ?
+            "null" :
+            chars;
+        return this.append(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars,
+                             final int start,
+                             final int end) throws IOException {
+        final CharSequence text = null == chars ?
+            "null" :
+            chars;
+
+        int i = start;
+        while (i < end) {
+            // ascii fast path
+            if (0 == this.highSurrogate) {
+                final byte[] bytes = this.bytes;
+                int position = this.position;
+
+                while (i < end && position < bytes.length) {
+                    final char c = text.charAt(i);
+                    if (c >= 0x80) {
+                        break;
+                    }
+                    bytes[position++] = (byte) c;
+                    i++;
+                }
+
+                this.position = position;
+                if (position == bytes.length) {
+                    this.writeBuffer();
+                    continue;
+                }
+            }
+
+            if (i < end) {
+                this.append(text.charAt(i));
+                i++;
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        if (this.position + 4 > this.bytes.length) {
+            this.writeBuffer();
+        }
+
+        final char high = this.highSurrogate;
+        if (0 != high) {
+            this.highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                this.codePoint(
+                    Character.toCodePoint(
+                        high,
+                        c
+                    )
+                );
+                return this;
+            }
+            this.writeByte('?');
+        }
+
+        if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.writeByte('?');
+        } else {
+            this.codePoint(c);
+        }
+
+        return this;
+    }
+
+    private void codePoint(final int codePoint) {
+        if (codePoint < 0x80) {
+            this.writeByte(codePoint);
+        } else if (codePoint < 0x800) {
+            this.writeByte(0xC0 | (codePoint >> 6));
+            this.writeByte(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            this.writeByte(0xE0 | (codePoint >> 12));
+            this.writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+            this.writeByte(0x80 | (codePoint & 0x3F));
+        } else {
+            this.writeByte(0xF0 | (codePoint >> 18));
+            this.writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+            this.writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+            this.writeByte(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void writeByte(final int b) {
+        this.bytes[this.position++] = (byte) b;
+    }
+
+    private void writeBuffer() throws IOException {
+        if (this.position > 0) {
+            this.outputStream.write(
+                this.bytes,
+                0,
+                this.position
+            );
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Writes any buffered bytes including an unpaired high surrogate, and flushes the {@link OutputStream}.
+     */
+    void flush() throws IOException {
+        if (0 != this.highSurrogate) {
+            this.highSurrogate = 0;
+            if (this.position == this.bytes.length) {
+                this.writeBuffer();
+            }
+            this.writeByte('?');
+        }
+        this.writeBuffer();
+        this.outputStream.flush();
+    }
+
+    private final OutputStream outputStream;
+
+    private final byte[] bytes = new byte[BUFFER_SIZE];
+
+    private int position;
+
+    /**
+     * A high surrogate waiting for the low surrogate in the next character.
+     */
+    private char highSurrogate;
+
+    @Override
+    public String toString() {
+        return this.outputStream.toString();
+    }
+}
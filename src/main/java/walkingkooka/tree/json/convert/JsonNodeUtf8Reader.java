@@ -0,0 +1,278 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * A {@link Reader} that decodes UTF-8 bytes directly into the {@link JsonNodeTextParser} buffer, avoiding the
+ * intermediate {@link String} and its copy of the entire input. Runs of ASCII are copied without any decoding,
+ * a leading byte order mark is skipped and malformed sequences fail with an {@link IllegalArgumentException}.
+ * <br>
+ * Bytes may come from a byte array or be streamed from an {@link InputStream} through a small fixed buffer, so a file
+ * never needs to be read entirely into memory. Note the {@link InputStream} is not closed.
+ */
+final class JsonNodeUtf8Reader extends Reader {
+
+    /**
+     * The number of bytes read from an {@link InputStream} at a time.
+     */
+    final static int BUFFER_SIZE = 8192;
+
+    static JsonNodeUtf8Reader bytes(final byte[] bytes) {
+        return new JsonNodeUtf8Reader(
+            null,
+            bytes,
+            bytes.length
+        );
+    }
+
+    static JsonNodeUtf8Reader inputStream(final InputStream inputStream) {
+        return new JsonNodeUtf8Reader(
+            inputStream,
+            new byte[BUFFER_SIZE],
+            0
+        );
+    }
+
+    private JsonNodeUtf8Reader(final InputStream inputStream,
+                               final byte[] bytes,
+                               final int end) {
+        super();
+
+        this.inputStream = inputStream;
+        this.bytes = bytes;
+        this.end = end;
+    }
+
+    @Override
+    public int read(final char[] chars,
+                    final int offset,
+                    final int length) throws IOException {
+        final int last = offset + length;
+        int i = offset;
+
+        if (i < last && 0 != this.lowSurrogate) {
+            chars[i++] = this.lowSurrogate;
+            this.lowSurrogate = 0;
+        }
+
+        int position = this.position;
+
+        if (this.first) {
+            this.first = false;
+
+            position = this.fill(position, 3);
+            if (isByteOrderMark(this.bytes, position, this.end)) {
+                position += 3;
+            }
+        }
+
+        while (i < last) {
+            if (position >= this.end) {
+                position = this.fill(position, 1);
+                if (position >= this.end) {
+                    break;
+                }
+            }
+
+            final byte[] bytes = this.bytes;
+            final int b = bytes[position];
+
+            // ascii fast path
+            if (b >= 0) {
+                chars[i++] = (char) b;
+                position++;
+                continue;
+            }
+
+            final int lead = b & 0xFF;
+            final int count;
+            int codePoint;
+
+            if (0xC0 == (lead & 0xE0)) {
+                count = 1;
+                codePoint = lead & 0x1F;
+            } else if (0xE0 == (lead & 0xF0)) {
+                count = 2;
+                codePoint = lead & 0x0F;
+            } else if (0xF0 == (lead & 0xF8)) {
+                count = 3;
+                codePoint = lead & 0x07;
+            } else {
+                throw this.invalidByte(lead, position);
+            }
+
+            if (position + count >= this.end) {
+                position = this.fill(position, count + 1);
+                if (position + count >= this.end) {
+                    throw new IllegalArgumentException("Incomplete UTF-8 sequence at " + (this.discarded + position));
+                }
+            }
+
+            for (int j = 1; j <= count; j++) {
+                final int continuation = bytes[position + j] & 0xFF;
+                if (0x80 != (continuation & 0xC0)) {
+                    throw this.invalidByte(continuation, position + j);
+                }
+                codePoint = (codePoint << 6) | (continuation & 0x3F);
+            }
+
+            if (codePoint < MIN_CODE_POINT[count] ||
+                codePoint > Character.MAX_CODE_POINT ||
+                (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                throw this.invalidByte(lead, position);
+            }
+
+            position += count + 1;
+
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                chars[i++] = (char) codePoint;
+            } else {
+                // GWT does not emulate Character.highSurrogate & Character.lowSurrogate
+                final int offset = codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+                chars[i++] = (char) (Character.MIN_HIGH_SURROGATE + (offset >>> 10));
+
+                final char low = (char) (Character.MIN_LOW_SURROGATE + (offset & 0x3FF));
+                if (i < last) {
+                    chars[i++] = low;
+                } else {
+                    this.lowSurrogate = low;
+                }
+            }
+        }
+
+        this.position = position;
+
+        return i == offset && length > 0 ?
+            -1 :
+            i - offset;
+    }
+
+    private static boolean isByteOrderMark(final byte[] bytes,
+                                           final int start,
+                                           final int end) {
+        return end - start >= 3 &&
+            (byte) 0xEF == bytes[start] &&
+            (byte) 0xBB == bytes[start + 1] &&
+            (byte) 0xBF == bytes[start + 2];
+    }
+
+    /**
+     * Tries to make at least the required number of bytes available from the given position, moving any unread bytes
+     * to the start of the buffer and reading more from the {@link InputStream}. Returns the new position, which for a
+     * byte array source is always unchanged.
+     */
+    private int fill(final int position,
+                     final int required) throws IOException {
+        final InputStream inputStream = this.inputStream;
+
+        int newPosition = position;
+        if (null != inputStream) {
+            final byte[] bytes = this.bytes;
+            int end = this.end;
+
+            final int remaining = end - position;
+            if (remaining < required) {
+                System.arraycopy(
+                    bytes,
+                    position,
+                    bytes,
+                    0,
+                    remaining
+                );
+                this.discarded += position;
+                newPosition = 0;
+                end = remaining;
+
+                while (end < required) {
+                    final int read = inputStream.read(
+                        bytes,
+                        end,
+                        bytes.length - end
+                    );
+                    if (-1 == read) {
+                        break;
+                    }
+                    end += read;
+                }
+
+                this.end = end;
+            }
+        }
+
+        return newPosition;
+    }
+
+    /**
+     * The smallest code point for each sequence length, smaller values are overlong encodings.
+     */
+    private final static int[] MIN_CODE_POINT = new int[]{
+        0,
+        0x80,
+        0x800,
+        0x10000
+    };
+
+    private IllegalArgumentException invalidByte(final int b,
+                                                 final int position) {
+        return new IllegalArgumentException("Invalid UTF-8 byte 0x" + Integer.toHexString(b) + " at " + (this.discarded + position));
+    }
+
+    /**
+     * Nothing to close, the {@link InputStream} belongs to the caller.
+     */
+    @Override
+    public void close() {
+        // NOP
+    }
+
+    /**
+     * When present more bytes are read into {@link #bytes} as they are consumed.
+     */
+    private final InputStream inputStream;
+
+    private final byte[] bytes;
+
+    private int end;
+
+    private int position;
+
+    /**
+     * The number of bytes already consumed and discarded from the start of {@link #bytes}, used to report absolute
+     * positions in error messages.
+     */
+    private long discarded;
+
+    /**
+     * True until the first read, when any byte order mark is skipped.
+     */
+    private boolean first = true;
+
+    /**
+     * The second half of a surrogate pair that did not fit in the previous read.
+     */
+    private char lowSurrogate;
+
+    @Override
+    public String toString() {
+        return (this.discarded + this.position) + "/" + (this.discarded + this.end);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The result of checking that text holds valid JSON, without creating any {@link JsonNode}. An invalid result
+ * includes the error message and the position of the first invalid or missing character.
+ */
+public final class JsonNodeValidationResult {
+
+    /**
+     * The position of a valid result.
+     */
+    public final static int NO_POSITION = -1;
+
+    /**
+     * Singleton returned for all valid text.
+     */
+    public final static JsonNodeValidationResult VALID = new JsonNodeValidationResult(
+        null,
+        NO_POSITION
+    );
+
+    /**
+     * Scans the text using {@link JsonNodeTextParser} returning a valid or invalid result, without creating any
+     * {@link JsonNode} or {@link String}. Objects and arrays nested deeper than {@link JsonNodeTextParser#MAX_DEPTH}
+     * are reported as invalid.
+     */
+    public static JsonNodeValidationResult validate(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        final JsonNodeTextParser parser = JsonNodeTextParser.charSequence(text);
+
+        JsonNodeValidationResult result;
+        try {
+            parser.skipValue();
+            parser.end();
+
+            result = VALID;
+        } catch (final IllegalArgumentException cause) {
+            result = invalid(
+                cause.getMessage(),
+                (int) parser.position() // text is a String so never exceeds int
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Factory that creates an invalid result.
+     */
+    public static JsonNodeValidationResult invalid(final String message,
+                                                   final int position) {
+        Objects.requireNonNull(message, "message");
+        if (position < 0) {
+            throw new IllegalArgumentException("Invalid position " + position + " < 0");
+        }
+
+        return new JsonNodeValidationResult(
+            message,
+            position
+        );
+    }
+
+    private JsonNodeValidationResult(final String message,
+                                     final int position) {
+        this.message = message;
+        this.position = position;
+    }
+
+    public boolean isValid() {
+        return null == this.message;
+    }
+
+    /**
+     * The error message for invalid text.
+     */
+    public Optional<String> message() {
+        return Optional.ofNullable(this.message);
+    }
+
+    private final String message;
+
+    /**
+     * The position of the error, or {@link #NO_POSITION} for valid text.
+     */
+    public int position() {
+        return this.position;
+    }
+
+    private final int position;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.message,
+            this.position
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof JsonNodeValidationResult &&
+                this.equals0((JsonNodeValidationResult) other);
+    }
+
+    private boolean equals0(final JsonNodeValidationResult other) {
+        return Objects.equals(this.message, other.message) &&
+            this.position == other.position;
+    }
+
+    @Override
+    public String toString() {
+        return this.isValid() ?
+            "valid" :
+            this.message;
+    }
+}
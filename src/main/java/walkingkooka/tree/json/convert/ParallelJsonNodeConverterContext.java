@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContextObjectPostProcessor;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContextPreProcessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link JsonNodeConverterContext} that wraps another, marshalling large {@link Collection} and {@link Map} values in
+ * parallel. The value is split into chunks, each chunk is marshalled by the wrapped context using a parallel
+ * {@link IntStream} which runs on the common {@link java.util.concurrent.ForkJoinPool}, and the children of each result
+ * are assembled in their original order. Values smaller than the threshold are marshalled on the calling thread. Only
+ * values of the plain JDK collection and map classes are split, sub-classes and other implementations may have their
+ * own registered marshaller and are always marshalled by the wrapped context.
+ * <br>
+ * If the wrapped context does not marshall each chunk to an array or object with one child per element, for example
+ * because it adds a type wrapper, the value is marshalled again on the calling thread, so the result is always the same
+ * as the wrapped context. The wrapped context must be safe for concurrent use, which includes the basic and caching
+ * contexts. A wrapped {@link CachingJsonNodeConverterContext} marshalls the elements of each chunk through its cache.
+ */
+final class ParallelJsonNodeConverterContext implements JsonNodeConverterContextDelegator {
+
+    /**
+     * The smallest number of elements marshalled by a single task.
+     */
+    final static int MIN_CHUNK_SIZE = 256;
+
+    /**
+     * The most chunks a single value is split into.
+     */
+    final static int MAX_CHUNKS = 64;
+
+    static ParallelJsonNodeConverterContext with(final JsonNodeConverterContext context,
+                                                 final int threshold) {
+        Objects.requireNonNull(context, "context");
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Invalid threshold " + threshold + " < 0");
+        }
+
+        return new ParallelJsonNodeConverterContext(
+            context,
+            threshold
+        );
+    }
+
+    private ParallelJsonNodeConverterContext(final JsonNodeConverterContext context,
+                                             final int threshold) {
+        this.context = context;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public JsonNode marshall(final Object value) {
+        JsonNode json = null;
+
+        if (JsonNodeJdkCollections.isCollection(value)) {
+            final Collection<?> collection = (Collection<?>) value;
+            if (this.isParallel(collection.size())) {
+                json = this.marshallChunks(
+                    chunks(collection)
+                );
+            }
+        } else if (JsonNodeJdkCollections.isMap(value)) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            if (this.isParallel(map.size())) {
+                json = this.marshallChunks(
+                    chunks(map)
+                );
+            }
+        }
+
+        return null != json ?
+            json :
+            this.context.marshall(value);
+    }
+
+    private boolean isParallel(final int size) {
+        return size > MIN_CHUNK_SIZE && size >= this.threshold;
+    }
+
+    private static int chunkSize(final int size) {
+        return Math.max(
+            MIN_CHUNK_SIZE,
+            (size + MAX_CHUNKS - 1) / MAX_CHUNKS
+        );
+    }
+
+    /**
+     * Splits the {@link Collection} into chunks, sets remain sets and all others become lists.
+     */
+    private static List<Object> chunks(final Collection<?> collection) {
+        final int chunkSize = chunkSize(collection.size());
+        final boolean set = collection instanceof Set;
+
+        final List<Object> chunks = Lists.array();
+        Collection<Object> chunk = null;
+
+        for (final Object element : collection) {
+            if (null == chunk || chunk.size() == chunkSize) {
+                chunk = set ?
+                    new LinkedHashSet<>() :
+                    new ArrayList<>(chunkSize);
+                chunks.add(chunk);
+            }
+            chunk.add(element);
+        }
+
+        return chunks;
+    }
+
+    private static List<Object> chunks(final Map<?, ?> map) {
+        final int chunkSize = chunkSize(map.size());
+
+        final List<Object> chunks = Lists.array();
+        Map<Object, Object> chunk = null;
+
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            if (null == chunk || chunk.size() == chunkSize) {
+                chunk = new LinkedHashMap<>();
+                chunks.add(chunk);
+            }
+            chunk.put(
+                entry.getKey(),
+                entry.getValue()
+            );
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Marshalls each chunk in parallel and joins their children, returning null if any chunk was not marshalled to an
+     * array or object with one child per element.
+     */
+    private JsonNode marshallChunks(final List<Object> chunks) {
+        final JsonNodeConverterContext context = this.context;
+
+        final List<JsonNode> marshalled = IntStream.range(0, chunks.size())
+            .parallel()
+            .mapToObj(i -> context.marshall(chunks.get(i)))
+            .collect(Collectors.toList());
+
+        final boolean object = marshalled.get(0)
+            .isObject();
+        final List<JsonNode> children = Lists.array();
+
+        final int count = chunks.size();
+        for (int i = 0; i < count; i++) {
+            final JsonNode json = marshalled.get(i);
+            final Object chunk = chunks.get(i);
+            final int size = chunk instanceof Map ?
+                ((Map<?, ?>) chunk).size() :
+                ((Collection<?>) chunk).size();
+
+            if (false == (object ? json.isObject() : json.isArray()) || json.children().size() != size) {
+                return null;
+            }
+            children.addAll(json.children());
+        }
+
+        final JsonNode json;
+        if (object) {
+            json = JsonNode.object()
+                .setChildren(children);
+        } else {
+            json = JsonNode.array()
+                .setChildren(children);
+        }
+        return json;
+    }
+
+    /**
+     * Collections and maps with fewer elements are marshalled on the calling thread.
+     */
+    private final int threshold;
+
+    // JsonNodeConverterContext.........................................................................................
+
+    @Override
+    public JsonNodeConverterContext setObjectPostProcessor(final JsonNodeMarshallContextObjectPostProcessor processor) {
+        final JsonNodeConverterContext before = this.context;
+        final JsonNodeConverterContext after = before.setObjectPostProcessor(processor);
+
+        return before.equals(after) ?
+            this :
+            new ParallelJsonNodeConverterContext(
+                after,
+                this.threshold
+            );
+    }
+
+    @Override
+    public JsonNodeConverterContext setPreProcessor(final JsonNodeUnmarshallContextPreProcessor processor) {
+        final JsonNodeConverterContext before = this.context;
+        final JsonNodeConverterContext after = before.setPreProcessor(processor);
+
+        return before.equals(after) ?
+            this :
+            new ParallelJsonNodeConverterContext(
+                after,
+                this.threshold
+            );
+    }
+
+    // JsonNodeConverterContextDelegator................................................................................
+
+    @Override
+    public JsonNodeConverterContext jsonNodeConverterContext() {
+        return this.context;
+    }
+
+    private final JsonNodeConverterContext context;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.context + " parallel threshold=" + this.threshold;
+    }
+}
@@ -45,6 +45,7 @@ import java.time.LocalDateTime;
 import java.util.Currency;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -173,6 +174,59 @@ public final class BasicJsonNodeConverterContextTest implements JsonNodeConverte
         );
     }
 
+    @Test
+    public void testIsSupportedJsonTypeCachesSupported() {
+        final AtomicInteger count = new AtomicInteger();
+
+        final BasicJsonNodeConverterContext context = BasicJsonNodeConverterContext.with(
+            CONVERTER_CONTEXT,
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public boolean isSupportedJsonType(final Class<?> type) {
+                    // the first check fails as if the type had not yet been registered
+                    return count.incrementAndGet() > 1;
+                }
+            }
+        );
+
+        this.checkEquals(
+            false,
+            context.isSupportedJsonType(String.class),
+            "first"
+        );
+        this.checkEquals(
+            true,
+            context.isSupportedJsonType(String.class),
+            "second"
+        );
+        this.checkEquals(
+            true,
+            context.isSupportedJsonType(String.class),
+            "third"
+        );
+        this.checkEquals(
+            2,
+            count.get(),
+            "wrapped isSupportedJsonType calls, unsupported is asked again, supported is cached"
+        );
+    }
+
+    @Test
+    public void testIsSupportedJsonTypeUnsupportedRepeated() {
+        final BasicJsonNodeConverterContext context = this.createContext();
+
+        this.checkEquals(
+            false,
+            context.isSupportedJsonType(this.getClass()),
+            "first"
+        );
+        this.checkEquals(
+            false,
+            context.isSupportedJsonType(this.getClass()),
+            "second"
+        );
+    }
+
     // toString.........................................................................................................
 
     @Test
@@ -0,0 +1,650 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.Converters;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.locale.LocaleContext;
+import walkingkooka.locale.LocaleContexts;
+import walkingkooka.math.DecimalNumberContext;
+import walkingkooka.math.DecimalNumberContextDelegator;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.text.Indentation;
+import walkingkooka.text.LineEnding;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.expression.convert.ExpressionNumberConverterContext;
+import walkingkooka.tree.expression.convert.ExpressionNumberConverterContexts;
+import walkingkooka.tree.expression.convert.ExpressionNumberConverters;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CachingJsonNodeConverterContextTest implements JsonNodeConverterContextTesting<CachingJsonNodeConverterContext>,
+    ToStringTesting<CachingJsonNodeConverterContext>,
+    DecimalNumberContextDelegator {
+
+    static {
+        final Locale locale = Locale.forLanguageTag("EN-AU");
+        final LocaleContext localeContext = LocaleContexts.jre(locale);
+
+        CONVERTER_CONTEXT = ExpressionNumberConverterContexts.basic(
+            ExpressionNumberConverters.toNumberOrExpressionNumber(
+                Converters.stringToNumber(
+                    (dnc) -> (DecimalFormat) DecimalFormat.getInstance()
+                )
+            ),
+            ConverterContexts.basic(
+                (l) -> Optional.of(
+                    Currency.getInstance(l)
+                ), // CanCurrencyForLocale
+                false, // canNumbersHaveGroupSeparator
+                Converters.JAVA_EPOCH_OFFSET,
+                Indentation.SPACES2,
+                LineEnding.NL,
+                ',', // valueSeparator
+                Converters.fake(),
+                DateTimeContexts.basic(
+                    localeContext.dateTimeSymbolsForLocale(locale)
+                        .get(),
+                    locale,
+                    1950,
+                    50,
+                    LocalDateTime::now
+                ),
+                DecimalNumberContexts.american(MathContext.DECIMAL32),
+                localeContext
+            ),
+            ExpressionNumberKind.DEFAULT
+        );
+    }
+
+    private final static ExpressionNumberConverterContext CONVERTER_CONTEXT;
+
+    private final static JsonNodeMarshallUnmarshallContext MARSHALL_UNMARSHALL_CONTEXT = JsonNodeMarshallUnmarshallContexts.basic(
+        JsonNodeMarshallContexts.basic(),
+        JsonNodeUnmarshallContexts.basic(
+            (String cc) -> {
+                throw new UnsupportedOperationException();
+            },
+            (String lt) -> {
+                throw new UnsupportedOperationException();
+            },
+            ExpressionNumberKind.DEFAULT,
+            CONVERTER_CONTEXT.mathContext()
+        )
+    );
+
+    private final static Set<Class<?>> TYPES = Sets.of(
+        String.class
+    );
+
+    private final static int CAPACITY = 2;
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CachingJsonNodeConverterContext.with(
+                null,
+                TYPES,
+                CAPACITY
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullTypesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CachingJsonNodeConverterContext.with(
+                this.basic(),
+                null,
+                CAPACITY
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroCapacityFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> CachingJsonNodeConverterContext.with(
+                this.basic(),
+                TYPES,
+                0
+            )
+        );
+        this.checkEquals(
+            "Invalid capacity 0 <= 0",
+            thrown.getMessage()
+        );
+    }
+
+    @Override
+    public CachingJsonNodeConverterContext createContext() {
+        return CachingJsonNodeConverterContext.with(
+            this.basic(),
+            TYPES,
+            CAPACITY
+        );
+    }
+
+    private JsonNodeConverterContext basic() {
+        return BasicJsonNodeConverterContext.with(
+            CONVERTER_CONTEXT,
+            MARSHALL_UNMARSHALL_CONTEXT
+        );
+    }
+
+    @Override
+    public MathContext mathContext() {
+        return CONVERTER_CONTEXT.mathContext();
+    }
+
+    @Override
+    public int decimalNumberDigitCount() {
+        return CONVERTER_CONTEXT.decimalNumberDigitCount();
+    }
+
+    @Override
+    public DecimalNumberContext decimalNumberContext() {
+        return CONVERTER_CONTEXT;
+    }
+
+    @Test
+    public void testMarshall() {
+        this.checkEquals(
+            JsonNode.string("hello"),
+            this.createContext()
+                .marshall("hello")
+        );
+    }
+
+    @Test
+    public void testMarshallCached() {
+        final CachingJsonNodeConverterContext context = this.counting();
+
+        this.checkEquals(
+            JsonNode.number(1),
+            context.marshall("a")
+        );
+        this.checkEquals(
+            JsonNode.number(1),
+            context.marshall("a")
+        );
+        this.checkEquals(
+            JsonNode.number(2),
+            context.marshall("b")
+        );
+
+        this.statisticsAndCheck(
+            context,
+            1,
+            2,
+            0,
+            2
+        );
+    }
+
+    @Test
+    public void testMarshallTypeNotCached() {
+        final CachingJsonNodeConverterContext context = this.counting();
+
+        this.checkEquals(
+            JsonNode.number(1),
+            context.marshall(99)
+        );
+        this.checkEquals(
+            JsonNode.number(2),
+            context.marshall(99)
+        );
+
+        this.statisticsAndCheck(
+            context,
+            0,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testMarshallNull() {
+        final CachingJsonNodeConverterContext context = this.counting();
+
+        this.checkEquals(
+            JsonNode.number(1),
+            context.marshall(null)
+        );
+
+        this.statisticsAndCheck(
+            context,
+            0,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testMarshallLeastRecentlyUsedEvicted() {
+        final CachingJsonNodeConverterContext context = this.counting();
+
+        context.marshall("a"); // 1
+        context.marshall("b"); // 2
+        context.marshall("a"); // hit, b is now least recently used
+        context.marshall("c"); // 3, evicts b
+
+        this.statisticsAndCheck(
+            context,
+            1,
+            3,
+            1,
+            2
+        );
+        this.checkEquals(
+            JsonNode.number(1),
+            context.marshall("a")
+        );
+        this.checkEquals(
+            JsonNode.number(4),
+            context.marshall("b")
+        );
+    }
+
+    @Test
+    public void testMarshallWithTypeCached() {
+        final CachingJsonNodeConverterContext context = this.elements(false);
+
+        this.checkEquals(
+            JsonNode.string("typed-a"),
+            context.marshallWithType("a")
+        );
+        this.checkEquals(
+            JsonNode.string("typed-a"),
+            context.marshallWithType("a")
+        );
+        this.checkEquals(
+            JsonNode.string("plain-a"),
+            context.marshall("a")
+        );
+
+        this.statisticsAndCheck(
+            context,
+            1,
+            2,
+            0,
+            2
+        );
+    }
+
+    @Test
+    public void testMarshallCollectionElementsCached() {
+        final CachingJsonNodeConverterContext context = this.createContext();
+
+        this.checkEquals(
+            JsonNode.array()
+                .appendChild(JsonNode.string("a"))
+                .appendChild(JsonNode.string("a")),
+            context.marshallCollection(
+                Lists.of(
+                    "a",
+                    "a"
+                )
+            )
+        );
+
+        this.statisticsAndCheck(
+            context,
+            1,
+            1,
+            0,
+            1
+        );
+    }
+
+    @Test
+    public void testMarshallJdkCollectionElementsWithTypeCached() {
+        this.marshallJdkCollectionAndCheck(
+            true,
+            "typed-"
+        );
+    }
+
+    @Test
+    public void testMarshallJdkCollectionElementsWithoutTypeCached() {
+        this.marshallJdkCollectionAndCheck(
+            false,
+            "plain-"
+        );
+    }
+
+    private void marshallJdkCollectionAndCheck(final boolean withType,
+                                               final String prefix) {
+        final CachingJsonNodeConverterContext context = this.elements(withType);
+
+        final JsonNode expected = JsonNode.array()
+            .appendChild(JsonNode.string(prefix + "a"))
+            .appendChild(JsonNode.string(prefix + "b"))
+            .appendChild(JsonNode.string(prefix + "a"));
+
+        // the first list is marshalled by the wrapped context, which is then learnt
+        this.checkEquals(
+            expected,
+            context.marshall(
+                this.arrayList()
+            )
+        );
+        this.checkEquals(
+            1,
+            this.collectionCount,
+            "collections marshalled by wrapped context"
+        );
+
+        this.checkEquals(
+            expected,
+            context.marshall(
+                this.arrayList()
+            )
+        );
+        this.checkEquals(
+            1,
+            this.collectionCount,
+            "collections marshalled by wrapped context"
+        );
+
+        // learning marshalls a with and without type, then the second list a, b, a
+        this.statisticsAndCheck(
+            context,
+            2,
+            3,
+            0,
+            3
+        );
+    }
+
+    @Test
+    public void testMarshallJdkCollectionNotArrayNotCached() {
+        final CachingJsonNodeConverterContext context = CachingJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    return value instanceof Collection ?
+                        JsonNode.object() :
+                        JsonNode.string("plain-" + value);
+                }
+
+                @Override
+                public JsonNode marshallWithType(final Object value) {
+                    return JsonNode.string("typed-" + value);
+                }
+            },
+            TYPES,
+            CAPACITY
+        );
+
+        for (int i = 0; i < 2; i++) {
+            this.checkEquals(
+                JsonNode.object(),
+                context.marshall(
+                    this.arrayList()
+                )
+            );
+        }
+
+        this.statisticsAndCheck(
+            context,
+            0,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testMarshallJdkCollectionSubclassNotCached() {
+        final CachingJsonNodeConverterContext context = this.elements(false);
+
+        for (int i = 0; i < 2; i++) {
+            context.marshall(
+                new ArrayList<Object>(
+                    this.arrayList()
+                ) {
+                }
+            );
+        }
+
+        this.checkEquals(
+            2,
+            this.collectionCount,
+            "collections marshalled by wrapped context"
+        );
+        this.statisticsAndCheck(
+            context,
+            0,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testMarshallCollectionWrappedByParallelElementsCached() {
+        final CachingJsonNodeConverterContext context = this.elements(true);
+        context.marshall(
+            new ArrayList<>()
+        ); // empty list decides nothing
+        context.marshall(
+            this.arrayList()
+        ); // learn
+
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < ParallelJsonNodeConverterContext.MIN_CHUNK_SIZE * 2; i++) {
+            list.add("a");
+        }
+
+        final JsonNode json = ParallelJsonNodeConverterContext.with(
+            context,
+            0
+        ).marshall(list);
+
+        this.checkEquals(
+            list.size(),
+            json.children()
+                .size(),
+            "children"
+        );
+        this.checkEquals(
+            JsonNode.string("typed-a"),
+            json.children()
+                .get(0)
+        );
+        this.checkEquals(
+            2,
+            this.collectionCount,
+            "collections marshalled by wrapped context"
+        );
+        this.statisticsAndCheck(
+            context,
+            list.size(),
+            2,
+            0,
+            2
+        );
+    }
+
+    private ArrayList<Object> arrayList() {
+        final ArrayList<Object> list = new ArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("a");
+        return list;
+    }
+
+    /**
+     * Creates a {@link CachingJsonNodeConverterContext} wrapping a context that marshalls every value to an increasing
+     * count, making it easy to verify which marshall calls were served by the cache.
+     */
+    private CachingJsonNodeConverterContext counting() {
+        return CachingJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    this.count++;
+                    return JsonNode.number(this.count);
+                }
+
+                private int count;
+            },
+            TYPES,
+            CAPACITY
+        );
+    }
+
+    /**
+     * Creates a {@link CachingJsonNodeConverterContext} wrapping a context that marshalls strings with a prefix
+     * showing whether their type was included, and collections as an array of their elements, with or without type.
+     */
+    private CachingJsonNodeConverterContext elements(final boolean withType) {
+        return CachingJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    final JsonNode json;
+
+                    if (value instanceof Collection) {
+                        CachingJsonNodeConverterContextTest.this.collectionCount++;
+
+                        final List<JsonNode> children = Lists.array();
+                        for (final Object element : (Collection<?>) value) {
+                            children.add(
+                                withType ?
+                                    this.marshallWithType(element) :
+                                    this.marshall(element)
+                            );
+                        }
+                        json = JsonNode.array()
+                            .setChildren(children);
+                    } else {
+                        json = JsonNode.string("plain-" + value);
+                    }
+
+                    return json;
+                }
+
+                @Override
+                public JsonNode marshallWithType(final Object value) {
+                    return JsonNode.string("typed-" + value);
+                }
+            },
+            TYPES,
+            CAPACITY * 2
+        );
+    }
+
+    private int collectionCount;
+
+    private void statisticsAndCheck(final CachingJsonNodeConverterContext context,
+                                    final long hits,
+                                    final long misses,
+                                    final long evictions,
+                                    final int size) {
+        this.checkEquals(
+            JsonNodeCacheStatistics.with(
+                size,
+                hits,
+                misses,
+                evictions
+            ),
+            context.statistics()
+        );
+    }
+
+    @Test
+    public void testJsonNodeConverterContextsCachingStatistics() {
+        final JsonNodeConverterContext context = JsonNodeConverterContexts.caching(
+            this.basic(),
+            TYPES,
+            CAPACITY
+        );
+        context.marshall("a");
+        context.marshall("a");
+
+        this.checkEquals(
+            JsonNodeCacheStatistics.with(
+                1,
+                1,
+                1,
+                0
+            ),
+            JsonNodeConverterContexts.cachingStatistics(context)
+        );
+    }
+
+    @Test
+    public void testJsonNodeConverterContextsCachingStatisticsOtherContextFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterContexts.cachingStatistics(
+                this.basic()
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createContext(),
+            CONVERTER_CONTEXT + " " + MARSHALL_UNMARSHALL_CONTEXT + " cache capacity=2"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CachingJsonNodeConverterContext> type() {
+        return CachingJsonNodeConverterContext.class;
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return JsonNodeConverterContext.class.getSimpleName();
+    }
+}
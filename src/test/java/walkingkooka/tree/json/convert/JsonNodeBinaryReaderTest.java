@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeBinaryReaderTest implements ClassTesting<JsonNodeBinaryReader> {
+
+    @Test
+    public void testReadNull() {
+        this.readAndCheck("null");
+    }
+
+    @Test
+    public void testReadBooleans() {
+        this.readAndCheck("[true, false]");
+    }
+
+    @Test
+    public void testReadNumbers() {
+        this.readAndCheck("[0, 1, -1, 300, -12345678, 9007199254740992, 9007199254740994, 1.5, -0.25, 1e300, 4.9e-324]");
+    }
+
+    @Test
+    public void testReadNegativeZero() {
+        final JsonNode node = JsonNodeBinaryReader.read(
+            JsonNodeBinaryWriter.write(
+                JsonNode.number(-0.0)
+            )
+        );
+
+        this.checkEquals(
+            Double.doubleToRawLongBits(-0.0),
+            Double.doubleToRawLongBits(
+                node.numberOrFail()
+                    .doubleValue()
+            )
+        );
+    }
+
+    @Test
+    public void testReadStrings() {
+        this.readAndCheck("[\"\", \"abc\", \"café\", \"€100\", \"smile 😀\", \"\\u0000\\n\\\"\"]");
+    }
+
+    @Test
+    public void testReadUnpairedSurrogate() {
+        this.readAndCheck(
+            JsonNode.string("\uD800!")
+        );
+    }
+
+    @Test
+    public void testReadEmptyArray() {
+        this.readAndCheck("[]");
+    }
+
+    @Test
+    public void testReadEmptyObject() {
+        this.readAndCheck("{}");
+    }
+
+    @Test
+    public void testReadNested() {
+        this.readAndCheck("{\"a\": [1, {\"b\": [true, {\"c\": null}]}], \"d\": {\"e\": {\"f\": [[], [1]]}}}");
+    }
+
+    @Test
+    public void testReadRepeatedKeys() {
+        this.readAndCheck("[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}, {\"name\": \"c\", \"id\": 3}]");
+    }
+
+    @Test
+    public void testReadEmptyFails() {
+        this.readFails(
+            new byte[0],
+            "Unexpected end at 0"
+        );
+    }
+
+    @Test
+    public void testReadUnsupportedVersionFails() {
+        this.readFails(
+            new byte[]{2, JsonNodeBinaryWriter.NULL},
+            "Unsupported version 2"
+        );
+    }
+
+    @Test
+    public void testReadInvalidTagFails() {
+        this.readFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION, 9},
+            "Invalid tag 0x9 at 1"
+        );
+    }
+
+    @Test
+    public void testReadTrailingByteFails() {
+        this.readFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION, JsonNodeBinaryWriter.NULL, JsonNodeBinaryWriter.NULL},
+            "Unexpected byte at 2"
+        );
+    }
+
+    @Test
+    public void testReadInvalidKeyReferenceFails() {
+        this.readFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION, JsonNodeBinaryWriter.OBJECT, 1, 5},
+            "Invalid key reference 5 at 3"
+        );
+    }
+
+    @Test
+    public void testReadInvalidCountFails() {
+        this.readFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION, JsonNodeBinaryWriter.ARRAY, 9},
+            "Invalid count 9 at 2"
+        );
+    }
+
+    @Test
+    public void testReadInvalidStringByteFails() {
+        this.readFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION, JsonNodeBinaryWriter.STRING, 1, (byte) 0x80},
+            "Invalid byte 0x80 at 3"
+        );
+    }
+
+    @Test
+    public void testReadMaxDepth() {
+        final int depth = JsonNodeTextParser.MAX_DEPTH;
+        this.readAndCheck(
+            "[".repeat(depth) + "]".repeat(depth)
+        );
+    }
+
+    @Test
+    public void testReadTooDeepArrayFails() {
+        this.readTooDeepFails(JsonNodeBinaryWriter.ARRAY);
+    }
+
+    @Test
+    public void testReadTooDeepObjectFails() {
+        this.readTooDeepFails(JsonNodeBinaryWriter.OBJECT);
+    }
+
+    private void readTooDeepFails(final byte tag) {
+        final int depth = 100_000;
+        final boolean object = JsonNodeBinaryWriter.OBJECT == tag;
+        final int size = object ? 5 : 2; // tag, count and for an object a new key a
+
+        final byte[] bytes = new byte[1 + depth * size + 1];
+        bytes[0] = JsonNodeBinaryWriter.VERSION;
+
+        for (int i = 0; i < depth; i++) {
+            final int offset = 1 + i * size;
+            bytes[offset] = tag;
+            bytes[offset + 1] = 1;
+            if (object) {
+                bytes[offset + 2] = 0;
+                bytes[offset + 3] = 1;
+                bytes[offset + 4] = 'a';
+            }
+        }
+        bytes[bytes.length - 1] = JsonNodeBinaryWriter.NULL;
+
+        this.readFails(
+            bytes,
+            "Nesting too deep at " + (1 + JsonNodeTextParser.MAX_DEPTH * size + 1)
+        );
+    }
+
+    @Test
+    public void testReadTruncatedFails() {
+        final byte[] bytes = JsonNodeBinaryWriter.write(
+            JsonNode.parse("{\"a\": [1, \"two\", 3.5]}")
+        );
+
+        for (int i = 0; i < bytes.length; i++) {
+            final byte[] truncated = new byte[i];
+            System.arraycopy(bytes, 0, truncated, 0, i);
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> JsonNodeBinaryReader.read(truncated)
+            );
+        }
+    }
+
+    private void readAndCheck(final String json) {
+        this.readAndCheck(
+            JsonNode.parse(json)
+        );
+    }
+
+    private void readAndCheck(final JsonNode node) {
+        this.checkEquals(
+            node,
+            JsonNodeBinaryReader.read(
+                JsonNodeBinaryWriter.write(node)
+            )
+        );
+    }
+
+    private void readFails(final byte[] bytes,
+                           final String message) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeBinaryReader.read(bytes)
+        );
+        this.checkEquals(
+            message,
+            thrown.getMessage()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeBinaryReader> type() {
+        return JsonNodeBinaryReader.class;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+public final class JsonNodeBinaryWriterTest implements ClassTesting<JsonNodeBinaryWriter> {
+
+    @Test
+    public void testWriteNull() {
+        this.writeAndCheck(
+            JsonNode.nullNode(),
+            JsonNodeBinaryWriter.NULL
+        );
+    }
+
+    @Test
+    public void testWriteFalse() {
+        this.writeAndCheck(
+            JsonNode.booleanNode(false),
+            JsonNodeBinaryWriter.FALSE
+        );
+    }
+
+    @Test
+    public void testWriteTrue() {
+        this.writeAndCheck(
+            JsonNode.booleanNode(true),
+            JsonNodeBinaryWriter.TRUE
+        );
+    }
+
+    @Test
+    public void testWriteSmallInteger() {
+        this.writeAndCheck(
+            JsonNode.number(-1),
+            JsonNodeBinaryWriter.INTEGER,
+            1
+        );
+    }
+
+    @Test
+    public void testWriteInteger() {
+        this.writeAndCheck(
+            JsonNode.number(300),
+            JsonNodeBinaryWriter.INTEGER,
+            0xD8,
+            0x04
+        );
+    }
+
+    @Test
+    public void testWriteNegativeZero() {
+        this.writeAndCheck(
+            JsonNode.number(-0.0),
+            JsonNodeBinaryWriter.DOUBLE,
+            0x80, 0, 0, 0, 0, 0, 0, 0
+        );
+    }
+
+    @Test
+    public void testWriteDouble() {
+        this.writeAndCheck(
+            JsonNode.number(-1.5),
+            JsonNodeBinaryWriter.DOUBLE,
+            0xBF, 0xF8, 0, 0, 0, 0, 0, 0
+        );
+    }
+
+    @Test
+    public void testWriteString() {
+        this.writeAndCheck(
+            JsonNode.string("aé€"),
+            JsonNodeBinaryWriter.STRING,
+            3,
+            'a',
+            0xC3, 0xA9,
+            0xE2, 0x82, 0xAC
+        );
+    }
+
+    @Test
+    public void testWriteArray() {
+        this.writeAndCheck(
+            JsonNode.parse("[true, null]"),
+            JsonNodeBinaryWriter.ARRAY,
+            2,
+            JsonNodeBinaryWriter.TRUE,
+            JsonNodeBinaryWriter.NULL
+        );
+    }
+
+    @Test
+    public void testWriteObjectRepeatedKeys() {
+        this.writeAndCheck(
+            JsonNode.parse("[{\"id\": 1}, {\"id\": 2}]"),
+            JsonNodeBinaryWriter.ARRAY,
+            2,
+            JsonNodeBinaryWriter.OBJECT,
+            1,
+            0, // new key
+            2,
+            'i',
+            'd',
+            JsonNodeBinaryWriter.INTEGER,
+            2,
+            JsonNodeBinaryWriter.OBJECT,
+            1,
+            1, // back reference to key 0
+            JsonNodeBinaryWriter.INTEGER,
+            4
+        );
+    }
+
+    private void writeAndCheck(final JsonNode node,
+                               final int... expected) {
+        final byte[] bytes = new byte[1 + expected.length];
+        bytes[0] = JsonNodeBinaryWriter.VERSION;
+        for (int i = 0; i < expected.length; i++) {
+            bytes[1 + i] = (byte) expected[i];
+        }
+
+        this.checkEquals(
+            Arrays.toString(bytes),
+            Arrays.toString(
+                JsonNodeBinaryWriter.write(node)
+            ),
+            node.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeBinaryWriter> type() {
+        return JsonNodeBinaryWriter.class;
+    }
+}
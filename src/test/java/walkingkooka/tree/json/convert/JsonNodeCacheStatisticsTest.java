@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeCacheStatisticsTest implements ClassTesting<JsonNodeCacheStatistics>,
+    HashCodeEqualsDefinedTesting2<JsonNodeCacheStatistics>,
+    ToStringTesting<JsonNodeCacheStatistics> {
+
+    private final static int SIZE = 1;
+
+    private final static long HITS = 2;
+
+    private final static long MISSES = 3;
+
+    private final static long EVICTIONS = 4;
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNegativeSizeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeCacheStatistics.with(
+                -1,
+                HITS,
+                MISSES,
+                EVICTIONS
+            )
+        );
+        this.checkEquals(
+            "Invalid size -1 < 0",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithNegativeHitsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeCacheStatistics.with(
+                SIZE,
+                -1,
+                MISSES,
+                EVICTIONS
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeMissesFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeCacheStatistics.with(
+                SIZE,
+                HITS,
+                -1,
+                EVICTIONS
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeEvictionsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeCacheStatistics.with(
+                SIZE,
+                HITS,
+                MISSES,
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final JsonNodeCacheStatistics statistics = this.createObject();
+
+        this.checkEquals(SIZE, statistics.size(), "size");
+        this.checkEquals(HITS, statistics.hits(), "hits");
+        this.checkEquals(MISSES, statistics.misses(), "misses");
+        this.checkEquals(EVICTIONS, statistics.evictions(), "evictions");
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentSize() {
+        this.checkNotEquals(
+            JsonNodeCacheStatistics.with(
+                SIZE + 1,
+                HITS,
+                MISSES,
+                EVICTIONS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentHits() {
+        this.checkNotEquals(
+            JsonNodeCacheStatistics.with(
+                SIZE,
+                HITS + 1,
+                MISSES,
+                EVICTIONS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentMisses() {
+        this.checkNotEquals(
+            JsonNodeCacheStatistics.with(
+                SIZE,
+                HITS,
+                MISSES + 1,
+                EVICTIONS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentEvictions() {
+        this.checkNotEquals(
+            JsonNodeCacheStatistics.with(
+                SIZE,
+                HITS,
+                MISSES,
+                EVICTIONS + 1
+            )
+        );
+    }
+
+    @Override
+    public JsonNodeCacheStatistics createObject() {
+        return JsonNodeCacheStatistics.with(
+            SIZE,
+            HITS,
+            MISSES,
+            EVICTIONS
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "size=1 hits=2 misses=3 evictions=4"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeCacheStatistics> type() {
+        return JsonNodeCacheStatistics.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeCanonicalWriterTest implements ClassTesting<JsonNodeCanonicalWriter> {
+
+    @Test
+    public void testTextNull() {
+        this.textAndCheck(
+            "null",
+            "null"
+        );
+    }
+
+    @Test
+    public void testTextBooleans() {
+        this.textAndCheck(
+            "[true, false]",
+            "[true,false]"
+        );
+    }
+
+    @Test
+    public void testTextIntegers() {
+        this.textAndCheck(
+            "[0, -0, 1, -12, 1.0, 9007199254740992]",
+            "[0,0,1,-12,1,9007199254740992]"
+        );
+    }
+
+    @Test
+    public void testTextDoubles() {
+        this.textAndCheck(
+            "[1.5, -0.25, 1e300]",
+            "[1.5,-0.25,1e+300]"
+        );
+    }
+
+    @Test
+    public void testNumberTextNaNFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeCanonicalWriter.numberText(Double.NaN)
+        );
+    }
+
+    @Test
+    public void testNumberTextInfinityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeCanonicalWriter.numberText(Double.POSITIVE_INFINITY)
+        );
+    }
+
+    @Test
+    public void testNumberText() {
+        // expected values are those of the ECMAScript Number toString, see RFC 8785
+        this.numberTextAndCheck(0.0, "0");
+        this.numberTextAndCheck(-0.0, "0");
+        this.numberTextAndCheck(0.1, "0.1");
+        this.numberTextAndCheck(0.002, "0.002");
+        this.numberTextAndCheck(0.000001, "0.000001");
+        this.numberTextAndCheck(1e-7, "1e-7");
+        this.numberTextAndCheck(-1.5e-7, "-1.5e-7");
+        this.numberTextAndCheck(4.35, "4.35");
+        this.numberTextAndCheck(333333333.3333332, "333333333.3333332");
+        this.numberTextAndCheck(9007199254740994.0, "9007199254740994");
+        this.numberTextAndCheck(1e20, "100000000000000000000");
+        this.numberTextAndCheck(295147905179352830000.0, "295147905179352830000");
+        this.numberTextAndCheck(1e21, "1e+21");
+        this.numberTextAndCheck(1e23, "1e+23");
+        this.numberTextAndCheck(5e-324, "5e-324");
+        this.numberTextAndCheck(Double.MAX_VALUE, "1.7976931348623157e+308");
+    }
+
+    private void numberTextAndCheck(final double value,
+                                    final String expected) {
+        this.checkEquals(
+            expected,
+            JsonNodeCanonicalWriter.numberText(value),
+            String.valueOf(value)
+        );
+    }
+
+    @Test
+    public void testTextString() {
+        this.textAndCheck(
+            "\"abc café 😀\"",
+            "\"abc café 😀\""
+        );
+    }
+
+    @Test
+    public void testTextStringEscaped() {
+        this.textAndCheck(
+            "\"q\\\"b\\\\n\\n\\r\\t\\b\\f\\u0001\\u001f/\"",
+            "\"q\\\"b\\\\n\\n\\r\\t\\b\\f\\u0001\\u001f/\""
+        );
+    }
+
+    @Test
+    public void testTextEmptyArray() {
+        this.textAndCheck(
+            "[ ]",
+            "[]"
+        );
+    }
+
+    @Test
+    public void testTextEmptyObject() {
+        this.textAndCheck(
+            "{ }",
+            "{}"
+        );
+    }
+
+    @Test
+    public void testTextObjectSorted() {
+        this.textAndCheck(
+            "{\"b\": 2, \"a\": 1, \"B\": 3, \"aa\": 4}",
+            "{\"B\":3,\"a\":1,\"aa\":4,\"b\":2}"
+        );
+    }
+
+    @Test
+    public void testTextNested() {
+        this.textAndCheck(
+            "{\"z\": [1, {\"y\": null, \"x\": true}], \"a\": {\"c\": [], \"b\": {}}}",
+            "{\"a\":{\"b\":{},\"c\":[]},\"z\":[1,{\"x\":true,\"y\":null}]}"
+        );
+    }
+
+    @Test
+    public void testTextPropertyOrderIgnored() {
+        this.checkEquals(
+            JsonNodeCanonicalWriter.text(
+                JsonNode.parse("{\"a\": 1, \"b\": [true, \"x\"]}")
+            ),
+            JsonNodeCanonicalWriter.text(
+                JsonNode.parse("{\"b\": [true, \"x\"], \"a\": 1}")
+            )
+        );
+    }
+
+    private void textAndCheck(final String json,
+                              final String expected) {
+        this.checkEquals(
+            expected,
+            JsonNodeCanonicalWriter.text(
+                JsonNode.parse(json)
+            ),
+            json
+        );
+    }
+
+    @Test
+    public void testHash() {
+        this.hashAndCheck("{\"z\": [1, {\"y\": null, \"x\": true}], \"a\": \"café 😀\"}");
+    }
+
+    @Test
+    public void testHashScalar() {
+        this.hashAndCheck("\"hello\"");
+    }
+
+    @Test
+    public void testHashPropertyOrderIgnored() {
+        this.checkEquals(
+            JsonNodeCanonicalWriter.hash(
+                JsonNode.parse("{\"a\": 1, \"b\": [true, \"x\"]}")
+            ),
+            JsonNodeCanonicalWriter.hash(
+                JsonNode.parse("{\"b\": [true, \"x\"], \"a\": 1}")
+            )
+        );
+    }
+
+    @Test
+    public void testHashDifferent() {
+        this.checkNotEquals(
+            JsonNodeCanonicalWriter.hash(
+                JsonNode.parse("{\"a\": 1}")
+            ),
+            JsonNodeCanonicalWriter.hash(
+                JsonNode.parse("{\"a\": 2}")
+            )
+        );
+    }
+
+    private void hashAndCheck(final String json) {
+        final JsonNode node = JsonNode.parse(json);
+
+        long expected = JsonNodeFnv1aAppendable.OFFSET_BASIS;
+        for (final byte b : JsonNodeCanonicalWriter.text(node).getBytes(StandardCharsets.UTF_8)) {
+            expected = (expected ^ (b & 0xFF)) * JsonNodeFnv1aAppendable.PRIME;
+        }
+
+        this.checkEquals(
+            expected,
+            JsonNodeCanonicalWriter.hash(node),
+            json
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeCanonicalWriter> type() {
+        return JsonNodeCanonicalWriter.class;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+public final class JsonNodeConverterBytesToJsonNodeTest extends JsonNodeConverterTestCase<JsonNodeConverterBytesToJsonNode<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertBadJsonFails() {
+        this.convertFails(
+            bytes("bad json"),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertInvalidUtf8Fails() {
+        this.convertFails(
+            new byte[]{'"', (byte) 0xFF, '"'},
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertToUnsupportedTypeFails() {
+        this.convertFails(
+            bytes("{}"),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertToWrongJsonNodeSubClassFails() {
+        this.convertFails(
+            bytes("{}"),
+            JsonArray.class
+        );
+    }
+
+    @Test
+    public void testConvertStringFails() {
+        this.convertFails(
+            "{}",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertToJsonNode() {
+        final String json = "{\"a\": [true, false, null, 1.5, \"two\"], \"b\": {\"c\": -3e2}}";
+
+        this.convertAndCheck(
+            bytes(json),
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertNonAsciiToJsonObject() {
+        final String json = "{\"café\": \"€ 😀\"}";
+
+        this.convertAndCheck(
+            bytes(json),
+            JsonObject.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertLargerThanBuffer() {
+        JsonArray array = JsonNode.array();
+        for (int i = 0; i < JsonNodeTextParser.BUFFER_SIZE; i++) {
+            array = array.appendChild(
+                JsonNode.string("élément-" + i)
+            );
+        }
+
+        this.convertAndCheck(
+            bytes(array.toString()),
+            JsonArray.class,
+            array
+        );
+    }
+
+    @Test
+    public void testConvertInputStreamToJsonNode() {
+        final String json = "{\"café\": [1, \"€ 😀\", null]}";
+
+        this.convertAndCheck(
+            new ByteArrayInputStream(
+                bytes(json)
+            ),
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertInputStreamLargerThanBuffer() {
+        JsonArray array = JsonNode.array();
+        for (int i = 0; i < JsonNodeUtf8Reader.BUFFER_SIZE; i++) {
+            array = array.appendChild(
+                JsonNode.string("€-" + i)
+            );
+        }
+
+        this.convertAndCheck(
+            new ByteArrayInputStream(
+                bytes(array.toString())
+            ),
+            JsonArray.class,
+            array
+        );
+    }
+
+    @Test
+    public void testConvertInputStreamBadJsonFails() {
+        this.convertFails(
+            new ByteArrayInputStream(
+                bytes("[1,")
+            ),
+            JsonNode.class
+        );
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public JsonNodeConverterBytesToJsonNode<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterBytesToJsonNode.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterBytesToJsonNode.instance(),
+            "byte[] to JsonNode"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterBytesToJsonNode<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterBytesToJsonNode.class);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.expression.Expression;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.io.ByteArrayInputStream;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public final class JsonNodeConverterBytesToObjectTest extends JsonNodeConverterTestCase<JsonNodeConverterBytesToObject<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    private final static Expression EXPRESSION = Expression.add(
+        Expression.value(1),
+        Expression.value(23)
+    );
+
+    @Test
+    public void testConvertToUnsupportedClassFails() {
+        this.convertFails(
+            bytes("{}"),
+            Void.class
+        );
+    }
+
+    @Test
+    public void testConvertToStringFails() {
+        this.convertFails(
+            bytes("\"Hello\""),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertToJsonNodeFails() {
+        this.convertFails(
+            bytes("{}"),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringFails() {
+        this.convertFails(
+            this.json(),
+            EXPRESSION.getClass()
+        );
+    }
+
+    @Test
+    public void testConvertInvalidJsonFails() {
+        this.convertFails(
+            bytes("{\"unclosed\": "),
+            Expression.class
+        );
+    }
+
+    @Test
+    public void testConvertToExpression() {
+        this.convertAndCheck(
+            bytes(this.json()),
+            EXPRESSION.getClass(),
+            Cast.to(EXPRESSION)
+        );
+    }
+
+    @Test
+    public void testConvertWithWhitespaceToExpression() {
+        this.convertAndCheck(
+            bytes(" \n" + this.json() + "\n "),
+            EXPRESSION.getClass(),
+            Cast.to(EXPRESSION)
+        );
+    }
+
+    @Test
+    public void testConvertInputStreamToExpression() {
+        this.convertAndCheck(
+            new ByteArrayInputStream(
+                bytes(this.json())
+            ),
+            EXPRESSION.getClass(),
+            Cast.to(EXPRESSION)
+        );
+    }
+
+    private String json() {
+        return JsonNodeMarshallContexts.basic()
+            .marshall(EXPRESSION)
+            .toString();
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public JsonNodeConverterBytesToObject<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterBytesToObject.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+
+            @Override
+            public <T> T unmarshall(final JsonNode json,
+                                    final Class<T> type) {
+                return this.context.unmarshall(json, type);
+            }
+
+            @Override
+            public Optional<JsonString> typeName(final Class<?> type) {
+                return this.context.typeName(type);
+            }
+
+            private final JsonNodeUnmarshallContext context = JsonNodeUnmarshallContexts.basic(
+                (String cc) -> {
+                    throw new UnsupportedOperationException();
+                },
+                (String lt) -> {
+                    throw new UnsupportedOperationException();
+                },
+                ExpressionNumberKind.BIG_DECIMAL,
+                MathContext.DECIMAL32
+            );
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterBytesToObject.instance(),
+            JsonNodeConverterBytesToObject.class.getSimpleName()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterBytesToObject<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterBytesToObject.class);
+    }
+}
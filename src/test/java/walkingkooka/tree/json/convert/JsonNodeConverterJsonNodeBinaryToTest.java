@@ -0,0 +1,213 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.expression.Expression;
+import walkingkooka.tree.expression.ExpressionNumber;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public final class JsonNodeConverterJsonNodeBinaryToTest extends JsonNodeConverterTestCase<JsonNodeConverterJsonNodeBinaryTo<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    private final static Expression EXPRESSION = Expression.add(
+        Expression.value(1),
+        Expression.value(23)
+    );
+
+    @Test
+    public void testConvertStringFails() {
+        this.convertFails(
+            "[]",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertEmptyBytesFails() {
+        this.convertFails(
+            new byte[0],
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertTextBytesFails() {
+        this.convertFails(
+            "[]".getBytes(StandardCharsets.UTF_8),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertUnsupportedVersionFails() {
+        this.convertFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION + 1, JsonNodeBinaryWriter.NULL},
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertToStringFails() {
+        this.convertFails(
+            bytes("\"abc\""),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertToBooleanFails() {
+        this.convertFails(
+            bytes("true"),
+            Boolean.class
+        );
+    }
+
+    @Test
+    public void testConvertToNumberFails() {
+        this.convertFails(
+            bytes("1"),
+            Number.class
+        );
+    }
+
+    @Test
+    public void testConvertToExpressionNumberFails() {
+        this.convertFails(
+            bytes("1"),
+            ExpressionNumber.class
+        );
+    }
+
+    @Test
+    public void testConvertToUnsupportedClassFails() {
+        this.convertFails(
+            bytes("{}"),
+            Void.class
+        );
+    }
+
+    @Test
+    public void testConvertInvalidBytesFails() {
+        this.convertFails(
+            new byte[]{JsonNodeBinaryWriter.VERSION},
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertToJsonNode() {
+        final String json = "{\"a\": [1, true, \"three\"], \"b\": null}";
+
+        this.convertAndCheck(
+            bytes(json),
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertToJsonArray() {
+        final String json = "[1, 2.5, \"three\"]";
+
+        this.convertAndCheck(
+            bytes(json),
+            JsonArray.class,
+            JsonNode.parse(json)
+                .arrayOrFail()
+        );
+    }
+
+    @Test
+    public void testConvertToExpression() {
+        this.convertAndCheck(
+            JsonNodeBinaryWriter.write(
+                JsonNodeMarshallContexts.basic()
+                    .marshall(EXPRESSION)
+            ),
+            EXPRESSION.getClass(),
+            Cast.to(EXPRESSION)
+        );
+    }
+
+    private static byte[] bytes(final String json) {
+        return JsonNodeBinaryWriter.write(
+            JsonNode.parse(json)
+        );
+    }
+
+    @Override
+    public JsonNodeConverterJsonNodeBinaryTo<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterJsonNodeBinaryTo.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+
+            @Override
+            public <T> T unmarshall(final JsonNode json,
+                                    final Class<T> type) {
+                return this.context.unmarshall(json, type);
+            }
+
+            @Override
+            public Optional<JsonString> typeName(final Class<?> type) {
+                return this.context.typeName(type);
+            }
+
+            private final JsonNodeUnmarshallContext context = JsonNodeUnmarshallContexts.basic(
+                (String cc) -> {
+                    throw new UnsupportedOperationException();
+                },
+                (String lt) -> {
+                    throw new UnsupportedOperationException();
+                },
+                ExpressionNumberKind.BIG_DECIMAL,
+                MathContext.DECIMAL32
+            );
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "JSON binary to type"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterJsonNodeBinaryTo<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterJsonNodeBinaryTo.class);
+    }
+}
@@ -52,6 +52,25 @@ public final class JsonNodeConverterJsonNodeToTest extends JsonNodeConverterTest
         );
     }
 
+    @Test
+    public void testConvertJsonNodeTextIndexTo() {
+        final JsonNodeConverterContext context = this.createContext();
+        final JsonNodeConverterJsonNodeTo<JsonNodeConverterContext> converter = this.createConverter();
+
+        final ExpressionNumber number = context.expressionNumberKind().create(123);
+
+        this.convertAndCheck(
+            converter,
+            JsonNodeTextIndex.parse(
+                context.marshall(number)
+                    .toString()
+            ),
+            ExpressionNumber.class,
+            context,
+            number
+        );
+    }
+
     @Test
     public void testConvertTextToJsonNodeTo() {
         final JsonNodeConverterContext context = this.createContext();
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeConverterNdjsonTest implements ClassTesting<JsonNodeConverterNdjson<?>> {
+
+    @Test
+    public void testLinesEmpty() {
+        this.linesAndCheck(
+            ""
+        );
+    }
+
+    @Test
+    public void testLinesOnlyBlankLines() {
+        this.linesAndCheck(
+            " \n\t\r\n\n"
+        );
+    }
+
+    @Test
+    public void testLinesSingleWithoutNewLine() {
+        this.linesAndCheck(
+            "{}",
+            0, 2
+        );
+    }
+
+    @Test
+    public void testLinesSeveral() {
+        this.linesAndCheck(
+            "1\n22\n\n333\n",
+            0, 1,
+            2, 4,
+            6, 9
+        );
+    }
+
+    @Test
+    public void testLinesCarriageReturnNewLine() {
+        this.linesAndCheck(
+            "1\r\n2\r\n",
+            0, 2,
+            3, 5
+        );
+    }
+
+    private void linesAndCheck(final String text,
+                               final int... expected) {
+        this.checkEquals(
+            Arrays.toString(expected),
+            Arrays.toString(JsonNodeConverterNdjson.lines(text)),
+            text
+        );
+    }
+
+    @Test
+    public void testParseLineInvalidIncludesLineNumber() {
+        final String text = "1\n\nbad\n";
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterNdjson.parseLine(
+                text,
+                JsonNodeConverterNdjson.lines(text),
+                1,
+                JsonNodeTextSymbols.empty(),
+                null,
+                new FakeJsonNodeConverterContext()
+            )
+        );
+        this.checkEquals(
+            true,
+            thrown.getMessage().startsWith("Line 3: "),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseLineWithoutSymbols() {
+        final String text = "1\n{\"a\": \"b\"}\n";
+
+        this.checkEquals(
+            JsonNode.parse("{\"a\": \"b\"}"),
+            JsonNodeConverterNdjson.parseLine(
+                text,
+                JsonNodeConverterNdjson.lines(text),
+                1,
+                null,
+                null,
+                new FakeJsonNodeConverterContext()
+            )
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeConverterNdjson<?>> type() {
+        return Cast.to(JsonNodeConverterNdjson.class);
+    }
+}
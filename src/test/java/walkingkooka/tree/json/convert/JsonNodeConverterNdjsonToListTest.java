@@ -0,0 +1,310 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.Expression;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.JsonString;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeConverterNdjsonToListTest extends JsonNodeConverterTestCase<JsonNodeConverterNdjsonToList<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertInvalidLineFails() {
+        this.convertFails(
+            "[1]\nbad\n[3]",
+            List.class
+        );
+    }
+
+    @Test
+    public void testConvertLineWithTwoValuesFails() {
+        this.convertFails(
+            "[1] [2]",
+            List.class
+        );
+    }
+
+    @Test
+    public void testConvertToUnsupportedTypeFails() {
+        this.convertFails(
+            "1",
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertEmptyFails() {
+        this.convertFails(
+            "",
+            List.class
+        );
+    }
+
+    @Test
+    public void testConvertNotObjectOrArrayFails() {
+        this.convertFails(
+            "1,2,3",
+            List.class
+        );
+    }
+
+    @Test
+    public void testConvertStringFirstFails() {
+        this.convertFails(
+            "\"text\"\n[1]",
+            List.class
+        );
+    }
+
+    @Test
+    public void testConvert() {
+        this.convertAndCheck(
+            "{\"a\": 1}\n[true, null]\n\"text\"\n",
+            List.class,
+            Lists.of(
+                JsonNode.object()
+                    .set(
+                        JsonPropertyName.with("a"),
+                        JsonNode.number(1)
+                    ),
+                JsonNode.array()
+                    .appendChild(JsonNode.booleanNode(true))
+                    .appendChild(JsonNode.nullNode()),
+                JsonNode.string("text")
+            )
+        );
+    }
+
+    @Test
+    public void testConvertSkipsBlankLinesAndCarriageReturns() {
+        this.convertAndCheck(
+            "\r\n  \n[1]\r\n\r\n  \n2\r\n",
+            List.class,
+            Lists.of(
+                JsonNode.array()
+                    .appendChild(JsonNode.number(1)),
+                JsonNode.number(2)
+            )
+        );
+    }
+
+    @Test
+    public void testConvertSharesPropertyNamesBetweenRecords() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            b.append("{\"name\": ")
+                .append(i)
+                .append("}\n");
+        }
+
+        final List<JsonNode> records = Cast.to(
+            this.createConverter()
+                .convertOrFail(
+                    b.toString(),
+                    List.class,
+                    this.createContext()
+                )
+        );
+
+        assertSame(
+            records.get(0)
+                .children()
+                .get(0)
+                .name(),
+            records.get(99)
+                .children()
+                .get(0)
+                .name()
+        );
+    }
+
+    @Test
+    public void testConvertWithElementType() {
+        final Expression expression1 = Expression.add(
+            Expression.value(1),
+            Expression.value(2)
+        );
+        final Expression expression2 = Expression.add(
+            Expression.value(3),
+            Expression.value(4)
+        );
+        final Expression expression3 = Expression.add(
+            Expression.value(5),
+            Expression.value(6)
+        );
+
+        final AtomicInteger registeredTypeCount = new AtomicInteger();
+
+        this.convertAndCheck(
+            JsonNodeConverterNdjsonToList.with(
+                elementType(expression1)
+            ),
+            ndjson(
+                expression1,
+                expression2,
+                expression3
+            ),
+            List.class,
+            this.createElementTypeContext(registeredTypeCount),
+            Lists.of(
+                expression1,
+                expression2,
+                expression3
+            )
+        );
+
+        this.checkEquals(
+            1,
+            registeredTypeCount.get(),
+            "element type should be resolved once per batch"
+        );
+    }
+
+    @Test
+    public void testConvertWithElementTypeEmpty() {
+        this.convertAndCheck(
+            JsonNodeConverterNdjsonToList.with(
+                elementType(
+                    Expression.add(
+                        Expression.value(1),
+                        Expression.value(2)
+                    )
+                )
+            ),
+            "",
+            List.class,
+            this.createElementTypeContext(new AtomicInteger()),
+            Lists.empty()
+        );
+    }
+
+    @Test
+    public void testConvertWithUnknownElementTypeFails() {
+        this.convertFails(
+            JsonNodeConverterNdjsonToList.with("unknown-element-type-404"),
+            "1\n2\n",
+            List.class,
+            this.createElementTypeContext(new AtomicInteger())
+        );
+    }
+
+    @Test
+    public void testWithEmptyElementTypeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterNdjsonToList.with("")
+        );
+    }
+
+    private FakeJsonNodeConverterContext createElementTypeContext(final AtomicInteger registeredTypeCount) {
+        return new FakeJsonNodeConverterContext() {
+
+            @Override
+            public Optional<Class<?>> registeredType(final JsonString name) {
+                registeredTypeCount.incrementAndGet();
+                return this.context.registeredType(name);
+            }
+
+            @Override
+            public <T> T unmarshall(final JsonNode json,
+                                    final Class<T> type) {
+                return this.context.unmarshall(json, type);
+            }
+
+            private final JsonNodeUnmarshallContext context = JsonNodeUnmarshallContexts.basic(
+                (String cc) -> {
+                    throw new UnsupportedOperationException();
+                },
+                (String lt) -> {
+                    throw new UnsupportedOperationException();
+                },
+                ExpressionNumberKind.BIG_DECIMAL,
+                MathContext.DECIMAL32
+            );
+        };
+    }
+
+    private static String elementType(final Expression expression) {
+        return JsonNodeMarshallContexts.basic()
+            .typeName(expression.getClass())
+            .get()
+            .value();
+    }
+
+    private static String ndjson(final Expression... expressions) {
+        final StringBuilder b = new StringBuilder();
+        for (final Expression expression : expressions) {
+            b.append(
+                JsonNodeMarshallContexts.basic()
+                    .marshall(expression)
+            ).append('\n');
+        }
+        return b.toString();
+    }
+
+    @Override
+    public JsonNodeConverterNdjsonToList<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterNdjsonToList.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterNdjsonToList.instance(),
+            "NDJSON to List"
+        );
+    }
+
+    @Test
+    public void testToStringWithElementType() {
+        this.toStringAndCheck(
+            JsonNodeConverterNdjsonToList.with("expression"),
+            "NDJSON to List<expression>"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterNdjsonToList<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterNdjsonToList.class);
+    }
+}
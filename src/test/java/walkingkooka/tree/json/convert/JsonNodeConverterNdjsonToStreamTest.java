@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.Expression;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeConverterNdjsonToStreamTest extends JsonNodeConverterTestCase<JsonNodeConverterNdjsonToStream<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertToUnsupportedTypeFails() {
+        this.convertFails(
+            "1",
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertNotObjectOrArrayFails() {
+        this.convertFails(
+            "1\n2\n",
+            Stream.class
+        );
+    }
+
+    @Test
+    public void testConvert() {
+        this.convertAndCollectAndCheck(
+            "[1]\n\n\"two\"\r\n3\n",
+            JsonNode.array()
+                .appendChild(JsonNode.number(1)),
+            JsonNode.string("two"),
+            JsonNode.number(3)
+        );
+    }
+
+    @Test
+    public void testConvertInvalidLineFailsWhenReached() {
+        final Stream<JsonNode> stream = this.convertToStream("[1]\nbad\n");
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> stream.collect(Collectors.toList())
+        );
+        this.checkEquals(
+            true,
+            thrown.getMessage().startsWith("Line 2: "),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testConvertInvalidLineSkippedByLimit() {
+        this.checkEquals(
+            Lists.of(
+                JsonNode.array()
+                    .appendChild(JsonNode.number(1))
+            ),
+            this.convertToStream("[1]\nbad\n")
+                .limit(1)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testConvertWithElementType() {
+        final Expression expression1 = Expression.add(
+            Expression.value(1),
+            Expression.value(2)
+        );
+        final Expression expression2 = Expression.add(
+            Expression.value(3),
+            Expression.value(4)
+        );
+
+        final AtomicInteger registeredTypeCount = new AtomicInteger();
+
+        final Stream<Expression> stream = Cast.to(
+            JsonNodeConverterNdjsonToStream.with(
+                elementType(expression1)
+            ).convertOrFail(
+                ndjson(
+                    expression1,
+                    expression2
+                ),
+                Stream.class,
+                this.createElementTypeContext(registeredTypeCount)
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                expression1,
+                expression2
+            ),
+            stream.collect(Collectors.toList())
+        );
+
+        this.checkEquals(
+            1,
+            registeredTypeCount.get(),
+            "element type should be resolved once per batch"
+        );
+    }
+
+    @Test
+    public void testConvertWithUnknownElementTypeFails() {
+        this.convertFails(
+            JsonNodeConverterNdjsonToStream.with("unknown-element-type-404"),
+            "1\n2\n",
+            Stream.class,
+            this.createElementTypeContext(new AtomicInteger())
+        );
+    }
+
+    private FakeJsonNodeConverterContext createElementTypeContext(final AtomicInteger registeredTypeCount) {
+        return new FakeJsonNodeConverterContext() {
+
+            @Override
+            public Optional<Class<?>> registeredType(final JsonString name) {
+                registeredTypeCount.incrementAndGet();
+                return this.context.registeredType(name);
+            }
+
+            @Override
+            public <T> T unmarshall(final JsonNode json,
+                                    final Class<T> type) {
+                return this.context.unmarshall(json, type);
+            }
+
+            private final JsonNodeUnmarshallContext context = JsonNodeUnmarshallContexts.basic(
+                (String cc) -> {
+                    throw new UnsupportedOperationException();
+                },
+                (String lt) -> {
+                    throw new UnsupportedOperationException();
+                },
+                ExpressionNumberKind.BIG_DECIMAL,
+                MathContext.DECIMAL32
+            );
+        };
+    }
+
+    private static String elementType(final Expression expression) {
+        return JsonNodeMarshallContexts.basic()
+            .typeName(expression.getClass())
+            .get()
+            .value();
+    }
+
+    private static String ndjson(final Expression... expressions) {
+        final StringBuilder b = new StringBuilder();
+        for (final Expression expression : expressions) {
+            b.append(
+                JsonNodeMarshallContexts.basic()
+                    .marshall(expression)
+            ).append('\n');
+        }
+        return b.toString();
+    }
+
+    private void convertAndCollectAndCheck(final String text,
+                                           final JsonNode... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            this.convertToStream(text)
+                .collect(Collectors.toList()),
+            text
+        );
+    }
+
+    private Stream<JsonNode> convertToStream(final String text) {
+        return Cast.to(
+            this.createConverter()
+                .convertOrFail(
+                    text,
+                    Stream.class,
+                    this.createContext()
+                )
+        );
+    }
+
+    @Override
+    public JsonNodeConverterNdjsonToStream<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterNdjsonToStream.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterNdjsonToStream.instance(),
+            "NDJSON to Stream"
+        );
+    }
+
+    @Test
+    public void testToStringWithElementType() {
+        this.toStringAndCheck(
+            JsonNodeConverterNdjsonToStream.with("expression"),
+            "NDJSON to Stream<expression>"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterNdjsonToStream<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterNdjsonToStream.class);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.io.StringReader;
+
+public final class JsonNodeConverterReaderToJsonNodeTest extends JsonNodeConverterTestCase<JsonNodeConverterReaderToJsonNode<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertReaderWithBadJsonFails() {
+        this.convertFails(
+            new StringReader("bad json"),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertReaderWithTrailingTextFails() {
+        this.convertFails(
+            new StringReader("{} 1"),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertReaderToUnsupportedTypeFails() {
+        this.convertFails(
+            new StringReader("{}"),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertReaderToWrongJsonNodeSubClassFails() {
+        this.convertFails(
+            new StringReader("{}"),
+            JsonArray.class
+        );
+    }
+
+    @Test
+    public void testConvertReaderToJsonNode() {
+        final String json = "{\"a\": [true, false, null, 1.5, \"two\"], \"b\": {\"c\": -3e2}}";
+
+        this.convertAndCheck(
+            new StringReader(json),
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertReaderToJsonObject() {
+        final JsonObject object = JsonNode.object()
+            .set(
+                JsonPropertyName.with("field"),
+                JsonNode.string("value")
+            );
+
+        this.convertAndCheck(
+            new StringReader(object.toString()),
+            JsonObject.class,
+            object
+        );
+    }
+
+    @Test
+    public void testConvertReaderLargerThanBuffer() {
+        JsonArray array = JsonNode.array();
+        for (int i = 0; i < JsonNodeTextParser.BUFFER_SIZE; i++) {
+            array = array.appendChild(
+                JsonNode.string("element-" + i)
+            );
+        }
+
+        this.convertAndCheck(
+            new StringReader(array.toString()),
+            JsonArray.class,
+            array
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonNode() {
+        final String json = "[1, 2, 3]";
+
+        this.convertAndCheck(
+            json,
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertStringBuilderToJsonNode() {
+        final String json = "{\"hello\": \"world\"}";
+
+        this.convertAndCheck(
+            new StringBuilder(json),
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Override
+    public JsonNodeConverterReaderToJsonNode<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterReaderToJsonNode.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterReaderToJsonNode.instance(),
+            "Reader to JsonNode"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterReaderToJsonNode<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterReaderToJsonNode.class);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+
+public final class JsonNodeConverterTextEditToJsonNodeTest extends JsonNodeConverterTestCase<JsonNodeConverterTextEditToJsonNode<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    private final static String TEXT = "{\"a\": [1, 2, {\"b\": \"x\"}], \"c\": {\"d\": [true]}}";
+
+    @Test
+    public void testConvertToUnsupportedTypeFails() {
+        this.convertFails(
+            edit(TEXT, 7, 8, "9"),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertInvalidEditFails() {
+        this.convertFails(
+            edit(TEXT, 7, 8, "}"),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertReplaceArrayElement() {
+        this.convertAndCheck2(
+            edit(TEXT, 7, 8, "99")
+        );
+    }
+
+    @Test
+    public void testConvertReplaceNestedString() {
+        this.convertAndCheck2(
+            edit(TEXT, 20, 21, "xyz")
+        );
+    }
+
+    @Test
+    public void testConvertInsertArrayElement() {
+        this.convertAndCheck2(
+            edit(TEXT, 42, 42, ", false")
+        );
+    }
+
+    @Test
+    public void testConvertDeleteProperty() {
+        this.convertAndCheck2(
+            edit(TEXT, 24, 44, "")
+        );
+    }
+
+    @Test
+    public void testConvertChangeValueType() {
+        this.convertAndCheck2(
+            edit(TEXT, 37, 43, "null")
+        );
+    }
+
+    @Test
+    public void testConvertReplaceRootDelimiter() {
+        this.convertAndCheck2(
+            edit("[1, 2]", 0, 6, "{}")
+        );
+    }
+
+    @Test
+    public void testConvertRootScalar() {
+        this.convertAndCheck2(
+            edit("123", 1, 2, "4")
+        );
+    }
+
+    @Test
+    public void testConvertDuplicatePropertyNames() {
+        this.convertAndCheck2(
+            edit("{\"a\": [1], \"a\": [2]}", 17, 18, "3")
+        );
+    }
+
+    @Test
+    public void testConvertEveryEdit() {
+        for (int start = 0; start <= TEXT.length(); start++) {
+            for (int end = start; end <= Math.min(TEXT.length(), start + 2); end++) {
+                for (final String replacement : new String[]{"", "9", ",", "]", "\"", " "}) {
+                    final JsonNodeTextEdit edit = edit(TEXT, start, end, replacement);
+                    final String newText = edit.newText();
+
+                    JsonNode expected;
+                    try {
+                        expected = JsonNode.parse(newText);
+                    } catch (final RuntimeException invalid) {
+                        expected = null;
+                    }
+
+                    if (null != expected) {
+                        this.checkEquals(
+                            expected,
+                            JsonNodeConverterTextEditToJsonNode.parse(edit),
+                            newText
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConvertEveryEditWithIndex() {
+        final JsonNode node = JsonNode.parse(TEXT);
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(TEXT);
+
+        for (int start = 0; start <= TEXT.length(); start++) {
+            for (int end = start; end <= Math.min(TEXT.length(), start + 2); end++) {
+                for (final String replacement : new String[]{"", "9", ",", "]", "\"", " "}) {
+                    // the same index and its cached nested indexes are reused by every edit
+                    final JsonNodeTextEdit edit = JsonNodeTextEdit.withIndex(
+                        index,
+                        node,
+                        start,
+                        end,
+                        replacement
+                    );
+                    final String newText = edit.newText();
+
+                    JsonNode expected;
+                    try {
+                        expected = JsonNode.parse(newText);
+                    } catch (final RuntimeException invalid) {
+                        expected = null;
+                    }
+
+                    if (null != expected) {
+                        this.checkEquals(
+                            expected,
+                            JsonNodeConverterTextEditToJsonNode.parse(edit),
+                            newText
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private void convertAndCheck2(final JsonNodeTextEdit edit) {
+        final JsonNode expected = JsonNode.parse(edit.newText());
+
+        this.convertAndCheck(
+            edit,
+            JsonNode.class,
+            expected
+        );
+
+        if (expected.isObject()) {
+            this.convertAndCheck(
+                edit,
+                JsonObject.class,
+                expected.objectOrFail()
+            );
+        }
+        if (expected.isArray()) {
+            this.convertAndCheck(
+                edit,
+                JsonArray.class,
+                expected.arrayOrFail()
+            );
+        }
+    }
+
+    private static JsonNodeTextEdit edit(final String text,
+                                         final int start,
+                                         final int end,
+                                         final String replacement) {
+        return JsonNodeTextEdit.with(
+            text,
+            JsonNode.parse(text),
+            start,
+            end,
+            replacement
+        );
+    }
+
+    @Override
+    public JsonNodeConverterTextEditToJsonNode<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterTextEditToJsonNode.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterTextEditToJsonNode.instance(),
+            "JsonNodeTextEdit to JsonNode"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterTextEditToJsonNode<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterTextEditToJsonNode.class);
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.Converters;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeConverterTextToJsonNodeCacheTest extends JsonNodeConverterTestCase<JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    private final static int CAPACITY = 3;
+
+    private final static int WEIGHT = 100;
+
+    @Test
+    public void testWithZeroCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterTextToJsonNodeCache.with(
+                0,
+                WEIGHT
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroWeightFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterTextToJsonNodeCache.with(
+                CAPACITY,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testConvertStringWithBadJsonFails() {
+        this.convertFails(
+            "bad json",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringWithBadJsonSameMessageAsJsonNodeParse() {
+        final String json = "[1, 2,]";
+
+        this.checkEquals(
+            assertThrows(
+                RuntimeException.class,
+                () -> JsonNode.parse(json)
+            ).getMessage(),
+            assertThrows(
+                RuntimeException.class,
+                () -> this.createConverter()
+                    .parseText(
+                        json,
+                        JsonNode.class,
+                        this.createContext()
+                    )
+            ).getMessage()
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonNode() {
+        final String json = "{\"a\": [1, true, null]}";
+
+        this.convertAndCheck(
+            json,
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonObject() {
+        final String json = "{\"a\": 1}";
+
+        this.convertAndCheck(
+            json,
+            JsonObject.class,
+            JsonNode.parse(json)
+                .objectOrFail()
+        );
+    }
+
+    @Test
+    public void testConvertStringToWrongSubClassFails() {
+        this.convertFails(
+            "{}",
+            JsonArray.class
+        );
+    }
+
+    @Test
+    public void testConvertSameTextHits() {
+        final JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext> converter = this.createConverter();
+        final FakeJsonNodeConverterContext context = this.createContext();
+
+        final String json = "[1, 2, 3]";
+        final JsonNode first = converter.convertOrFail(
+            json,
+            JsonNode.class,
+            context
+        );
+        final JsonNode second = converter.convertOrFail(
+            json,
+            JsonNode.class,
+            context
+        );
+
+        assertSame(
+            first,
+            second
+        );
+        this.statisticsAndCheck(
+            converter,
+            1,
+            1,
+            0,
+            1
+        );
+    }
+
+    @Test
+    public void testConvertEvictsLeastRecentlyUsedWhenCapacityExceeded() {
+        final JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext> converter = this.createConverter();
+        final FakeJsonNodeConverterContext context = this.createContext();
+
+        converter.convertOrFail("1", JsonNode.class, context);
+        converter.convertOrFail("2", JsonNode.class, context);
+        converter.convertOrFail("3", JsonNode.class, context);
+        converter.convertOrFail("1", JsonNode.class, context); // hit, 2 is now the least recently used
+        converter.convertOrFail("4", JsonNode.class, context); // evicts 2
+        converter.convertOrFail("1", JsonNode.class, context); // hit
+
+        this.statisticsAndCheck(
+            converter,
+            2,
+            4,
+            1,
+            CAPACITY
+        );
+    }
+
+    @Test
+    public void testConvertEvictsWhenWeightExceeded() {
+        final JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext> converter = JsonNodeConverterTextToJsonNodeCache.with(
+            CAPACITY,
+            10
+        );
+        final FakeJsonNodeConverterContext context = this.createContext();
+
+        converter.convertOrFail("\"abcd\"", JsonNode.class, context); // 6
+        converter.convertOrFail("\"efgh\"", JsonNode.class, context); // 6 evicts first
+
+        this.statisticsAndCheck(
+            converter,
+            0,
+            2,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testConvertTextHeavierThanWeightNotCached() {
+        final JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext> converter = JsonNodeConverterTextToJsonNodeCache.with(
+            CAPACITY,
+            2
+        );
+        final FakeJsonNodeConverterContext context = this.createContext();
+
+        converter.convertOrFail("\"abc\"", JsonNode.class, context);
+
+        this.statisticsAndCheck(
+            converter,
+            0,
+            1,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testJsonNodeConvertersTextToJsonNodeCacheStatistics() {
+        final Converter<FakeJsonNodeConverterContext> converter = JsonNodeConverters.textToJsonNodeCache(
+            CAPACITY,
+            WEIGHT
+        );
+        final FakeJsonNodeConverterContext context = this.createContext();
+
+        converter.convertOrFail("1", JsonNode.class, context);
+        converter.convertOrFail("1", JsonNode.class, context);
+
+        this.checkEquals(
+            JsonNodeCacheStatistics.with(
+                1,
+                1,
+                1,
+                0
+            ),
+            JsonNodeConverters.textToJsonNodeCacheStatistics(converter)
+        );
+    }
+
+    @Test
+    public void testJsonNodeConvertersTextToJsonNodeCacheStatisticsOtherConverterFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverters.textToJsonNodeCacheStatistics(
+                JsonNodeConverters.textToJsonNode()
+            )
+        );
+    }
+
+    private void statisticsAndCheck(final JsonNodeConverterTextToJsonNodeCache<?> converter,
+                                    final long hits,
+                                    final long misses,
+                                    final long evictions,
+                                    final int size) {
+        this.checkEquals(
+            JsonNodeCacheStatistics.with(
+                size,
+                hits,
+                misses,
+                evictions
+            ),
+            converter.statistics()
+        );
+    }
+
+    @Override
+    public JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterTextToJsonNodeCache.with(
+            CAPACITY,
+            WEIGHT
+        );
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type) {
+                return this.converter.canConvert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type) {
+                return this.converter.convert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            private final Converter<FakeJsonNodeConverterContext> converter = Converters.characterOrCharSequenceOrHasTextOrStringToCharacterOrCharSequenceOrString();
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "JsonNodeConverterTextToJsonNode cache capacity=3 weight=100"
+        );
+    }
+
+    @Test
+    public void testToStringAfterConvert() {
+        final JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext> converter = this.createConverter();
+        converter.convertOrFail("1", JsonNode.class, this.createContext());
+
+        this.toStringAndCheck(
+            converter,
+            "JsonNodeConverterTextToJsonNode cache capacity=3 weight=100"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterTextToJsonNodeCache<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterTextToJsonNodeCache.class);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.Converters;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeConverterTextToJsonNodeParallelTest extends JsonNodeConverterTestCase<JsonNodeConverterTextToJsonNodeParallel<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testWithNegativeThresholdFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterTextToJsonNodeParallel.with(-1)
+        );
+    }
+
+    @Test
+    public void testConvertStringWithBadJsonFails() {
+        this.convertFails(
+            "[1, 2",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringWithBadElementFails() {
+        this.convertFails(
+            "[1, {\"a\": tru}, 3]",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringWithEmptyElementFails() {
+        this.convertFails(
+            "[1, , 3]",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringWithTrailingCommaFails() {
+        this.convertFails(
+            "[1, 2, ]",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringWithTrailingTextFails() {
+        this.convertFails(
+            "[1, 2] 3",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringEmptyArray() {
+        this.convertAndCheck(
+            " [ ] ",
+            JsonNode.class,
+            JsonNode.array()
+        );
+    }
+
+    @Test
+    public void testConvertStringArray() {
+        final String json = "[1, \"two, ] \\\" [\", [3, [4]], {\"five\": [5, {}]}, true, null]";
+
+        this.convertAndCheck(
+            json,
+            JsonArray.class,
+            JsonNode.parse(json)
+                .arrayOrFail()
+        );
+    }
+
+    @Test
+    public void testConvertStringLargeArray() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append("{\"row\": ")
+                .append(i)
+                .append(", \"cells\": [\"a\", \"b,c\", ")
+                .append(i * 2)
+                .append("]}");
+        }
+        b.append(']');
+
+        final String json = b.toString();
+
+        this.convertAndCheck(
+            json,
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertStringLargeArraySharesPropertyNames() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append("{\"row\": ")
+                .append(i)
+                .append('}');
+        }
+        b.append(']');
+
+        final JsonNode array = this.createConverter()
+            .convertOrFail(
+                b.toString(),
+                JsonNode.class,
+                this.createContext()
+            );
+
+        assertSame(
+            array.children()
+                .get(0)
+                .children()
+                .get(0)
+                .name(),
+            array.children()
+                .get(999)
+                .children()
+                .get(0)
+                .name()
+        );
+    }
+
+    @Test
+    public void testConvertStringObject() {
+        final String json = "{\"a\": [1, 2]}";
+
+        this.convertAndCheck(
+            json,
+            JsonObject.class,
+            JsonNode.parse(json)
+                .objectOrFail()
+        );
+    }
+
+    @Test
+    public void testElementBoundaries() {
+        assertArrayEquals(
+            new int[]{1, 3, 9, 14},
+            JsonNodeConverterTextToJsonNodeParallel.elementBoundaries(" [1,\"a,]\",[2] ]")
+        );
+    }
+
+    @Test
+    public void testElementBoundariesNotArray() {
+        this.checkEquals(
+            null,
+            JsonNodeConverterTextToJsonNodeParallel.elementBoundaries("{\"a\": [1, 2]}")
+        );
+    }
+
+    @Override
+    public JsonNodeConverterTextToJsonNodeParallel<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterTextToJsonNodeParallel.with(0);
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type) {
+                return this.converter.canConvert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type) {
+                return this.converter.convert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            private final Converter<FakeJsonNodeConverterContext> converter = Converters.characterOrCharSequenceOrHasTextOrStringToCharacterOrCharSequenceOrString();
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterTextToJsonNodeParallel.with(1000),
+            "JsonNodeConverterTextToJsonNodeParallel 1000"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterTextToJsonNodeParallel<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterTextToJsonNodeParallel.class);
+    }
+}
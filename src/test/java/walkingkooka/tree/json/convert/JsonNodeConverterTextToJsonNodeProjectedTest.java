@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.Converters;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeConverterTextToJsonNodeProjectedTest extends JsonNodeConverterTestCase<JsonNodeConverterTextToJsonNodeProjected<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testWithInvalidPathFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeConverterTextToJsonNodeProjected.with(
+                Lists.of("invalid")
+            )
+        );
+    }
+
+    @Test
+    public void testConvertStringWithBadJsonFails() {
+        this.convertFails(
+            "{\"a\": ",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringToWrongSubClassFails() {
+        this.convertFails(
+            "{\"a\": 1}",
+            JsonArray.class
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonNode() {
+        this.convertAndCheck(
+            "{\"a\": {\"b\": 1, \"c\": 2}, \"items\": [{\"id\": 1, \"x\": true}, {\"id\": 2, \"x\": false}], \"z\": null}",
+            JsonNode.class,
+            JsonNode.parse("{\"a\": {\"b\": 1}, \"items\": [{\"id\": 1}, {\"id\": 2}]}")
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonObject() {
+        this.convertAndCheck(
+            "{\"a\": {\"b\": 1}}",
+            JsonObject.class,
+            JsonNode.parse("{\"a\": {\"b\": 1}}")
+                .objectOrFail()
+        );
+    }
+
+    @Override
+    public JsonNodeConverterTextToJsonNodeProjected<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterTextToJsonNodeProjected.with(
+            Lists.of(
+                "/a/b",
+                "/items/*/id"
+            )
+        );
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type) {
+                return this.converter.canConvert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type) {
+                return this.converter.convert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            private final Converter<FakeJsonNodeConverterContext> converter = Converters.characterOrCharSequenceOrHasTextOrStringToCharacterOrCharSequenceOrString();
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "JsonNodeConverterTextToJsonNodeProjected [/a/b, /items/*/id]"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterTextToJsonNodeProjected<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterTextToJsonNodeProjected.class);
+    }
+}
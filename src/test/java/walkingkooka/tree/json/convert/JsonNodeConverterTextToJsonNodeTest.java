@@ -35,6 +35,100 @@ public final class JsonNodeConverterTextToJsonNodeTest extends JsonNodeConverter
         );
     }
 
+    @Test
+    public void testConvertStringWithTrailingTextFails() {
+        this.convertFails(
+            "{} []",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringWithWhitespaceToJsonNode() {
+        final String json = " \n{ \"a\" : [ 1 , 2 ] }\t";
+
+        this.convertStringAndCheck(
+            json,
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertLargeStringToJsonNode() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < JsonNodeTextParser.BUFFER_SIZE; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append("{\"index\": ")
+                .append(i)
+                .append(", \"text\": \"abc\\n")
+                .append(i)
+                .append("\"}");
+        }
+        b.append(']');
+
+        final String json = b.toString();
+
+        this.convertStringAndCheck(
+            json,
+            JsonNode.class,
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertStringWithTrailingTextStreamingFails() {
+        this.convertFails(
+            JsonNodeConverterTextToJsonNode.streaming(),
+            "{} []",
+            JsonNode.class,
+            this.createContext()
+        );
+    }
+
+    @Test
+    public void testConvertStringWithWhitespaceToJsonNodeStreaming() {
+        final String json = " \n{ \"a\" : [ 1 , 2 ] }\t";
+
+        this.convertAndCheck(
+            JsonNodeConverterTextToJsonNode.streaming(),
+            json,
+            JsonNode.class,
+            this.createContext(),
+            JsonNode.parse(json)
+        );
+    }
+
+    @Test
+    public void testConvertLargeStringToJsonNodeStreaming() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < JsonNodeTextParser.BUFFER_SIZE; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append("{\"index\": ")
+                .append(i)
+                .append(", \"text\": \"abc\\n")
+                .append(i)
+                .append("\"}");
+        }
+        b.append(']');
+
+        final String json = b.toString();
+
+        this.convertAndCheck(
+            JsonNodeConverterTextToJsonNode.streaming(),
+            json,
+            JsonNode.class,
+            this.createContext(),
+            JsonNode.parse(json)
+        );
+    }
+
     @Test
     public void testConvertStringToJsonNode() {
         final String json = "{}";
@@ -151,6 +245,14 @@ public final class JsonNodeConverterTextToJsonNodeTest extends JsonNodeConverter
         );
     }
 
+    @Test
+    public void testToStringStreaming() {
+        this.toStringAndCheck(
+            JsonNodeConverterTextToJsonNode.streaming(),
+            JsonNodeConverterTextToJsonNode.class.getSimpleName() + " streaming"
+        );
+    }
+
     // class............................................................................................................
 
     @Override
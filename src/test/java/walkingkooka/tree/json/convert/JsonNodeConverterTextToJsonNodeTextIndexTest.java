@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.Converters;
+import walkingkooka.tree.json.JsonNode;
+
+public final class JsonNodeConverterTextToJsonNodeTextIndexTest extends JsonNodeConverterTestCase<JsonNodeConverterTextToJsonNodeTextIndex<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertStringWithBadJsonFails() {
+        this.convertFails(
+            "[1, 2",
+            JsonNodeTextIndex.class
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonNodeFails() {
+        this.convertFails(
+            "{}",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertStringToJsonNodeTextIndex() {
+        final String json = "{\"a\": [1, 2], \"b\": true}";
+
+        this.convertAndCheck(
+            json,
+            JsonNodeTextIndex.class,
+            JsonNodeTextIndex.parse(json)
+        );
+    }
+
+    @Override
+    public JsonNodeConverterTextToJsonNodeTextIndex<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterTextToJsonNodeTextIndex.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type) {
+                return this.converter.canConvert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type) {
+                return this.converter.convert(
+                    value,
+                    type,
+                    this
+                );
+            }
+
+            private final Converter<FakeJsonNodeConverterContext> converter = Converters.characterOrCharSequenceOrHasTextOrStringToCharacterOrCharSequenceOrString();
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterTextToJsonNodeTextIndex.instance(),
+            JsonNodeConverterTextToJsonNodeTextIndex.class.getSimpleName()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterTextToJsonNodeTextIndex<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterTextToJsonNodeTextIndex.class);
+    }
+}
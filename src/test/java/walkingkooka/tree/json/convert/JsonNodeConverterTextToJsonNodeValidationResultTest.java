@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.json.JsonNode;
+
+public final class JsonNodeConverterTextToJsonNodeValidationResultTest extends JsonNodeConverterTestCase<JsonNodeConverterTextToJsonNodeValidationResult<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertToUnsupportedTypeFails() {
+        this.convertFails(
+            "{}",
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertToBooleanFails() {
+        this.convertFails(
+            "false",
+            Boolean.class
+        );
+    }
+
+    @Test
+    public void testConvertValidToValidationResult() {
+        this.convertAndCheck(
+            "[1, 2, 3]",
+            JsonNodeValidationResult.class,
+            JsonNodeValidationResult.VALID
+        );
+    }
+
+    @Test
+    public void testConvertInvalidToValidationResult() {
+        this.convertAndCheck(
+            "[1, 2,]",
+            JsonNodeValidationResult.class,
+            JsonNodeValidationResult.invalid(
+                "Invalid character ']' at 6",
+                6
+            )
+        );
+    }
+
+    @Test
+    public void testConvertNonAsciiUnicodeEscapeToValidationResult() {
+        this.convertAndCheck(
+            "\"\\u00\u0664\u0661\"",
+            JsonNodeValidationResult.class,
+            JsonNodeValidationResult.invalid(
+                "Invalid character '\u0664' at 6",
+                6
+            )
+        );
+    }
+
+    @Override
+    public JsonNodeConverterTextToJsonNodeValidationResult<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterTextToJsonNodeValidationResult.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeConverterTextToJsonNodeValidationResult.instance(),
+            "text to JsonNodeValidationResult"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterTextToJsonNodeValidationResult<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterTextToJsonNodeValidationResult.class);
+    }
+}
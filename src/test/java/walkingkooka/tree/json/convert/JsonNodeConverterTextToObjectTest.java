@@ -132,6 +132,62 @@ public final class JsonNodeConverterTextToObjectTest extends JsonNodeConverterTe
         );
     }
 
+    @Test
+    public void testConvertInvalidJsonToExpressionFails() {
+        this.convertFails(
+            "{\"unclosed\": ",
+            Expression.class
+        );
+    }
+
+    @Test
+    public void testConvertJsonStringWithExpressionAndWhitespaceToExpression() {
+        final Expression expression = Expression.add(
+            Expression.value(1),
+            Expression.value(23)
+        );
+
+        this.convertAndCheck(
+            this.createConverter(),
+            " \n" +
+                JsonNodeMarshallContexts.basic()
+                    .marshall(expression) +
+                "\n ",
+            expression.getClass(),
+            this.createContext(),
+            Cast.to(expression)
+        );
+    }
+
+    @Test
+    public void testConvertJsonStringWithExpressionAndWhitespaceToExpressionStreaming() {
+        final Expression expression = Expression.add(
+            Expression.value(1),
+            Expression.value(23)
+        );
+
+        this.convertAndCheck(
+            JsonNodeConverterTextToObject.streaming(),
+            " \n" +
+                JsonNodeMarshallContexts.basic()
+                    .marshall(expression) +
+                "\n ",
+            expression.getClass(),
+            this.createContext(),
+            Cast.to(expression)
+        );
+    }
+
+    @Test
+    public void testConvertInvalidJsonToExpressionStreamingFails() {
+        this.convertFails(
+            JsonNodeConverterTextToObject.streaming(),
+            "{\"unclosed\": ",
+            Expression.class,
+            this.createContext()
+        );
+    }
+
     @Override
     public JsonNodeConverterTextToObject<FakeJsonNodeConverterContext> createConverter() {
         return JsonNodeConverterTextToObject.instance();
@@ -197,6 +253,14 @@ public final class JsonNodeConverterTextToObjectTest extends JsonNodeConverterTe
         );
     }
 
+    @Test
+    public void testToStringStreaming() {
+        this.toStringAndCheck(
+            JsonNodeConverterTextToObject.streaming(),
+            JsonNodeConverterTextToObject.class.getSimpleName() + " streaming"
+        );
+    }
+
     // class............................................................................................................
 
     @Override
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.expression.ExpressionNumber;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.expression.convert.FakeExpressionNumberConverterContext;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.util.Arrays;
+
+public final class JsonNodeConverterToJsonNodeBinaryTest extends JsonNodeConverterTestCase<JsonNodeConverterToJsonNodeBinary<JsonNodeConverterContext>, JsonNodeConverterContext> {
+
+    @Test
+    public void testConvertNullFails() {
+        this.convertFails(
+            null,
+            byte[].class
+        );
+    }
+
+    @Test
+    public void testConvertToStringFails() {
+        this.convertFails(
+            JsonNode.nullNode(),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertJsonNode() {
+        final JsonNode node = JsonNode.parse("{\"a\": [1, true, \"three\"]}");
+
+        this.convertAndCheck2(
+            node,
+            JsonNodeBinaryWriter.write(node)
+        );
+    }
+
+    @Test
+    public void testConvertExpressionNumber() {
+        final JsonNodeConverterContext context = this.createContext();
+        final ExpressionNumber number = context.expressionNumberKind()
+            .create(123);
+
+        this.convertAndCheck2(
+            number,
+            JsonNodeBinaryWriter.write(
+                context.marshall(number)
+            )
+        );
+    }
+
+    @Test
+    public void testConvertRoundtrip() {
+        final JsonNodeConverterContext context = this.createContext();
+        final ExpressionNumber number = context.expressionNumberKind()
+            .create(123);
+
+        this.convertAndCheck(
+            JsonNodeConverterJsonNodeBinaryTo.instance(),
+            this.createConverter()
+                .convertOrFail(
+                    number,
+                    byte[].class,
+                    context
+                ),
+            JsonNode.class,
+            context,
+            context.marshall(number)
+        );
+    }
+
+    private void convertAndCheck2(final Object value,
+                                  final byte[] expected) {
+        this.checkEquals(
+            Arrays.toString(expected),
+            Arrays.toString(
+                this.createConverter()
+                    .convertOrFail(
+                        value,
+                        byte[].class,
+                        this.createContext()
+                    )
+            )
+        );
+    }
+
+    @Override
+    public JsonNodeConverterToJsonNodeBinary<JsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterToJsonNodeBinary.instance();
+    }
+
+    @Override
+    public JsonNodeConverterContext createContext() {
+        final ExpressionNumberKind kind = ExpressionNumberKind.BIG_DECIMAL;
+
+        return JsonNodeConverterContexts.basic(
+            new FakeExpressionNumberConverterContext() {
+
+                @Override
+                public ExpressionNumberKind expressionNumberKind() {
+                    return kind;
+                }
+            },
+            JsonNodeMarshallUnmarshallContexts.basic(
+                JsonNodeMarshallContexts.basic(),
+                JsonNodeUnmarshallContexts.basic(
+                    (String cc) -> {
+                        throw new UnsupportedOperationException();
+                    },
+                    (String lt) -> {
+                        throw new UnsupportedOperationException();
+                    },
+                    kind,
+                    MathContext.DECIMAL32
+                )
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "* to JSON binary"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterToJsonNodeBinary<JsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterToJsonNodeBinary.class);
+    }
+}
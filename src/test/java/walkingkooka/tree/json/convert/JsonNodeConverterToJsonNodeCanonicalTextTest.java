@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.tree.expression.ExpressionNumber;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.expression.convert.FakeExpressionNumberConverterContext;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+
+public final class JsonNodeConverterToJsonNodeCanonicalTextTest extends JsonNodeConverterTestCase<JsonNodeConverterToJsonNodeCanonicalText<JsonNodeConverterContext>, JsonNodeConverterContext> {
+
+    @Test
+    public void testConvertNullFails() {
+        this.convertFails(
+            null,
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertToJsonNodeFails() {
+        this.convertFails(
+            JsonNode.nullNode(),
+            JsonNode.class
+        );
+    }
+
+    @Test
+    public void testConvertJsonNodeToString() {
+        this.convertAndCheck(
+            JsonNode.parse("{\"b\": [1, true], \"a\": \"x\"}"),
+            String.class,
+            "{\"a\":\"x\",\"b\":[1,true]}"
+        );
+    }
+
+    @Test
+    public void testConvertJsonNodeToCharSequence() {
+        this.convertAndCheck(
+            JsonNode.parse("[1.5, null]"),
+            CharSequence.class,
+            "[1.5,null]"
+        );
+    }
+
+    @Test
+    public void testConvertExpressionNumber() {
+        final JsonNodeConverterContext context = this.createContext();
+        final ExpressionNumber number = context.expressionNumberKind()
+            .create(123);
+
+        this.convertAndCheck(
+            this.createConverter(),
+            number,
+            String.class,
+            context,
+            JsonNodeCanonicalWriter.text(
+                context.marshall(number)
+            )
+        );
+    }
+
+    @Override
+    public JsonNodeConverterToJsonNodeCanonicalText<JsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterToJsonNodeCanonicalText.instance();
+    }
+
+    @Override
+    public JsonNodeConverterContext createContext() {
+        final ExpressionNumberKind kind = ExpressionNumberKind.BIG_DECIMAL;
+
+        return JsonNodeConverterContexts.basic(
+            new FakeExpressionNumberConverterContext() {
+
+                @Override
+                public ExpressionNumberKind expressionNumberKind() {
+                    return kind;
+                }
+            },
+            JsonNodeMarshallUnmarshallContexts.basic(
+                JsonNodeMarshallContexts.basic(),
+                JsonNodeUnmarshallContexts.basic(
+                    (String cc) -> {
+                        throw new UnsupportedOperationException();
+                    },
+                    (String lt) -> {
+                        throw new UnsupportedOperationException();
+                    },
+                    kind,
+                    MathContext.DECIMAL32
+                )
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "* to canonical JSON text"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterToJsonNodeCanonicalText<JsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterToJsonNodeCanonicalText.class);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.net.email.EmailAddress;
+import walkingkooka.text.Indentation;
+import walkingkooka.text.LineEnding;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonString;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+
+import java.util.Optional;
+
+public final class JsonNodeConverterToJsonNodeTextSegmentedTest extends JsonNodeConverterTestCase<JsonNodeConverterToJsonNodeTextSegmented<FakeJsonNodeConverterContext>, FakeJsonNodeConverterContext> {
+
+    @Test
+    public void testConvertNullFails() {
+        this.convertFails(
+            null,
+            CharSequence.class
+        );
+    }
+
+    @Test
+    public void testConvertToStringFails() {
+        this.convertFails(
+            JsonNode.nullNode(),
+            String.class
+        );
+    }
+
+    @Test
+    public void testConvertEmailAddressToCharSequence() {
+        final EmailAddress emailAddress = EmailAddress.parse("user@example.com");
+
+        this.convertAndCheck(
+            emailAddress,
+            CharSequence.class,
+            this.segmented(
+                JsonNodeMarshallContexts.basic()
+                    .marshall(emailAddress)
+            )
+        );
+    }
+
+    @Test
+    public void testConvertJsonNodeToJsonNodeSegmentedText() {
+        final JsonNode node = JsonNode.parse("{\"a\": [1, true, \"three\"], \"b\": {}}");
+
+        this.convertAndCheck(
+            node,
+            JsonNodeSegmentedText.class,
+            this.segmented(node)
+        );
+    }
+
+    @Test
+    public void testConvertLarge() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < JsonNodeSegmentedText.CHUNK_SIZE; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append(i);
+        }
+        b.append(']');
+
+        final JsonNode node = JsonNode.parse(b.toString());
+        final JsonNodeSegmentedText text = this.createConverter()
+            .convertOrFail(
+                node,
+                JsonNodeSegmentedText.class,
+                this.createContext()
+            );
+
+        this.checkEquals(
+            node.toJsonText(
+                Indentation.SPACES2,
+                LineEnding.NL
+            ),
+            text.toString()
+        );
+    }
+
+    private JsonNodeSegmentedText segmented(final JsonNode node) {
+        return JsonNodeTextWriter.with(
+            Indentation.SPACES2,
+            LineEnding.NL
+        ).writeSegmented(node);
+    }
+
+    @Override
+    public JsonNodeConverterToJsonNodeTextSegmented<FakeJsonNodeConverterContext> createConverter() {
+        return JsonNodeConverterToJsonNodeTextSegmented.instance();
+    }
+
+    @Override
+    public FakeJsonNodeConverterContext createContext() {
+        return new FakeJsonNodeConverterContext() {
+
+            @Override
+            public Indentation indentation() {
+                return Indentation.SPACES2;
+            }
+
+            @Override
+            public LineEnding lineEnding() {
+                return LineEnding.NL;
+            }
+
+            @Override
+            public Optional<JsonString> typeName(final Class<?> type) {
+                return this.marshallContext.typeName(type);
+            }
+
+            @Override
+            public JsonNode marshall(final Object value) {
+                return this.marshallContext.marshall(value);
+            }
+
+            private final JsonNodeMarshallContext marshallContext = JsonNodeMarshallContexts.basic();
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "* to segmented JSON text"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeConverterToJsonNodeTextSegmented<FakeJsonNodeConverterContext>> type() {
+        return Cast.to(JsonNodeConverterToJsonNodeTextSegmented.class);
+    }
+}
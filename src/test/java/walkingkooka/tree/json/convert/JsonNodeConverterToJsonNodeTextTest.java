@@ -189,6 +189,49 @@ public final class JsonNodeConverterToJsonNodeTextTest extends JsonNodeConverter
         );
     }
 
+    @Test
+    public void testConvertWithoutContextCanConvert() {
+        final EmailAddress emailAddress = EmailAddress.parse("test@example.com");
+
+        this.convertAndCheck(
+            emailAddress,
+            String.class,
+            new FakeJsonNodeConverterContext() {
+
+                @Override
+                public boolean canConvert(final Object value,
+                                          final Class<?> type) {
+                    throw new UnsupportedOperationException("canConvert " + value + " " + type);
+                }
+
+                @Override
+                public Indentation indentation() {
+                    return Indentation.SPACES2;
+                }
+
+                @Override
+                public LineEnding lineEnding() {
+                    return LineEnding.NL;
+                }
+
+                @Override
+                public Optional<JsonString> typeName(final Class<?> type) {
+                    return this.marshallContext.typeName(type);
+                }
+
+                @Override
+                public JsonNode marshall(final Object value) {
+                    return this.marshallContext.marshall(value);
+                }
+
+                private final JsonNodeMarshallContext marshallContext = JsonNodeMarshallContexts.basic();
+            },
+            JsonNodeMarshallContexts.basic()
+                .marshall(emailAddress)
+                .toString()
+        );
+    }
+
     @Test
     public void testConvertEmailAddressToCharSequence() {
         final EmailAddress emailAddress = EmailAddress.parse("test@example.com");
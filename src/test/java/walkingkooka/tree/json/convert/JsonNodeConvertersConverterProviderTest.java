@@ -24,6 +24,8 @@ import walkingkooka.plugin.ProviderContext;
 import walkingkooka.plugin.ProviderContexts;
 import walkingkooka.reflect.JavaVisibility;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class JsonNodeConvertersConverterProviderTest implements ConverterProviderTesting<JsonNodeConvertersConverterProvider> {
 
     private final static ProviderContext CONTEXT = ProviderContexts.fake();
@@ -46,6 +48,36 @@ public final class JsonNodeConvertersConverterProviderTest implements ConverterP
         );
     }
 
+    @Test
+    public void testConverterNameBytesToJsonNode() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.BYTES_TO_JSON_NODE,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.bytesToJsonNode()
+        );
+    }
+
+    @Test
+    public void testConverterNameBytesToObject() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.BYTES_TO_OBJECT,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.bytesToObject()
+        );
+    }
+
+    @Test
+    public void testConverterNameJsonBinaryTo() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.JSON_BINARY_TO,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.jsonBinaryTo()
+        );
+    }
+
     @Test
     public void testConverterNameJsonNodeTo() {
         this.converterAndCheck(
@@ -56,6 +88,74 @@ public final class JsonNodeConvertersConverterProviderTest implements ConverterP
         );
     }
 
+    @Test
+    public void testConverterNameNdjsonToList() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.NDJSON_TO_LIST,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.ndjsonToList()
+        );
+    }
+
+    @Test
+    public void testConverterNameNdjsonToListWithElementType() {
+        this.checkEquals(
+            JsonNodeConverters.ndjsonToList("expression")
+                .toString(),
+            this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.NDJSON_TO_LIST,
+                    Lists.of("expression"),
+                    CONTEXT
+                ).toString()
+        );
+    }
+
+    @Test
+    public void testConverterNameNdjsonToStream() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.NDJSON_TO_STREAM,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.ndjsonToStream()
+        );
+    }
+
+    @Test
+    public void testConverterNameNdjsonToStreamWithElementType() {
+        this.checkEquals(
+            JsonNodeConverters.ndjsonToStream("expression")
+                .toString(),
+            this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.NDJSON_TO_STREAM,
+                    Lists.of("expression"),
+                    CONTEXT
+                ).toString()
+        );
+    }
+
+    @Test
+    public void testConverterNameReaderToJsonNode() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.READER_TO_JSON_NODE,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.readerToJsonNode()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextEditToJsonNode() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TEXT_EDIT_TO_JSON_NODE,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.textEditToJsonNode()
+        );
+    }
+
     @Test
     public void testConverterNameTextToJsonNode() {
         this.converterAndCheck(
@@ -66,6 +166,236 @@ public final class JsonNodeConvertersConverterProviderTest implements ConverterP
         );
     }
 
+    @Test
+    public void testConverterNameTextToJsonNodeCache() {
+        this.checkEquals(
+            JsonNodeConverters.textToJsonNodeCache(
+                10,
+                1000
+            ).toString(),
+            this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_CACHE,
+                    Lists.of(
+                        10,
+                        1000
+                    ),
+                    CONTEXT
+                ).toString()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeCacheMissingValuesFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_CACHE,
+                    Lists.of(10),
+                    CONTEXT
+                )
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeCacheNonNumberValueFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_CACHE,
+                    Lists.of(
+                        "10",
+                        1000
+                    ),
+                    CONTEXT
+                )
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeParallel() {
+        this.checkEquals(
+            JsonNodeConverters.textToJsonNodeParallel(1000)
+                .toString(),
+            this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_PARALLEL,
+                    Lists.of(1000),
+                    CONTEXT
+                ).toString()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeParallelIntegralDouble() {
+        this.checkEquals(
+            JsonNodeConverters.textToJsonNodeParallel(1000)
+                .toString(),
+            this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_PARALLEL,
+                    Lists.of(1000.0),
+                    CONTEXT
+                ).toString()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeParallelFractionFails() {
+        this.converterIntegerValueFails(
+            1.5,
+            "Expected integer threshold got 1.5"
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeParallelTooLargeFails() {
+        this.converterIntegerValueFails(
+            1e10,
+            "Expected integer threshold got 1.0E10"
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeParallelLongTooLargeFails() {
+        this.converterIntegerValueFails(
+            Integer.MAX_VALUE + 1L,
+            "Expected integer threshold got 2147483648"
+        );
+    }
+
+    private void converterIntegerValueFails(final Number threshold,
+                                            final String expected) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_PARALLEL,
+                    Lists.of(threshold),
+                    CONTEXT
+                )
+        );
+        this.checkEquals(
+            expected,
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeProjected() {
+        this.checkEquals(
+            JsonNodeConverters.textToJsonNodeProjected(
+                Lists.of(
+                    "/a/b",
+                    "/items/*/id"
+                )
+            ).toString(),
+            this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_PROJECTED,
+                    Lists.of(
+                        "/a/b",
+                        "/items/*/id"
+                    ),
+                    CONTEXT
+                ).toString()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeProjectedMissingPathsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createConverterProvider()
+                .converter(
+                    JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_PROJECTED,
+                    Lists.empty(),
+                    CONTEXT
+                )
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeStreaming() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_STREAMING,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.textToJsonNodeStreaming()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeTextIndex() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_TEXT_INDEX,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.textToJsonNodeTextIndex()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToJsonNodeValidationResult() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TEXT_TO_JSON_NODE_VALIDATION_RESULT,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.textToJsonNodeValidationResult()
+        );
+    }
+
+    @Test
+    public void testConverterNameTextToObjectStreaming() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TEXT_TO_OBJECT_STREAMING,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.textToObjectStreaming()
+        );
+    }
+
+    @Test
+    public void testConverterSelectorTextToObjectStreaming() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TEXT_TO_OBJECT_STREAMING + "",
+            CONTEXT,
+            JsonNodeConverters.textToObjectStreaming()
+        );
+    }
+
+    @Test
+    public void testConverterNameToJsonBinary() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TO_JSON_BINARY,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.toJsonBinary()
+        );
+    }
+
+    @Test
+    public void testConverterNameToJsonCanonicalText() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TO_JSON_CANONICAL_TEXT,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.toJsonCanonicalText()
+        );
+    }
+
+    @Test
+    public void testConverterNameToJsonHash() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TO_JSON_HASH,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.toJsonHash()
+        );
+    }
+
     @Test
     public void testConverterNameWithToJsonText() {
         this.converterAndCheck(
@@ -76,6 +406,16 @@ public final class JsonNodeConvertersConverterProviderTest implements ConverterP
         );
     }
 
+    @Test
+    public void testConverterNameWithToJsonTextSegmented() {
+        this.converterAndCheck(
+            JsonNodeConvertersConverterProvider.TO_JSON_TEXT_SEGMENTED,
+            Lists.empty(),
+            CONTEXT,
+            JsonNodeConverters.toJsonTextSegmented()
+        );
+    }
+
     @Override
     public JsonNodeConvertersConverterProvider createConverterProvider() {
         return JsonNodeConvertersConverterProvider.INSTANCE;
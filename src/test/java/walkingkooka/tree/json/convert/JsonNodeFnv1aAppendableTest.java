@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+
+public final class JsonNodeFnv1aAppendableTest implements ClassTesting<JsonNodeFnv1aAppendable> {
+
+    @Test
+    public void testHashEmpty() {
+        this.checkEquals(
+            JsonNodeFnv1aAppendable.OFFSET_BASIS,
+            JsonNodeFnv1aAppendable.empty()
+                .hash()
+        );
+    }
+
+    @Test
+    public void testHashKnownValue() {
+        final JsonNodeFnv1aAppendable appendable = JsonNodeFnv1aAppendable.empty();
+        appendable.append("a");
+
+        this.checkEquals(
+            0xaf63dc4c8601ec8cL,
+            appendable.hash()
+        );
+    }
+
+    @Test
+    public void testHashAscii() {
+        this.hashAndCheck("{\"hello\":[1,true,null]}");
+    }
+
+    @Test
+    public void testHashTwoByteSequence() {
+        this.hashAndCheck("café");
+    }
+
+    @Test
+    public void testHashThreeByteSequence() {
+        this.hashAndCheck("€100");
+    }
+
+    @Test
+    public void testHashFourByteSequence() {
+        this.hashAndCheck("smile 😀!");
+    }
+
+    @Test
+    public void testHashUnpairedHighSurrogate() {
+        this.hashAndCheck("a\uD800b");
+    }
+
+    @Test
+    public void testHashUnpairedLowSurrogate() {
+        this.hashAndCheck("a\uDC00b");
+    }
+
+    @Test
+    public void testHashTrailingHighSurrogate() {
+        this.hashAndCheck("a\uD800");
+    }
+
+    @Test
+    public void testHashCharByChar() {
+        final String text = "aé€😀z";
+        final JsonNodeFnv1aAppendable appendable = JsonNodeFnv1aAppendable.empty();
+        for (final char c : text.toCharArray()) {
+            appendable.append(c);
+        }
+
+        this.checkEquals(
+            fnv1a(text),
+            appendable.hash()
+        );
+    }
+
+    private void hashAndCheck(final String text) {
+        final JsonNodeFnv1aAppendable appendable = JsonNodeFnv1aAppendable.empty();
+        appendable.append(text);
+
+        this.checkEquals(
+            fnv1a(text),
+            appendable.hash(),
+            text
+        );
+    }
+
+    private static long fnv1a(final String text) {
+        long hash = JsonNodeFnv1aAppendable.OFFSET_BASIS;
+        for (final byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * JsonNodeFnv1aAppendable.PRIME;
+        }
+        return hash;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeFnv1aAppendable> type() {
+        return JsonNodeFnv1aAppendable.class;
+    }
+}
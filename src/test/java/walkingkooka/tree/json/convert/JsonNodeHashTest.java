@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class JsonNodeHashTest implements ClassTesting<JsonNodeHash>,
+    HashCodeEqualsDefinedTesting2<JsonNodeHash>,
+    ToStringTesting<JsonNodeHash> {
+
+    private final static long VALUE = 0x123456789abcdefL;
+
+    @Test
+    public void testWith() {
+        this.checkEquals(
+            VALUE,
+            this.createObject()
+                .value()
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentValue() {
+        this.checkNotEquals(
+            JsonNodeHash.with(VALUE + 1)
+        );
+    }
+
+    @Override
+    public JsonNodeHash createObject() {
+        return JsonNodeHash.with(VALUE);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "0123456789abcdef"
+        );
+    }
+
+    @Test
+    public void testToStringNegative() {
+        this.toStringAndCheck(
+            JsonNodeHash.with(-1),
+            "ffffffffffffffff"
+        );
+    }
+
+    @Test
+    public void testToStringZero() {
+        this.toStringAndCheck(
+            JsonNodeHash.with(0),
+            "0000000000000000"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeHash> type() {
+        return JsonNodeHash.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
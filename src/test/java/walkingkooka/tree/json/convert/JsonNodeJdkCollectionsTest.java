@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+public final class JsonNodeJdkCollectionsTest implements ClassTesting<JsonNodeJdkCollections> {
+
+    @Test
+    public void testIsCollectionNull() {
+        this.isCollectionAndCheck(
+            null,
+            false
+        );
+    }
+
+    @Test
+    public void testIsCollectionNotCollection() {
+        this.isCollectionAndCheck(
+            "abc",
+            false
+        );
+    }
+
+    @Test
+    public void testIsCollectionArrayList() {
+        this.isCollectionAndCheck(
+            new ArrayList<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsCollectionLinkedList() {
+        this.isCollectionAndCheck(
+            new LinkedList<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsCollectionHashSet() {
+        this.isCollectionAndCheck(
+            new HashSet<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsCollectionLinkedHashSet() {
+        this.isCollectionAndCheck(
+            new LinkedHashSet<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsCollectionTreeSet() {
+        this.isCollectionAndCheck(
+            new TreeSet<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsCollectionArrayListSubclass() {
+        this.isCollectionAndCheck(
+            new ArrayList<Object>() {
+            },
+            false
+        );
+    }
+
+    @Test
+    public void testIsCollectionUnmodifiableList() {
+        this.isCollectionAndCheck(
+            Collections.unmodifiableList(
+                new ArrayList<>()
+            ),
+            false
+        );
+    }
+
+    @Test
+    public void testIsCollectionMap() {
+        this.isCollectionAndCheck(
+            new HashMap<>(),
+            false
+        );
+    }
+
+    private void isCollectionAndCheck(final Object value,
+                                      final boolean expected) {
+        this.checkEquals(
+            expected,
+            JsonNodeJdkCollections.isCollection(value),
+            String.valueOf(value)
+        );
+    }
+
+    @Test
+    public void testIsMapNull() {
+        this.isMapAndCheck(
+            null,
+            false
+        );
+    }
+
+    @Test
+    public void testIsMapList() {
+        this.isMapAndCheck(
+            new ArrayList<>(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsMapHashMap() {
+        this.isMapAndCheck(
+            new HashMap<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsMapLinkedHashMap() {
+        this.isMapAndCheck(
+            new LinkedHashMap<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsMapTreeMap() {
+        this.isMapAndCheck(
+            new TreeMap<>(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsMapHashMapSubclass() {
+        this.isMapAndCheck(
+            new HashMap<Object, Object>() {
+            },
+            false
+        );
+    }
+
+    private void isMapAndCheck(final Object value,
+                               final boolean expected) {
+        this.checkEquals(
+            expected,
+            JsonNodeJdkCollections.isMap(value),
+            String.valueOf(value)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeJdkCollections> type() {
+        return JsonNodeJdkCollections.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
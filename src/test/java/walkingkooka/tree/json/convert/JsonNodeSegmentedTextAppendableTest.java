@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class JsonNodeSegmentedTextAppendableTest implements ClassTesting<JsonNodeSegmentedTextAppendable>,
+    ToStringTesting<JsonNodeSegmentedTextAppendable> {
+
+    @Test
+    public void testAppendString() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        appendable.append("hello");
+
+        this.buildAndCheck(
+            appendable,
+            "hello"
+        );
+    }
+
+    @Test
+    public void testAppendStringRange() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        appendable.append("[hello]", 1, 6);
+
+        this.buildAndCheck(
+            appendable,
+            "hello"
+        );
+    }
+
+    @Test
+    public void testAppendStringBuilder() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        appendable.append(new StringBuilder("hello"));
+
+        this.buildAndCheck(
+            appendable,
+            "hello"
+        );
+    }
+
+    @Test
+    public void testAppendNull() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        appendable.append(null);
+
+        this.buildAndCheck(
+            appendable,
+            "null"
+        );
+    }
+
+    @Test
+    public void testAppendChars() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        final StringBuilder b = new StringBuilder();
+
+        for (int i = 0; i < JsonNodeSegmentedText.CHUNK_SIZE + 10; i++) {
+            final char c = (char) ('a' + i % 26);
+            appendable.append(c);
+            b.append(c);
+        }
+
+        this.buildAndCheck(
+            appendable,
+            b.toString()
+        );
+    }
+
+    @Test
+    public void testAppendExactlyOneChunk() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        final String text = "x".repeat(JsonNodeSegmentedText.CHUNK_SIZE);
+        appendable.append(text);
+
+        final JsonNodeSegmentedText segmented = appendable.build();
+        this.checkEquals(
+            text,
+            segmented.toString()
+        );
+        this.checkEquals(
+            1,
+            segmented.chunkCount(),
+            "chunkCount"
+        );
+    }
+
+    @Test
+    public void testAppendManyChunks() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        final StringBuilder b = new StringBuilder();
+
+        // more chunks than the initial capacity of the chunk array
+        for (int i = 0; i < 20; i++) {
+            final String text = i + "y".repeat(JsonNodeSegmentedText.CHUNK_SIZE - 3);
+            appendable.append(text);
+            b.append(text);
+        }
+
+        this.buildAndCheck(
+            appendable,
+            b.toString()
+        );
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        this.checkEquals(
+            JsonNodeSegmentedText.EMPTY,
+            JsonNodeSegmentedTextAppendable.empty()
+                .build()
+        );
+    }
+
+    private void buildAndCheck(final JsonNodeSegmentedTextAppendable appendable,
+                               final String expected) {
+        final JsonNodeSegmentedText text = appendable.build();
+
+        this.checkEquals(
+            expected,
+            text.toString()
+        );
+        this.checkEquals(
+            expected.length(),
+            text.length(),
+            "length"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        appendable.append("hello");
+
+        this.toStringAndCheck(
+            appendable,
+            "5 char(s)"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeSegmentedTextAppendable> type() {
+        return JsonNodeSegmentedTextAppendable.class;
+    }
+}
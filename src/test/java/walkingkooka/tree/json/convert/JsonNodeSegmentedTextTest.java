@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeSegmentedTextTest implements ClassTesting<JsonNodeSegmentedText>,
+    HashCodeEqualsDefinedTesting2<JsonNodeSegmentedText>,
+    ToStringTesting<JsonNodeSegmentedText> {
+
+    private final static String TEXT = "{\"hello\": [1, true, null]}";
+
+    @Test
+    public void testEmpty() {
+        final JsonNodeSegmentedText text = segmented("");
+
+        this.checkEquals(
+            JsonNodeSegmentedText.EMPTY,
+            text
+        );
+        this.checkEquals(
+            0,
+            text.length(),
+            "length"
+        );
+        this.checkEquals(
+            0,
+            text.chunkCount(),
+            "chunkCount"
+        );
+    }
+
+    @Test
+    public void testLength() {
+        this.checkEquals(
+            TEXT.length(),
+            this.createObject()
+                .length()
+        );
+    }
+
+    @Test
+    public void testCharAt() {
+        final String string = largeText();
+        final JsonNodeSegmentedText text = segmented(string);
+
+        for (int i = 0; i < string.length(); i++) {
+            this.checkEquals(
+                string.charAt(i),
+                text.charAt(i)
+            );
+        }
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createObject()
+                .charAt(TEXT.length())
+        );
+    }
+
+    @Test
+    public void testSubSequenceAcrossChunks() {
+        final String string = largeText();
+        final int start = JsonNodeSegmentedText.CHUNK_SIZE - 5;
+        final int end = JsonNodeSegmentedText.CHUNK_SIZE * 2 + 7;
+
+        this.checkEquals(
+            string.substring(start, end),
+            segmented(string)
+                .subSequence(start, end)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testSubSequenceInvalidRangeFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createObject()
+                .subSequence(2, 1)
+        );
+    }
+
+    @Test
+    public void testChunkCount() {
+        this.checkEquals(
+            3,
+            segmented(largeText())
+                .chunkCount()
+        );
+    }
+
+    @Test
+    public void testWriteWriter() {
+        final String string = largeText();
+        final StringWriter writer = new StringWriter();
+
+        segmented(string)
+            .write(writer);
+
+        this.checkEquals(
+            string,
+            writer.toString()
+        );
+    }
+
+    @Test
+    public void testWriteAppendable() {
+        final String string = largeText();
+        final StringBuilder b = new StringBuilder();
+
+        segmented(string)
+            .write(b);
+
+        this.checkEquals(
+            string,
+            b.toString()
+        );
+    }
+
+    @Test
+    public void testWriteNullWriterFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .write((StringWriter) null)
+        );
+    }
+
+    @Test
+    public void testHashCodeSameAsString() {
+        final String string = largeText();
+
+        this.checkEquals(
+            string.hashCode(),
+            segmented(string)
+                .hashCode()
+        );
+    }
+
+    @Test
+    public void testEqualsLarge() {
+        final String string = largeText();
+
+        this.checkEqualsAndHashCode(
+            segmented(string),
+            segmented(string)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentText() {
+        this.checkNotEquals(
+            segmented("[1]")
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentLastChunk() {
+        final String string = largeText();
+
+        this.checkNotEquals(
+            segmented(string),
+            segmented(string.substring(0, string.length() - 1) + "!")
+        );
+    }
+
+    /**
+     * Returns text that fills two chunks and part of a third.
+     */
+    private static String largeText() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; b.length() < JsonNodeSegmentedText.CHUNK_SIZE * 2 + 100; i++) {
+            b.append(i)
+                .append(',');
+        }
+        return b.toString();
+    }
+
+    private static JsonNodeSegmentedText segmented(final String text) {
+        final JsonNodeSegmentedTextAppendable appendable = JsonNodeSegmentedTextAppendable.empty();
+        appendable.append(text);
+        return appendable.build();
+    }
+
+    @Override
+    public JsonNodeSegmentedText createObject() {
+        return segmented(TEXT);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            TEXT
+        );
+    }
+
+    @Test
+    public void testToStringLarge() {
+        final String string = largeText();
+
+        this.toStringAndCheck(
+            segmented(string),
+            string
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeSegmentedText> type() {
+        return JsonNodeSegmentedText.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeTextEditTest implements ClassTesting<JsonNodeTextEdit>,
+    HashCodeEqualsDefinedTesting2<JsonNodeTextEdit>,
+    ToStringTesting<JsonNodeTextEdit> {
+
+    private final static String TEXT = "[1, 2, 3]";
+
+    private final static JsonNode NODE = JsonNode.parse(TEXT);
+
+    private final static int START = 4;
+
+    private final static int END = 5;
+
+    private final static String REPLACEMENT = "22";
+
+    @Test
+    public void testWithNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextEdit.with(
+                null,
+                NODE,
+                START,
+                END,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullNodeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextEdit.with(
+                TEXT,
+                null,
+                START,
+                END,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullReplacementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                START,
+                END,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeStartFails() {
+        this.withFails(
+            -1,
+            END
+        );
+    }
+
+    @Test
+    public void testWithStartAfterEndFails() {
+        this.withFails(
+            END,
+            START
+        );
+    }
+
+    @Test
+    public void testWithEndAfterTextFails() {
+        this.withFails(
+            START,
+            TEXT.length() + 1
+        );
+    }
+
+    private void withFails(final int start,
+                           final int end) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                start,
+                end,
+                REPLACEMENT
+            )
+        );
+        this.checkEquals(
+            "Invalid range " + start + ".." + end + " not within 0.." + TEXT.length(),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final JsonNodeTextEdit edit = this.createObject();
+
+        this.checkEquals(
+            TEXT,
+            edit.text(),
+            "text"
+        );
+        this.checkEquals(
+            NODE,
+            edit.node(),
+            "node"
+        );
+        this.checkEquals(
+            START,
+            edit.start(),
+            "start"
+        );
+        this.checkEquals(
+            END,
+            edit.end(),
+            "end"
+        );
+        this.checkEquals(
+            REPLACEMENT,
+            edit.replacement(),
+            "replacement"
+        );
+    }
+
+    @Test
+    public void testWithIndexNullIndexFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextEdit.withIndex(
+                null,
+                NODE,
+                START,
+                END,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testWithIndexNestedIndexFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextEdit.withIndex(
+                JsonNodeTextIndex.parse("[" + TEXT + "]")
+                    .index(0),
+                NODE,
+                START,
+                END,
+                REPLACEMENT
+            )
+        );
+        this.checkEquals(
+            "Index does not cover the whole text",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithIndex() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(TEXT);
+        final JsonNodeTextEdit edit = JsonNodeTextEdit.withIndex(
+            index,
+            NODE,
+            START,
+            END,
+            REPLACEMENT
+        );
+
+        this.checkEquals(
+            TEXT,
+            edit.text(),
+            "text"
+        );
+        assertSame(
+            index,
+            edit.index(),
+            "index"
+        );
+        this.checkEquals(
+            this.createObject(),
+            edit
+        );
+    }
+
+    // newText..........................................................................................................
+
+    @Test
+    public void testNewTextReplace() {
+        this.checkEquals(
+            "[1, 22, 3]",
+            this.createObject()
+                .newText()
+        );
+    }
+
+    @Test
+    public void testNewTextInsert() {
+        this.checkEquals(
+            "[1, 2, 3, 4]",
+            JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                8,
+                8,
+                ", 4"
+            ).newText()
+        );
+    }
+
+    @Test
+    public void testNewTextDelete() {
+        this.checkEquals(
+            "[1, 3]",
+            JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                3,
+                6,
+                ""
+            ).newText()
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentText() {
+        this.checkNotEquals(
+            JsonNodeTextEdit.with(
+                "[1, 2, 3] ",
+                NODE,
+                START,
+                END,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNode() {
+        this.checkNotEquals(
+            JsonNodeTextEdit.with(
+                TEXT,
+                JsonNode.array(),
+                START,
+                END,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentStart() {
+        this.checkNotEquals(
+            JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                START - 1,
+                END,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentEnd() {
+        this.checkNotEquals(
+            JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                START,
+                END + 1,
+                REPLACEMENT
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentReplacement() {
+        this.checkNotEquals(
+            JsonNodeTextEdit.with(
+                TEXT,
+                NODE,
+                START,
+                END,
+                "33"
+            )
+        );
+    }
+
+    @Override
+    public JsonNodeTextEdit createObject() {
+        return JsonNodeTextEdit.with(
+            TEXT,
+            NODE,
+            START,
+            END,
+            REPLACEMENT
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "4..5 \"22\""
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeTextEdit> type() {
+        return JsonNodeTextEdit.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeTextIndexTest implements ClassTesting<JsonNodeTextIndex>,
+    HashCodeEqualsDefinedTesting2<JsonNodeTextIndex>,
+    ToStringTesting<JsonNodeTextIndex> {
+
+    private final static String OBJECT = "{\"a\": 1, \"b\": [true, false], \"c\": {\"d\": \"e\"}}";
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextIndex.parse(null)
+        );
+    }
+
+    @Test
+    public void testParseInvalidJsonFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextIndex.parse("{\"a\": [1, }")
+        );
+    }
+
+    @Test
+    public void testParseInvalidNestedJsonFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextIndex.parse("[1, {\"a\": tru}]")
+        );
+    }
+
+    @Test
+    public void testParseObject() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(OBJECT);
+
+        this.checkEquals(true, index.isObject(), "isObject");
+        this.checkEquals(false, index.isArray(), "isArray");
+        this.checkEquals(3, index.count(), "count");
+        this.checkEquals(
+            Lists.of(
+                JsonPropertyName.with("a"),
+                JsonPropertyName.with("b"),
+                JsonPropertyName.with("c")
+            ),
+            index.names()
+        );
+    }
+
+    @Test
+    public void testParseArray() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(" [1, \"two\", null] ");
+
+        this.checkEquals(false, index.isObject(), "isObject");
+        this.checkEquals(true, index.isArray(), "isArray");
+        this.checkEquals(3, index.count(), "count");
+        this.checkEquals(
+            Lists.empty(),
+            index.names()
+        );
+    }
+
+    @Test
+    public void testParseScalar() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse("\"hello\"");
+
+        this.checkEquals(false, index.isObject(), "isObject");
+        this.checkEquals(false, index.isArray(), "isArray");
+        this.checkEquals(0, index.count(), "count");
+    }
+
+    @Test
+    public void testGetPropertyName() {
+        this.checkEquals(
+            Optional.of(
+                JsonNode.parse("[true, false]")
+            ),
+            JsonNodeTextIndex.parse(OBJECT)
+                .get(JsonPropertyName.with("b"))
+        );
+    }
+
+    @Test
+    public void testGetPropertyNameMissing() {
+        this.checkEquals(
+            Optional.empty(),
+            JsonNodeTextIndex.parse(OBJECT)
+                .get(JsonPropertyName.with("unknown"))
+        );
+    }
+
+    @Test
+    public void testGetPropertyNameDuplicateLastWins() {
+        this.checkEquals(
+            Optional.of(
+                JsonNode.number(2)
+            ),
+            JsonNodeTextIndex.parse("{\"a\": 1, \"a\": 2}")
+                .get(JsonPropertyName.with("a"))
+        );
+    }
+
+    @Test
+    public void testGetIndex() {
+        this.checkEquals(
+            JsonNode.string("two"),
+            JsonNodeTextIndex.parse("[1, \"two\", null]")
+                .get(1)
+        );
+    }
+
+    @Test
+    public void testGetIndexCached() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse("[{\"a\": 1}]");
+
+        assertSame(
+            index.get(0),
+            index.get(0)
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> JsonNodeTextIndex.parse("[1]")
+                .get(1)
+        );
+    }
+
+    @Test
+    public void testIndexPropertyName() {
+        final JsonNodeTextIndex nested = JsonNodeTextIndex.parse(OBJECT)
+            .index(JsonPropertyName.with("c"))
+            .get();
+
+        this.checkEquals(
+            Optional.of(
+                JsonNode.string("e")
+            ),
+            nested.get(JsonPropertyName.with("d"))
+        );
+        this.toStringAndCheck(
+            nested,
+            "{\"d\": \"e\"}"
+        );
+    }
+
+    @Test
+    public void testIndexIndex() {
+        final JsonNodeTextIndex nested = JsonNodeTextIndex.parse("[[1, 2], [3, 4]]")
+            .index(1);
+
+        this.checkEquals(
+            JsonNode.number(4),
+            nested.get(1)
+        );
+    }
+
+    @Test
+    public void testIndexCached() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse("[[1, 2], [3, 4]]");
+
+        assertSame(
+            index.index(1),
+            index.index(1)
+        );
+    }
+
+    private final static String CHILD_ENCLOSING = "[[1], 2, [3, 4], 5]";
+
+    @Test
+    public void testChildEnclosingInsideFirst() {
+        this.childEnclosingAndCheck(
+            2,
+            2,
+            0
+        );
+    }
+
+    @Test
+    public void testChildEnclosingStartOfFirst() {
+        this.childEnclosingAndCheck(
+            1,
+            1,
+            -1
+        );
+    }
+
+    @Test
+    public void testChildEnclosingInsideThird() {
+        this.childEnclosingAndCheck(
+            10,
+            14,
+            2
+        );
+    }
+
+    @Test
+    public void testChildEnclosingEndOfThird() {
+        this.childEnclosingAndCheck(
+            10,
+            15,
+            -1
+        );
+    }
+
+    @Test
+    public void testChildEnclosingScalar() {
+        this.childEnclosingAndCheck(
+            17,
+            17,
+            -1
+        );
+    }
+
+    private void childEnclosingAndCheck(final int start,
+                                        final int end,
+                                        final int expected) {
+        this.checkEquals(
+            expected,
+            JsonNodeTextIndex.parse(CHILD_ENCLOSING)
+                .childEnclosing(
+                    start,
+                    end
+                ),
+            CHILD_ENCLOSING + " " + start + ".." + end
+        );
+    }
+
+    @Test
+    public void testToJsonNode() {
+        this.checkEquals(
+            JsonNode.parse(OBJECT),
+            JsonNodeTextIndex.parse(OBJECT)
+                .toJsonNode()
+        );
+    }
+
+    @Test
+    public void testToJsonNodeCached() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(OBJECT);
+
+        assertSame(
+            index.toJsonNode(),
+            index.toJsonNode()
+        );
+    }
+
+    @Test
+    public void testToJsonNodeAfterGetObject() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(OBJECT);
+        index.get(1);
+
+        this.checkEquals(
+            JsonNode.parse(OBJECT),
+            index.toJsonNode()
+        );
+    }
+
+    @Test
+    public void testToJsonNodeAfterGetArray() {
+        final String text = "[1, {\"a\": [2]}, \"three\"]";
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(text);
+        index.get(1);
+
+        this.checkEquals(
+            JsonNode.parse(text),
+            index.toJsonNode()
+        );
+    }
+
+    @Test
+    public void testParseStringBuilderCopied() {
+        final StringBuilder text = new StringBuilder("[1, 2]");
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(text);
+
+        text.setLength(0);
+        text.append("[3, 4]");
+
+        this.checkEquals(
+            JsonNode.number(2),
+            index.get(1)
+        );
+        this.toStringAndCheck(
+            index,
+            "[1, 2]"
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentText() {
+        this.checkNotEquals(
+            JsonNodeTextIndex.parse("[1]")
+        );
+    }
+
+    @Test
+    public void testChildStartAndChildEnd() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(OBJECT);
+
+        this.checkEquals(
+            "[true, false]",
+            OBJECT.substring(
+                index.childStart(1),
+                index.childEnd(1)
+            )
+        );
+    }
+
+    @Test
+    public void testStartAndEndExcludeWhitespace() {
+        final String text = " \n[1, 2]\t ";
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(text);
+
+        this.checkEquals(
+            2,
+            index.start(),
+            "start"
+        );
+        this.checkEquals(
+            8,
+            index.end(),
+            "end"
+        );
+    }
+
+    @Test
+    public void testEqualsNested() {
+        this.checkEquals(
+            JsonNodeTextIndex.parse("[1]"),
+            JsonNodeTextIndex.parse("[[1]]")
+                .index(0)
+        );
+    }
+
+    @Test
+    public void testHashCodeSameAsToString() {
+        final JsonNodeTextIndex index = JsonNodeTextIndex.parse(" [[1], 2] ")
+            .index(0);
+
+        this.checkEquals(
+            "[1]".hashCode(),
+            index.hashCode()
+        );
+    }
+
+    @Override
+    public JsonNodeTextIndex createObject() {
+        return JsonNodeTextIndex.parse(OBJECT);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeTextIndex.parse(OBJECT),
+            OBJECT
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeTextIndex> type() {
+        return JsonNodeTextIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeTextParserTest implements ClassTesting<JsonNodeTextParser> {
+
+    @Test
+    public void testParseEmptyFails() {
+        this.parseFails("");
+    }
+
+    @Test
+    public void testParseWhitespaceFails() {
+        this.parseFails("  ");
+    }
+
+    @Test
+    public void testParseUnclosedObjectFails() {
+        this.parseFails("{\"a\": 1");
+    }
+
+    @Test
+    public void testParseUnclosedArrayFails() {
+        this.parseFails("[1, 2");
+    }
+
+    @Test
+    public void testParseUnclosedStringFails() {
+        this.parseFails("\"abc");
+    }
+
+    @Test
+    public void testParseTrailingCommaFails() {
+        this.parseFails("[1, 2,]");
+    }
+
+    @Test
+    public void testParseMissingColonFails() {
+        this.parseFails("{\"a\" 1}");
+    }
+
+    @Test
+    public void testParseUnquotedPropertyNameFails() {
+        this.parseFails("{a: 1}");
+    }
+
+    @Test
+    public void testParseInvalidLiteralFails() {
+        this.parseFails("nul");
+    }
+
+    @Test
+    public void testParseInvalidNumberFails() {
+        this.parseFails("1.");
+    }
+
+    @Test
+    public void testParseInvalidEscapeFails() {
+        this.parseFails("\"\\x\"");
+    }
+
+    @Test
+    public void testParseInvalidUnicodeEscapeFails() {
+        this.parseFails("\"\\u12x4\"");
+    }
+
+    @Test
+    public void testParseUnicodeEscapeArabicIndicDigitFails() {
+        this.parseFails("\"\\u00\u0664\u0661\"");
+    }
+
+    @Test
+    public void testParseUnicodeEscapeFullwidthLetterFails() {
+        this.parseFails("\"\\u00\uFF21\uFF26\"");
+    }
+
+    @Test
+    public void testParseUnicodeEscapeMixedCase() {
+        this.checkEquals(
+            JsonNode.string("\u00ab\u00CD\u00eF"),
+            JsonNodeTextParser.charSequence("\"\\u00ab\\u00CD\\u00eF\"")
+                .parse()
+        );
+    }
+
+    @Test
+    public void testParseIncompleteUnicodeEscapeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextParser.charSequence("\"\\u12")
+                .parse()
+        );
+        this.checkEquals(
+            "Incomplete json at 5",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseTooDeepFails() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            b.append('[');
+        }
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextParser.charSequence(b)
+                .parse()
+        );
+        this.checkEquals(
+            "Nesting too deep at " + (JsonNodeTextParser.MAX_DEPTH + 1),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testSkipValueTooDeepFails() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            b.append("{\"a\":");
+        }
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextParser.charSequence(b)
+                .skipValue()
+        );
+    }
+
+    @Test
+    public void testParseTrailingCharactersFails() {
+        this.parseFails("true false");
+    }
+
+    @Test
+    public void testParseNull() {
+        this.parseAndCheck("null");
+    }
+
+    @Test
+    public void testParseTrue() {
+        this.parseAndCheck("true");
+    }
+
+    @Test
+    public void testParseFalse() {
+        this.parseAndCheck("false");
+    }
+
+    @Test
+    public void testParseNumberZero() {
+        this.parseAndCheck("0");
+    }
+
+    @Test
+    public void testParseNumberNegative() {
+        this.parseAndCheck("-123");
+    }
+
+    @Test
+    public void testParseNumberDecimal() {
+        this.parseAndCheck("12.5");
+    }
+
+    @Test
+    public void testParseNumberExponent() {
+        this.parseAndCheck("1.5E+3");
+    }
+
+    @Test
+    public void testParseString() {
+        this.parseAndCheck("\"abc123\"");
+    }
+
+    @Test
+    public void testParseStringWithEscapes() {
+        this.parseAndCheck("\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u0041\"");
+    }
+
+    @Test
+    public void testParseEmptyArray() {
+        this.parseAndCheck("[]");
+    }
+
+    @Test
+    public void testParseArray() {
+        this.parseAndCheck("[true, false, null, 1, \"two\", [3], {\"four\": 4}]");
+    }
+
+    @Test
+    public void testParseEmptyObject() {
+        this.parseAndCheck("{}");
+    }
+
+    @Test
+    public void testParseObject() {
+        this.parseAndCheck("{\"a\": true, \"b\": [1, 2], \"c\": {\"d\": null}}");
+    }
+
+    @Test
+    public void testParseSurroundingWhitespace() {
+        this.parseAndCheck(" \t\r\n{ \"a\" : [ 1 , 2 ] } \n");
+    }
+
+    @Test
+    public void testParseStringLongerThanBuffer() {
+        final StringBuilder b = new StringBuilder();
+        b.append('"');
+        for (int i = 0; i < JsonNodeTextParser.BUFFER_SIZE * 2; i++) {
+            b.append((char) ('a' + i % 26));
+        }
+        b.append('"');
+
+        this.parseAndCheck(b.toString());
+    }
+
+    @Test
+    public void testSkipValueInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextParser.charSequence("[1, {\"a\": nul}]")
+                .skipValue()
+        );
+    }
+
+    @Test
+    public void testSkipValue() {
+        final String json = "{\"a\": [true, false, null, -1.5e3, \"\\\"escaped\\\"\"], \"b\": {}}";
+        final JsonNodeTextParser parser = JsonNodeTextParser.charSequence(json + " 123");
+
+        parser.skipValue();
+
+        this.checkEquals(
+            (long) json.length(),
+            parser.position(),
+            "position"
+        );
+    }
+
+    @Test
+    public void testCharSequenceRange() {
+        final String json = "[1, [2, 3], 4]";
+
+        this.checkEquals(
+            JsonNode.parse("[2, 3]"),
+            JsonNodeTextParser.charSequence(
+                json,
+                4,
+                10
+            ).parse()
+        );
+    }
+
+    @Test
+    public void testDecodeNumber() {
+        for (final String number : new String[]{
+            "0",
+            "-0",
+            "0.0",
+            "-0.0",
+            "1",
+            "-1",
+            "1.5",
+            "0.1",
+            "0.3",
+            "123.45",
+            "-99.99",
+            "123456789012345",
+            "1234567890123456", // too many digits
+            "9007199254740993",
+            "0.000001",
+            "123.456e-3",
+            "12.34E+5",
+            "1e22",
+            "1e23", // power of ten too large
+            "-1E-22",
+            "5e-324",
+            "1.7976931348623157e308",
+            "100000000000000000000"
+        }) {
+            this.checkEquals(
+                Double.parseDouble(number),
+                JsonNodeTextParser.decodeNumber(
+                    number.toCharArray(),
+                    number.length()
+                ),
+                number
+            );
+        }
+    }
+
+    @Test
+    public void testParseManyNumbers() {
+        this.parseAndCheck("[0, -0, 1, -12, 3.25, 1e3, 1.5E-2, 12345678901234567890, 0.1, 4.35]");
+    }
+
+    @Test
+    public void testPropertyNameRepeatedShared() {
+        final JsonNodeTextParser parser = JsonNodeTextParser.charSequence(
+            padded("\"name\" \"name\" \"na\\u006De\"")
+        );
+
+        final JsonPropertyName first = parser.propertyName();
+        assertSame(
+            first,
+            parser.propertyName(),
+            "second"
+        );
+        assertSame(
+            first,
+            parser.propertyName(),
+            "escaped"
+        );
+    }
+
+    @Test
+    public void testPropertyNameSharedSymbols() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        assertSame(
+            JsonNodeTextParser.charSequence("\"name\"")
+                .setSymbols(symbols)
+                .propertyName(),
+            JsonNodeTextParser.charSequence("\"name\"")
+                .setSymbols(symbols)
+                .propertyName()
+        );
+    }
+
+    @Test
+    public void testPropertyNameRepeatedSmallTextNotShared() {
+        final JsonNodeTextParser parser = JsonNodeTextParser.charSequence("\"name\" \"name\"");
+
+        final JsonPropertyName first = parser.propertyName();
+        final JsonPropertyName second = parser.propertyName();
+
+        this.checkEquals(
+            first,
+            second
+        );
+        assertNotSame(
+            first,
+            second
+        );
+    }
+
+    @Test
+    public void testStringRepeatedShared() {
+        final JsonNodeTextParser parser = JsonNodeTextParser.charSequence(
+            padded("\"value\" \"value\"")
+        );
+
+        parser.nextNonWhitespace();
+        final String first = parser.string();
+        this.checkEquals(
+            "value",
+            first
+        );
+        parser.nextNonWhitespace();
+
+        assertSame(
+            first,
+            parser.string()
+        );
+    }
+
+    /**
+     * Pads the text with trailing spaces so it is long enough for the parser to use a {@link JsonNodeTextSymbols}.
+     */
+    private static String padded(final String text) {
+        final StringBuilder b = new StringBuilder(text);
+        while (b.length() < JsonNodeTextParser.MIN_SYMBOLS_LENGTH) {
+            b.append(' ');
+        }
+        return b.toString();
+    }
+
+    private void parseAndCheck(final String json) {
+        final JsonNode expected = JsonNode.parse(json);
+
+        this.checkEquals(
+            expected,
+            JsonNodeTextParser.charSequence(json)
+                .parse(),
+            "parse CharSequence " + json
+        );
+
+        this.checkEquals(
+            expected,
+            JsonNodeTextParser.reader(new StringReader(json))
+                .parse(),
+            "parse Reader " + json
+        );
+    }
+
+    private void parseFails(final String json) {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextParser.charSequence(json)
+                .parse()
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextParser.reader(new StringReader(json))
+                .parse()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeTextParser> type() {
+        return JsonNodeTextParser.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeTextProjectionTest implements ClassTesting<JsonNodeTextProjection> {
+
+    @Test
+    public void testParseEmptyPathsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextProjection.parse(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testParsePathWithoutLeadingSlashFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextProjection.parse(Lists.of("a/b"))
+        );
+    }
+
+    @Test
+    public void testParsePathWithEmptySegmentFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextProjection.parse(Lists.of("/a//b"))
+        );
+    }
+
+    @Test
+    public void testParsePathWithInvalidEscapeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextProjection.parse(Lists.of("/a~3"))
+        );
+    }
+
+    @Test
+    public void testParsePathWithTrailingEscapeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextProjection.parse(Lists.of("/a~"))
+        );
+    }
+
+    @Test
+    public void testProjectRoot() {
+        final String json = "{\"a\": 1, \"b\": [2, 3]}";
+
+        this.projectAndCheck(
+            json,
+            JsonNode.parse(json),
+            "/"
+        );
+    }
+
+    @Test
+    public void testProjectProperty() {
+        this.projectAndCheck(
+            "{\"a\": {\"b\": 1, \"c\": 2}, \"d\": [3, 4]}",
+            JsonNode.parse("{\"a\": {\"b\": 1}}"),
+            "/a/b"
+        );
+    }
+
+    @Test
+    public void testProjectSeveralProperties() {
+        this.projectAndCheck(
+            "{\"a\": {\"b\": 1, \"c\": 2}, \"d\": [3, 4], \"e\": true}",
+            JsonNode.parse("{\"a\": {\"c\": 2}, \"d\": [3, 4]}"),
+            "/a/c",
+            "/d"
+        );
+    }
+
+    @Test
+    public void testProjectMissingProperty() {
+        this.projectAndCheck(
+            "{\"a\": 1}",
+            JsonNode.object(),
+            "/b"
+        );
+    }
+
+    @Test
+    public void testProjectWildcardArrayElements() {
+        this.projectAndCheck(
+            "{\"items\": [{\"id\": 1, \"name\": \"one\"}, {\"id\": 2, \"name\": \"two\"}], \"total\": 2}",
+            JsonNode.parse("{\"items\": [{\"id\": 1}, {\"id\": 2}]}"),
+            "/items/*/id"
+        );
+    }
+
+    @Test
+    public void testProjectWildcardProperties() {
+        this.projectAndCheck(
+            "{\"a\": {\"x\": 1, \"y\": 2}, \"b\": {\"x\": 3, \"z\": 4}}",
+            JsonNode.parse("{\"a\": {\"x\": 1}, \"b\": {\"x\": 3}}"),
+            "/*/x"
+        );
+    }
+
+    @Test
+    public void testProjectWildcardMergedWithNamed() {
+        this.projectAndCheck(
+            "{\"a\": {\"x\": 1, \"y\": 2}, \"b\": {\"x\": 3, \"y\": 4}}",
+            JsonNode.parse("{\"a\": {\"x\": 1, \"y\": 2}, \"b\": {\"x\": 3}}"),
+            "/*/x",
+            "/a/y"
+        );
+    }
+
+    @Test
+    public void testProjectWildcardArrayElementWithoutPropertyOmitted() {
+        this.projectAndCheck(
+            "{\"items\": [{\"id\": 1}, {\"name\": \"two\"}, 3, {\"id\": 4}]}",
+            JsonNode.parse("{\"items\": [{\"id\": 1}, {\"id\": 4}]}"),
+            "/items/*/id"
+        );
+    }
+
+    @Test
+    public void testProjectNothingSelectedOmitted() {
+        this.projectAndCheck(
+            "{\"a\": {\"b\": 1}, \"c\": {\"d\": 2}}",
+            JsonNode.parse("{\"c\": {\"d\": 2}}"),
+            "/a/x",
+            "/c/d"
+        );
+    }
+
+    @Test
+    public void testProjectSelectedEmptyObjectKept() {
+        this.projectAndCheck(
+            "{\"a\": {}, \"b\": 1}",
+            JsonNode.parse("{\"a\": {}}"),
+            "/a"
+        );
+    }
+
+    @Test
+    public void testProjectEscapedSlash() {
+        this.projectAndCheck(
+            "{\"a/b\": 1, \"a\": {\"b\": 2}}",
+            JsonNode.parse("{\"a/b\": 1}"),
+            "/a~1b"
+        );
+    }
+
+    @Test
+    public void testProjectEscapedTilde() {
+        this.projectAndCheck(
+            "{\"a~b\": 1, \"c\": 2}",
+            JsonNode.parse("{\"a~b\": 1}"),
+            "/a~0b"
+        );
+    }
+
+    @Test
+    public void testProjectEscapedStar() {
+        this.projectAndCheck(
+            "{\"*\": 1, \"c\": 2}",
+            JsonNode.parse("{\"*\": 1}"),
+            "/~2"
+        );
+    }
+
+    @Test
+    public void testProjectEscapedTildeOne() {
+        this.projectAndCheck(
+            "{\"~1\": 1, \"/\": 2}",
+            JsonNode.parse("{\"~1\": 1}"),
+            "/~01"
+        );
+    }
+
+    @Test
+    public void testProjectArrayIndex() {
+        this.projectAndCheck(
+            "[10, 20, 30]",
+            JsonNode.parse("[20]"),
+            "/1"
+        );
+    }
+
+    @Test
+    public void testProjectScalarWhereObjectExpectedOmitted() {
+        this.projectAndCheck(
+            "{\"a\": 1, \"b\": {\"c\": 2}}",
+            JsonNode.parse("{\"b\": {\"c\": 2}}"),
+            "/*/c"
+        );
+    }
+
+    @Test
+    public void testProjectRootScalar() {
+        this.projectAndCheck(
+            "123",
+            JsonNode.nullNode(),
+            "/a"
+        );
+    }
+
+    @Test
+    public void testProjectInvalidSkippedJsonFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeTextProjection.parse(Lists.of("/a"))
+                .parse(
+                    JsonNodeTextParser.charSequence("{\"a\": 1, \"b\": [1, }")
+                )
+        );
+    }
+
+    private void projectAndCheck(final String json,
+                                 final JsonNode expected,
+                                 final String... paths) {
+        this.checkEquals(
+            expected,
+            JsonNodeTextProjection.parse(Lists.of(paths))
+                .parse(
+                    JsonNodeTextParser.charSequence(json)
+                ),
+            json + " " + Lists.of(paths)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeTextProjection> type() {
+        return JsonNodeTextProjection.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeTextSymbolsTest implements ClassTesting<JsonNodeTextSymbols> {
+
+    @Test
+    public void testStringShared() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        final String first = string(symbols, "abc");
+        this.checkEquals(
+            "abc",
+            first
+        );
+        assertSame(
+            first,
+            string(symbols, "abc")
+        );
+        this.checkEquals(
+            1,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testStringWithinLargerBuffer() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+        final char[] chars = "xxabcxx".toCharArray();
+
+        assertSame(
+            string(symbols, "abc"),
+            symbols.string(
+                chars,
+                2,
+                3
+            )
+        );
+    }
+
+    @Test
+    public void testStringDifferent() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        this.checkEquals(
+            "abc",
+            string(symbols, "abc")
+        );
+        this.checkEquals(
+            "abd",
+            string(symbols, "abd")
+        );
+        this.checkEquals(
+            "",
+            string(symbols, "")
+        );
+        this.checkEquals(
+            3,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testStringLongNotShared() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        final StringBuilder b = new StringBuilder();
+        while (b.length() <= JsonNodeTextSymbols.MAX_STRING_LENGTH) {
+            b.append('x');
+        }
+        final String text = b.toString();
+
+        final String first = string(symbols, text);
+        this.checkEquals(
+            text,
+            first
+        );
+        assertNotSame(
+            first,
+            string(symbols, text)
+        );
+        this.checkEquals(
+            0,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testStringManyGrows() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        for (int i = 0; i < 1000; i++) {
+            string(symbols, "s" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            final String text = "s" + i;
+            assertSame(
+                string(symbols, text),
+                string(symbols, text),
+                text
+            );
+        }
+
+        this.checkEquals(
+            1000,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testStringFullNotShared() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        for (int i = 0; i < JsonNodeTextSymbols.MAX_SIZE; i++) {
+            string(symbols, "s" + i);
+        }
+
+        final String text = "extra";
+        this.checkEquals(
+            text,
+            string(symbols, text)
+        );
+        assertNotSame(
+            string(symbols, text),
+            string(symbols, text)
+        );
+        this.checkEquals(
+            JsonNodeTextSymbols.MAX_SIZE,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testPropertyNameShared() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        final JsonPropertyName first = propertyName(symbols, "name");
+        this.checkEquals(
+            JsonPropertyName.with("name"),
+            first
+        );
+        assertSame(
+            first,
+            propertyName(symbols, "name")
+        );
+    }
+
+    @Test
+    public void testPropertyNameLongShared() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        final StringBuilder b = new StringBuilder();
+        while (b.length() <= JsonNodeTextSymbols.MAX_STRING_LENGTH) {
+            b.append('x');
+        }
+        final String text = b.toString();
+
+        assertSame(
+            propertyName(symbols, text),
+            propertyName(symbols, text)
+        );
+    }
+
+    @Test
+    public void testPropertyNameTooLongNotShared() {
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.empty();
+
+        final StringBuilder b = new StringBuilder();
+        while (b.length() <= JsonNodeTextSymbols.MAX_PROPERTY_NAME_LENGTH) {
+            b.append('x');
+        }
+        final String text = b.toString();
+
+        final JsonPropertyName first = propertyName(symbols, text);
+        final JsonPropertyName second = propertyName(symbols, text);
+
+        this.checkEquals(
+            first,
+            second
+        );
+        assertNotSame(
+            first,
+            second
+        );
+        this.checkEquals(
+            0,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testWithParentNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextSymbols.withParent(null)
+        );
+    }
+
+    @Test
+    public void testWithParentPropertyNameShared() {
+        final JsonNodeTextSymbols parent = JsonNodeTextSymbols.empty();
+        final JsonPropertyName name = propertyName(parent, "name");
+
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.withParent(parent);
+        assertSame(
+            name,
+            propertyName(symbols, "name")
+        );
+        this.checkEquals(
+            0,
+            symbols.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testWithParentStringShared() {
+        final JsonNodeTextSymbols parent = JsonNodeTextSymbols.empty();
+        final String string = string(parent, "value");
+
+        assertSame(
+            string,
+            string(
+                JsonNodeTextSymbols.withParent(parent),
+                "value"
+            )
+        );
+    }
+
+    @Test
+    public void testWithParentAbsentAddedToChildOnly() {
+        final JsonNodeTextSymbols parent = JsonNodeTextSymbols.empty();
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.withParent(parent);
+
+        final JsonPropertyName name = propertyName(symbols, "name");
+        assertSame(
+            name,
+            propertyName(symbols, "name")
+        );
+        this.checkEquals(
+            1,
+            symbols.size(),
+            "size"
+        );
+        this.checkEquals(
+            0,
+            parent.size(),
+            "parent size"
+        );
+    }
+
+    @Test
+    public void testWithParentStringOnlyKeyNotModified() {
+        final JsonNodeTextSymbols parent = JsonNodeTextSymbols.empty();
+        string(parent, "name");
+
+        final JsonNodeTextSymbols symbols = JsonNodeTextSymbols.withParent(parent);
+        final JsonPropertyName name = propertyName(symbols, "name");
+
+        assertSame(
+            name,
+            propertyName(symbols, "name")
+        );
+        this.checkEquals(
+            1,
+            parent.size(),
+            "parent size"
+        );
+    }
+
+    private static String string(final JsonNodeTextSymbols symbols,
+                                 final String text) {
+        return symbols.string(
+            text.toCharArray(),
+            0,
+            text.length()
+        );
+    }
+
+    private static JsonPropertyName propertyName(final JsonNodeTextSymbols symbols,
+                                                 final String text) {
+        return symbols.propertyName(
+            text.toCharArray(),
+            0,
+            text.length()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeTextSymbols> type() {
+        return JsonNodeTextSymbols.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
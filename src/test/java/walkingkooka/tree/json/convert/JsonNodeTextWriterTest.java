@@ -0,0 +1,426 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.Indentation;
+import walkingkooka.text.LineEnding;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeTextWriterTest implements ClassTesting<JsonNodeTextWriter>,
+    ToStringTesting<JsonNodeTextWriter> {
+
+    private final static String JSON = "{\"a\": [1, {\"b\": \"café 😀\"}], \"c\": {}}";
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextWriter.with(null)
+        );
+    }
+
+    @Test
+    public void testWithContext() {
+        final JsonNode node = JsonNode.parse(JSON);
+
+        this.checkEquals(
+            node.toJsonText(
+                Indentation.SPACES4,
+                LineEnding.CRNL
+            ),
+            JsonNodeTextWriter.with(
+                new FakeJsonNodeConverterContext() {
+                    @Override
+                    public Indentation indentation() {
+                        return Indentation.SPACES4;
+                    }
+
+                    @Override
+                    public LineEnding lineEnding() {
+                        return LineEnding.CRNL;
+                    }
+                }
+            ).write(node)
+        );
+    }
+
+    @Test
+    public void testWithNullIndentationFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextWriter.with(
+                null,
+                LineEnding.NL
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullLineEndingFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeTextWriter.with(
+                Indentation.SPACES2,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWriteNull() {
+        this.writeAndCheck("null");
+    }
+
+    @Test
+    public void testWriteBoolean() {
+        this.writeAndCheck("true");
+    }
+
+    @Test
+    public void testWriteNumber() {
+        this.writeAndCheck("-12.5");
+    }
+
+    @Test
+    public void testWriteBooleanFalse() {
+        this.writeAndCheck("false");
+    }
+
+    @Test
+    public void testWriteNumbers() {
+        this.writeAndCheck("[0, -0, 1, -1, 12.5, 0.001, 0.0001, 9999999, 10000000, 1.5e7, 1e-7, 9007199254740992, 9007199254740993, 1e300, 123456.789]");
+    }
+
+    @Test
+    public void testWriteStringPlain() {
+        this.writeAndCheck("\"hello ~ world\"");
+    }
+
+    @Test
+    public void testWriteStringEscaped() {
+        this.writeAndCheck("[\"tab\\t\", \"back\\\\slash\", \"control \\u0001\", \"café 😀\", \"tab\\t\"]");
+    }
+
+    @Test
+    public void testWriteString() {
+        this.writeAndCheck("\"hello \\\"quoted\\\" \\n\"");
+    }
+
+    @Test
+    public void testWriteEmptyArray() {
+        this.writeAndCheck("[]");
+    }
+
+    @Test
+    public void testWriteEmptyObject() {
+        this.writeAndCheck("{}");
+    }
+
+    @Test
+    public void testWriteArray() {
+        this.writeAndCheck("[1, \"two\", true, null, [], {}]");
+    }
+
+    @Test
+    public void testWriteObject() {
+        this.writeAndCheck("{\"a\": 1, \"b\": \"two\", \"c\": [], \"d\": {}}");
+    }
+
+    @Test
+    public void testWriteObjectEscapedPropertyName() {
+        this.writeAndCheck("{\"quote\\\"d\": 1, \"new\\nline\": 2}");
+    }
+
+    @Test
+    public void testWriteNested() {
+        this.writeAndCheck("{\"a\": [1, {\"b\": [true, {\"c\": null}]}], \"d\": {\"e\": {\"f\": [[], [1]]}}}");
+    }
+
+    @Test
+    public void testWriteArrayOfObjectsRepeatedNames() {
+        this.writeAndCheck("[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}, {\"id\": 3, \"name\": \"c\"}]");
+    }
+
+    @Test
+    public void testWriteDeeperThanPrecomputedIndentation() {
+        final int depth = JsonNodeTextWriter.NEW_LINES_DEPTH * 2;
+        this.writeAndCheck(
+            "[".repeat(depth) + "1" + "]".repeat(depth)
+        );
+    }
+
+    @Test
+    public void testWriteRepeatedReusesBuilder() {
+        final JsonNodeTextWriter writer = this.writer();
+
+        for (final String json : new String[]{JSON, "[1]", JSON, "{\"x\": true}", "[]"}) {
+            final JsonNode node = JsonNode.parse(json);
+
+            this.checkEquals(
+                this.toJsonText(node),
+                writer.write(node),
+                json
+            );
+        }
+    }
+
+    @Test
+    public void testWriteLargeThenSmall() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < 16 * 1024; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append(i);
+        }
+        b.append(']');
+
+        final JsonNode large = JsonNode.parse(b.toString());
+        final JsonNode small = JsonNode.parse(JSON);
+        final JsonNodeTextWriter writer = this.writer();
+
+        this.checkEquals(
+            this.toJsonText(large),
+            writer.write(large)
+        );
+        this.checkEquals(
+            this.toJsonText(small),
+            writer.write(small)
+        );
+    }
+
+    @Test
+    public void testWriteSegmented() {
+        final JsonNode node = JsonNode.parse(JSON);
+
+        this.checkEquals(
+            this.toJsonText(node),
+            this.writer()
+                .writeSegmented(node)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testWriteSegmentedSeveralChunks() {
+        final StringBuilder b = new StringBuilder();
+        b.append('{');
+        for (int i = 0; i < JsonNodeSegmentedText.CHUNK_SIZE / 4; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append("\"p")
+                .append(i)
+                .append("\": ")
+                .append(i);
+        }
+        b.append('}');
+
+        final JsonNode node = JsonNode.parse(b.toString());
+        final JsonNodeSegmentedText text = this.writer()
+            .writeSegmented(node);
+
+        this.checkEquals(
+            this.toJsonText(node),
+            text.toString()
+        );
+        this.checkEquals(
+            true,
+            text.chunkCount() > 1,
+            "chunkCount " + text.chunkCount()
+        );
+    }
+
+    @Test
+    public void testWriteWriter() {
+        final JsonNode node = JsonNode.parse(JSON);
+        final boolean[] flushed = new boolean[1];
+
+        final StringWriter writer = new StringWriter() {
+            @Override
+            public void flush() {
+                flushed[0] = true;
+            }
+        };
+
+        this.writer()
+            .write(
+                node,
+                writer
+            );
+
+        this.checkEquals(
+            this.toJsonText(node),
+            writer.toString()
+        );
+        this.checkEquals(
+            true,
+            flushed[0],
+            "flushed"
+        );
+    }
+
+    @Test
+    public void testWriteOutputStream() {
+        final JsonNode node = JsonNode.parse(JSON);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        this.writer()
+            .write(
+                node,
+                bytes
+            );
+
+        this.checkEquals(
+            this.toJsonText(node),
+            new String(
+                bytes.toByteArray(),
+                StandardCharsets.UTF_8
+            )
+        );
+    }
+
+    @Test
+    public void testWriteOutputStreamLargerThanBuffer() {
+        JsonArray array = JsonNode.array();
+        for (int i = 0; i < JsonNodeUtf8Appendable.BUFFER_SIZE / 4; i++) {
+            array = array.appendChild(
+                JsonNode.string("élément-" + i)
+            );
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        this.writer()
+            .write(
+                array,
+                bytes
+            );
+
+        this.checkEquals(
+            this.toJsonText(array),
+            new String(
+                bytes.toByteArray(),
+                StandardCharsets.UTF_8
+            )
+        );
+    }
+
+    private JsonNodeTextWriter writer() {
+        return JsonNodeTextWriter.with(
+            Indentation.SPACES2,
+            LineEnding.NL
+        );
+    }
+
+    private String toJsonText(final JsonNode node) {
+        return node.toJsonText(
+            Indentation.SPACES2,
+            LineEnding.NL
+        );
+    }
+
+    @Test
+    public void testWriteAppendableIOExceptionFails() {
+        assertThrows(
+            UncheckedIOException.class,
+            () -> JsonNodeTextWriter.with(
+                Indentation.SPACES2,
+                LineEnding.NL
+            ).write(
+                JsonNode.parse("[1]"),
+                new Appendable() {
+                    @Override
+                    public Appendable append(final CharSequence csq) throws IOException {
+                        throw new IOException("fail!");
+                    }
+
+                    @Override
+                    public Appendable append(final CharSequence csq,
+                                             final int start,
+                                             final int end) throws IOException {
+                        throw new IOException("fail!");
+                    }
+
+                    @Override
+                    public Appendable append(final char c) throws IOException {
+                        throw new IOException("fail!");
+                    }
+                }
+            )
+        );
+    }
+
+    private void writeAndCheck(final String json) {
+        final JsonNode node = JsonNode.parse(json);
+
+        for (final Indentation indentation : new Indentation[]{Indentation.SPACES2, Indentation.SPACES4}) {
+            for (final LineEnding lineEnding : new LineEnding[]{LineEnding.NL, LineEnding.CR, LineEnding.CRNL}) {
+                this.checkEquals(
+                    node.toJsonText(
+                        indentation,
+                        lineEnding
+                    ),
+                    JsonNodeTextWriter.with(
+                        indentation,
+                        lineEnding
+                    ).write(node),
+                    json
+                );
+            }
+        }
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            JsonNodeTextWriter.with(
+                Indentation.SPACES2,
+                LineEnding.NL
+            ),
+            "\"  \" \"\\n\""
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeTextWriter> type() {
+        return JsonNodeTextWriter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
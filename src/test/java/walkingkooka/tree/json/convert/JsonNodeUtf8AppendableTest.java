@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class JsonNodeUtf8AppendableTest implements ClassTesting<JsonNodeUtf8Appendable> {
+
+    @Test
+    public void testAppendEmpty() throws IOException {
+        this.appendAndCheck("");
+    }
+
+    @Test
+    public void testAppendAscii() throws IOException {
+        this.appendAndCheck("{\"hello\": [1, true, null]}");
+    }
+
+    @Test
+    public void testAppendNonAscii() throws IOException {
+        this.appendAndCheck("café €100 😀!");
+    }
+
+    @Test
+    public void testAppendLargerThanBuffer() throws IOException {
+        final StringBuilder b = new StringBuilder();
+        while (b.length() < JsonNodeUtf8Appendable.BUFFER_SIZE * 3) {
+            b.append("abcé€😀");
+        }
+        this.appendAndCheck(b.toString());
+    }
+
+    @Test
+    public void testAppendUnpairedSurrogates() throws IOException {
+        this.appendAndCheck("a\uD83Db\uDE00c\uD83D");
+    }
+
+    @Test
+    public void testAppendChars() throws IOException {
+        final String text = "aé€😀z";
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final JsonNodeUtf8Appendable appendable = JsonNodeUtf8Appendable.with(bytes);
+
+        for (final char c : text.toCharArray()) {
+            appendable.append(c);
+        }
+        appendable.flush();
+
+        this.checkEquals(
+            Arrays.toString(text.getBytes(StandardCharsets.UTF_8)),
+            Arrays.toString(bytes.toByteArray())
+        );
+    }
+
+    @Test
+    public void testAppendRange() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final JsonNodeUtf8Appendable appendable = JsonNodeUtf8Appendable.with(bytes);
+
+        appendable.append(
+            "xxé€xx",
+            2,
+            4
+        );
+        appendable.flush();
+
+        this.checkEquals(
+            "é€",
+            new String(
+                bytes.toByteArray(),
+                StandardCharsets.UTF_8
+            )
+        );
+    }
+
+    @Test
+    public void testWritesChunks() throws IOException {
+        final int[] writes = new int[1];
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(final byte[] b,
+                                           final int offset,
+                                           final int length) {
+                writes[0]++;
+                super.write(
+                    b,
+                    offset,
+                    length
+                );
+            }
+        };
+
+        final char[] chars = new char[JsonNodeUtf8Appendable.BUFFER_SIZE * 2 + 1];
+        Arrays.fill(chars, 'a');
+
+        final JsonNodeUtf8Appendable appendable = JsonNodeUtf8Appendable.with(bytes);
+        appendable.append(new String(chars));
+
+        this.checkEquals(
+            2,
+            writes[0],
+            "writes before flush"
+        );
+
+        appendable.flush();
+
+        this.checkEquals(
+            3,
+            writes[0],
+            "writes after flush"
+        );
+        this.checkEquals(
+            chars.length,
+            bytes.size(),
+            "size"
+        );
+    }
+
+    private void appendAndCheck(final String text) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final JsonNodeUtf8Appendable appendable = JsonNodeUtf8Appendable.with(bytes);
+        appendable.append(text);
+        appendable.flush();
+
+        this.checkEquals(
+            Arrays.toString(text.getBytes(StandardCharsets.UTF_8)),
+            Arrays.toString(bytes.toByteArray()),
+            text
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeUtf8Appendable> type() {
+        return JsonNodeUtf8Appendable.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeUtf8ReaderTest implements ClassTesting<JsonNodeUtf8Reader> {
+
+    @Test
+    public void testReadEmpty() {
+        this.readAndCheck("");
+    }
+
+    @Test
+    public void testReadAscii() {
+        this.readAndCheck("{\"hello\": [1, true, null]}");
+    }
+
+    @Test
+    public void testReadTwoByteSequence() {
+        this.readAndCheck("café");
+    }
+
+    @Test
+    public void testReadThreeByteSequence() {
+        this.readAndCheck("€100");
+    }
+
+    @Test
+    public void testReadFourByteSequence() {
+        this.readAndCheck("smile 😀!");
+    }
+
+    @Test
+    public void testReadFourByteSequenceMinAndMaxCodePoints() {
+        this.readAndCheck(
+            new String(Character.toChars(Character.MIN_SUPPLEMENTARY_CODE_POINT)) +
+                new String(Character.toChars(Character.MAX_CODE_POINT))
+        );
+    }
+
+    @Test
+    public void testReadSurrogatePairSplitAcrossReads() {
+        this.readAndCheck(
+            "😀😁",
+            1
+        );
+    }
+
+    @Test
+    public void testReadMixedSmallBuffer() {
+        this.readAndCheck(
+            "aé€😀z",
+            2
+        );
+    }
+
+    @Test
+    public void testReadSkipsByteOrderMark() throws IOException {
+        this.checkEquals(
+            "[]",
+            this.read(
+                new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', ']'},
+                16
+            )
+        );
+    }
+
+    @Test
+    public void testReadInvalidLeadByteFails() {
+        this.readFails(
+            new byte[]{'a', (byte) 0x80},
+            "Invalid UTF-8 byte 0x80 at 1"
+        );
+    }
+
+    @Test
+    public void testReadInvalidContinuationByteFails() {
+        this.readFails(
+            new byte[]{(byte) 0xC3, 'a'},
+            "Invalid UTF-8 byte 0x61 at 1"
+        );
+    }
+
+    @Test
+    public void testReadOverlongFails() {
+        this.readFails(
+            new byte[]{(byte) 0xC0, (byte) 0x80},
+            "Invalid UTF-8 byte 0xc0 at 0"
+        );
+    }
+
+    @Test
+    public void testReadEncodedSurrogateFails() {
+        this.readFails(
+            new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+            "Invalid UTF-8 byte 0xed at 0"
+        );
+    }
+
+    @Test
+    public void testReadIncompleteFails() {
+        this.readFails(
+            new byte[]{'a', (byte) 0xE2, (byte) 0x82},
+            "Incomplete UTF-8 sequence at 1"
+        );
+    }
+
+    @Test
+    public void testReadLargerThanBuffer() {
+        final StringBuilder b = new StringBuilder();
+        while (b.length() < JsonNodeUtf8Reader.BUFFER_SIZE * 3) {
+            b.append("aé€😀");
+        }
+
+        this.readAndCheck(b.toString());
+    }
+
+    @Test
+    public void testReadInputStreamLargerThanBuffer() throws IOException {
+        final StringBuilder b = new StringBuilder();
+        while (b.length() < JsonNodeUtf8Reader.BUFFER_SIZE * 3) {
+            b.append("€😀");
+        }
+        final String text = b.toString();
+
+        this.checkEquals(
+            text,
+            read(
+                JsonNodeUtf8Reader.inputStream(
+                    new ByteArrayInputStream(
+                        text.getBytes(StandardCharsets.UTF_8)
+                    )
+                ),
+                JsonNodeTextParser.BUFFER_SIZE
+            )
+        );
+    }
+
+    @Test
+    public void testReadInputStreamInvalidByteFailsWithAbsolutePosition() {
+        final byte[] bytes = new byte[JsonNodeUtf8Reader.BUFFER_SIZE + 10];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[JsonNodeUtf8Reader.BUFFER_SIZE + 5] = (byte) 0xFF;
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> read(
+                JsonNodeUtf8Reader.inputStream(
+                    new ByteArrayInputStream(bytes)
+                ),
+                JsonNodeTextParser.BUFFER_SIZE
+            )
+        );
+        this.checkEquals(
+            "Invalid UTF-8 byte 0xff at " + (JsonNodeUtf8Reader.BUFFER_SIZE + 5),
+            thrown.getMessage()
+        );
+    }
+
+    private void readAndCheck(final String text) {
+        this.readAndCheck(
+            text,
+            JsonNodeTextParser.BUFFER_SIZE
+        );
+    }
+
+    private void readAndCheck(final String text,
+                              final int bufferSize) {
+        try {
+            this.checkEquals(
+                text,
+                this.read(
+                    text.getBytes(StandardCharsets.UTF_8),
+                    bufferSize
+                ),
+                text
+            );
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    private void readFails(final byte[] bytes,
+                           final String message) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.read(
+                bytes,
+                16
+            )
+        );
+        this.checkEquals(
+            message,
+            thrown.getMessage()
+        );
+    }
+
+    /**
+     * Reads the bytes from a byte array and from an {@link InputStream} that returns a single byte at a time, to
+     * exercise refilling, and verifies both produce the same text.
+     */
+    private String read(final byte[] bytes,
+                        final int bufferSize) throws IOException {
+        final String text = read(
+            JsonNodeUtf8Reader.bytes(bytes),
+            bufferSize
+        );
+
+        this.checkEquals(
+            text,
+            read(
+                JsonNodeUtf8Reader.inputStream(
+                    new ByteArrayInputStream(bytes) {
+                        @Override
+                        public synchronized int read(final byte[] b,
+                                                     final int offset,
+                                                     final int length) {
+                            return super.read(
+                                b,
+                                offset,
+                                Math.min(1, length)
+                            );
+                        }
+                    }
+                ),
+                bufferSize
+            ),
+            "InputStream"
+        );
+
+        return text;
+    }
+
+    private static String read(final JsonNodeUtf8Reader reader,
+                               final int bufferSize) throws IOException {
+        final char[] buffer = new char[bufferSize];
+        final StringBuilder b = new StringBuilder();
+
+        for (; ; ) {
+            final int count = reader.read(
+                buffer,
+                0,
+                bufferSize
+            );
+            if (-1 == count) {
+                break;
+            }
+            b.append(
+                buffer,
+                0,
+                count
+            );
+        }
+
+        return b.toString();
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<JsonNodeUtf8Reader> type() {
+        return JsonNodeUtf8Reader.class;
+    }
+}
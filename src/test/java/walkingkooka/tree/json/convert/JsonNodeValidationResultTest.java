@@ -0,0 +1,311 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeValidationResultTest implements ClassTesting<JsonNodeValidationResult>,
+    HashCodeEqualsDefinedTesting2<JsonNodeValidationResult>,
+    ToStringTesting<JsonNodeValidationResult> {
+
+    private final static String MESSAGE = "Invalid character ']' at 3";
+
+    private final static int POSITION = 3;
+
+    // invalid..........................................................................................................
+
+    @Test
+    public void testInvalidNullMessageFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeValidationResult.invalid(
+                null,
+                POSITION
+            )
+        );
+    }
+
+    @Test
+    public void testInvalidNegativePositionFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonNodeValidationResult.invalid(
+                MESSAGE,
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testInvalid() {
+        final JsonNodeValidationResult result = this.createObject();
+
+        this.checkEquals(
+            false,
+            result.isValid(),
+            "isValid"
+        );
+        this.checkEquals(
+            Optional.of(MESSAGE),
+            result.message(),
+            "message"
+        );
+        this.checkEquals(
+            POSITION,
+            result.position(),
+            "position"
+        );
+    }
+
+    @Test
+    public void testValid() {
+        final JsonNodeValidationResult result = JsonNodeValidationResult.VALID;
+
+        this.checkEquals(
+            true,
+            result.isValid(),
+            "isValid"
+        );
+        this.checkEquals(
+            Optional.empty(),
+            result.message(),
+            "message"
+        );
+        this.checkEquals(
+            JsonNodeValidationResult.NO_POSITION,
+            result.position(),
+            "position"
+        );
+    }
+
+    // validate.........................................................................................................
+
+    @Test
+    public void testValidateNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JsonNodeValidationResult.validate(null)
+        );
+    }
+
+    @Test
+    public void testValidateScalars() {
+        for (final String json : new String[]{"true", "false", "null", "0", "-1.5e3", "\"\\u0041\\n\""}) {
+            assertSame(
+                JsonNodeValidationResult.VALID,
+                JsonNodeValidationResult.validate(json),
+                json
+            );
+        }
+    }
+
+    @Test
+    public void testValidateObject() {
+        assertSame(
+            JsonNodeValidationResult.VALID,
+            JsonNodeValidationResult.validate(" {\"a\": [1, {\"b\": null}], \"c\": \"d\"} ")
+        );
+    }
+
+    @Test
+    public void testValidateTrailingComma() {
+        this.validateAndCheck(
+            "[1,]",
+            MESSAGE,
+            POSITION
+        );
+    }
+
+    @Test
+    public void testValidateMissingColon() {
+        this.validateAndCheck(
+            "{\"a\" 1}",
+            "Invalid character '1' at 5",
+            5
+        );
+    }
+
+    @Test
+    public void testValidateIncomplete() {
+        this.validateAndCheck(
+            "[1",
+            "Incomplete json at 2",
+            2
+        );
+    }
+
+    @Test
+    public void testValidateTrailingValue() {
+        this.validateAndCheck(
+            "1 2",
+            "Invalid character '2' at 2",
+            2
+        );
+    }
+
+    @Test
+    public void testValidateInvalidLiteral() {
+        this.checkEquals(
+            false,
+            JsonNodeValidationResult.validate("tru")
+                .isValid()
+        );
+    }
+
+    @Test
+    public void testValidateEmpty() {
+        this.validateAndCheck(
+            "",
+            "Incomplete json at 0",
+            0
+        );
+    }
+
+    @Test
+    public void testValidateMaxDepth() {
+        final int depth = JsonNodeTextParser.MAX_DEPTH;
+
+        this.checkEquals(
+            JsonNodeValidationResult.VALID,
+            JsonNodeValidationResult.validate(
+                repeat('[', depth) + repeat(']', depth)
+            )
+        );
+    }
+
+    @Test
+    public void testValidateTooDeep() {
+        this.validateAndCheck(
+            repeat('[', 100_000),
+            "Nesting too deep at " + (JsonNodeTextParser.MAX_DEPTH + 1),
+            JsonNodeTextParser.MAX_DEPTH + 1
+        );
+    }
+
+    @Test
+    public void testValidateTooDeepObject() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            b.append("{\"a\":");
+        }
+
+        this.checkEquals(
+            false,
+            JsonNodeValidationResult.validate(b)
+                .isValid()
+        );
+    }
+
+    private static String repeat(final char c,
+                                 final int count) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            b.append(c);
+        }
+        return b.toString();
+    }
+
+    private void validateAndCheck(final String text,
+                                  final String message,
+                                  final int position) {
+        this.checkEquals(
+            JsonNodeValidationResult.invalid(
+                message,
+                position
+            ),
+            JsonNodeValidationResult.validate(text),
+            text
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentMessage() {
+        this.checkNotEquals(
+            JsonNodeValidationResult.invalid(
+                "different",
+                POSITION
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentPosition() {
+        this.checkNotEquals(
+            JsonNodeValidationResult.invalid(
+                MESSAGE,
+                POSITION + 1
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsValid() {
+        this.checkNotEquals(
+            JsonNodeValidationResult.VALID
+        );
+    }
+
+    @Override
+    public JsonNodeValidationResult createObject() {
+        return JsonNodeValidationResult.invalid(
+            MESSAGE,
+            POSITION
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToStringValid() {
+        this.toStringAndCheck(
+            JsonNodeValidationResult.VALID,
+            "valid"
+        );
+    }
+
+    @Test
+    public void testToStringInvalid() {
+        this.toStringAndCheck(
+            this.createObject(),
+            MESSAGE
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JsonNodeValidationResult> type() {
+        return JsonNodeValidationResult.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
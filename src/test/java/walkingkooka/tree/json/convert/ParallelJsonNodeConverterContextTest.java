@@ -0,0 +1,422 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.Converters;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.locale.LocaleContext;
+import walkingkooka.locale.LocaleContexts;
+import walkingkooka.math.DecimalNumberContext;
+import walkingkooka.math.DecimalNumberContextDelegator;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.text.Indentation;
+import walkingkooka.text.LineEnding;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.expression.convert.ExpressionNumberConverterContext;
+import walkingkooka.tree.expression.convert.ExpressionNumberConverterContexts;
+import walkingkooka.tree.expression.convert.ExpressionNumberConverters;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallUnmarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParallelJsonNodeConverterContextTest implements JsonNodeConverterContextTesting<ParallelJsonNodeConverterContext>,
+    ToStringTesting<ParallelJsonNodeConverterContext>,
+    DecimalNumberContextDelegator {
+
+    static {
+        final Locale locale = Locale.forLanguageTag("EN-AU");
+        final LocaleContext localeContext = LocaleContexts.jre(locale);
+
+        CONVERTER_CONTEXT = ExpressionNumberConverterContexts.basic(
+            ExpressionNumberConverters.toNumberOrExpressionNumber(
+                Converters.stringToNumber(
+                    (dnc) -> (DecimalFormat) DecimalFormat.getInstance()
+                )
+            ),
+            ConverterContexts.basic(
+                (l) -> Optional.of(
+                    Currency.getInstance(l)
+                ), // CanCurrencyForLocale
+                false, // canNumbersHaveGroupSeparator
+                Converters.JAVA_EPOCH_OFFSET,
+                Indentation.SPACES2,
+                LineEnding.NL,
+                ',', // valueSeparator
+                Converters.fake(),
+                DateTimeContexts.basic(
+                    localeContext.dateTimeSymbolsForLocale(locale)
+                        .get(),
+                    locale,
+                    1950,
+                    50,
+                    LocalDateTime::now
+                ),
+                DecimalNumberContexts.american(MathContext.DECIMAL32),
+                localeContext
+            ),
+            ExpressionNumberKind.DEFAULT
+        );
+    }
+
+    private final static ExpressionNumberConverterContext CONVERTER_CONTEXT;
+
+    private final static JsonNodeMarshallUnmarshallContext MARSHALL_UNMARSHALL_CONTEXT = JsonNodeMarshallUnmarshallContexts.basic(
+        JsonNodeMarshallContexts.basic(),
+        JsonNodeUnmarshallContexts.basic(
+            (String cc) -> {
+                throw new UnsupportedOperationException();
+            },
+            (String lt) -> {
+                throw new UnsupportedOperationException();
+            },
+            ExpressionNumberKind.DEFAULT,
+            CONVERTER_CONTEXT.mathContext()
+        )
+    );
+
+    private final static int THRESHOLD = 1000;
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParallelJsonNodeConverterContext.with(
+                null,
+                THRESHOLD
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeThresholdFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ParallelJsonNodeConverterContext.with(
+                this.basic(),
+                -1
+            )
+        );
+        this.checkEquals(
+            "Invalid threshold -1 < 0",
+            thrown.getMessage()
+        );
+    }
+
+    @Override
+    public ParallelJsonNodeConverterContext createContext() {
+        return ParallelJsonNodeConverterContext.with(
+            this.basic(),
+            THRESHOLD
+        );
+    }
+
+    private JsonNodeConverterContext basic() {
+        return BasicJsonNodeConverterContext.with(
+            CONVERTER_CONTEXT,
+            MARSHALL_UNMARSHALL_CONTEXT
+        );
+    }
+
+    @Override
+    public MathContext mathContext() {
+        return CONVERTER_CONTEXT.mathContext();
+    }
+
+    @Override
+    public int decimalNumberDigitCount() {
+        return CONVERTER_CONTEXT.decimalNumberDigitCount();
+    }
+
+    @Override
+    public DecimalNumberContext decimalNumberContext() {
+        return CONVERTER_CONTEXT;
+    }
+
+    @Test
+    public void testMarshall() {
+        this.checkEquals(
+            JsonNode.string("hello"),
+            this.createContext()
+                .marshall("hello")
+        );
+    }
+
+    @Test
+    public void testMarshallListBelowThreshold() {
+        final AtomicInteger count = new AtomicInteger();
+
+        this.checkEquals(
+            elements(strings(999)),
+            this.elements(count)
+                .marshall(strings(999))
+        );
+        this.checkEquals(1, count.get(), "marshall count");
+    }
+
+    @Test
+    public void testMarshallListParallel() {
+        final AtomicInteger count = new AtomicInteger();
+        final List<String> list = strings(100_000);
+
+        this.checkEquals(
+            elements(list),
+            this.elements(count)
+                .marshall(list)
+        );
+        this.checkEquals(
+            ParallelJsonNodeConverterContext.MAX_CHUNKS,
+            count.get(),
+            "marshall count"
+        );
+    }
+
+    @Test
+    public void testMarshallSetParallel() {
+        final AtomicInteger count = new AtomicInteger();
+        final Set<String> set = new LinkedHashSet<>();
+        set.addAll(strings(2000));
+
+        this.checkEquals(
+            elements(set),
+            this.elements(count)
+                .marshall(set)
+        );
+        this.checkEquals(8, count.get(), "marshall count");
+    }
+
+    @Test
+    public void testMarshallMapParallel() {
+        final AtomicInteger count = new AtomicInteger();
+        final Map<String, String> map = new LinkedHashMap<>();
+        for (final String string : strings(3000)) {
+            map.put(
+                string,
+                string.toUpperCase()
+            );
+        }
+
+        final JsonNode expected = elements(map);
+
+        this.checkEquals(
+            expected,
+            this.elements(count)
+                .marshall(map)
+        );
+        this.checkEquals(12, count.get(), "marshall count");
+    }
+
+    @Test
+    public void testMarshallListWrappedFallsBack() {
+        final AtomicInteger count = new AtomicInteger();
+        final List<String> list = strings(2000);
+
+        // wrapping each list means chunks cannot be joined, so the whole list is marshalled again
+        final ParallelJsonNodeConverterContext context = ParallelJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    count.incrementAndGet();
+                    return JsonNode.object()
+                        .set(
+                            JsonPropertyName.with("list"),
+                            elements(value)
+                        );
+                }
+            },
+            THRESHOLD
+        );
+
+        this.checkEquals(
+            JsonNode.object()
+                .set(
+                    JsonPropertyName.with("list"),
+                    elements(list)
+                ),
+            context.marshall(list)
+        );
+        this.checkEquals(9, count.get(), "marshall count");
+    }
+
+    @Test
+    public void testMarshallCustomMarshalledListSubclassNotParallel() {
+        final AtomicInteger count = new AtomicInteger();
+        final CustomList list = new CustomList();
+        list.addAll(strings(2000));
+
+        final ParallelJsonNodeConverterContext context = ParallelJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    count.incrementAndGet();
+                    return value instanceof CustomList ?
+                        JsonNode.string("custom " + ((CustomList) value).size()) :
+                        elements(value);
+                }
+            },
+            THRESHOLD
+        );
+
+        this.checkEquals(
+            JsonNode.string("custom 2000"),
+            context.marshall(list)
+        );
+        this.checkEquals(1, count.get(), "marshall count");
+    }
+
+    /**
+     * A {@link List} with its own marshaller, which must never be split into chunks.
+     */
+    private static final class CustomList extends ArrayList<String> {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @Test
+    public void testMarshallCustomMarshalledMapSubclassNotParallel() {
+        final AtomicInteger count = new AtomicInteger();
+        final Map<String, String> map = new LinkedHashMap<String, String>() {
+        };
+        for (final String string : strings(3000)) {
+            map.put(
+                string,
+                string
+            );
+        }
+
+        final ParallelJsonNodeConverterContext context = ParallelJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    count.incrementAndGet();
+                    return JsonNode.string("custom");
+                }
+            },
+            THRESHOLD
+        );
+
+        this.checkEquals(
+            JsonNode.string("custom"),
+            context.marshall(map)
+        );
+        this.checkEquals(1, count.get(), "marshall count");
+    }
+
+    private static List<String> strings(final int count) {
+        final List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            strings.add("s" + i);
+        }
+        return strings;
+    }
+
+    /**
+     * Creates a {@link ParallelJsonNodeConverterContext} wrapping a context that marshalls collections to an array of
+     * strings and maps to an object, counting each marshall.
+     */
+    private ParallelJsonNodeConverterContext elements(final AtomicInteger count) {
+        return ParallelJsonNodeConverterContext.with(
+            new FakeJsonNodeConverterContext() {
+                @Override
+                public JsonNode marshall(final Object value) {
+                    count.incrementAndGet();
+                    return elements(value);
+                }
+            },
+            THRESHOLD
+        );
+    }
+
+    private static JsonNode elements(final Object value) {
+        final JsonNode json;
+
+        if (value instanceof Collection) {
+            final List<JsonNode> children = Lists.array();
+            for (final Object element : (Collection<?>) value) {
+                children.add(
+                    JsonNode.string(element.toString())
+                );
+            }
+            json = JsonNode.array()
+                .setChildren(children);
+        } else {
+            final List<JsonNode> children = Lists.array();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                children.add(
+                    JsonNode.string(
+                        entry.getValue()
+                            .toString()
+                    ).setName(
+                        JsonPropertyName.with(
+                            entry.getKey()
+                                .toString()
+                        )
+                    )
+                );
+            }
+            json = JsonNode.object()
+                .setChildren(children);
+        }
+
+        return json;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createContext(),
+            CONVERTER_CONTEXT + " " + MARSHALL_UNMARSHALL_CONTEXT + " parallel threshold=1000"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ParallelJsonNodeConverterContext> type() {
+        return ParallelJsonNodeConverterContext.class;
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return JsonNodeConverterContext.class.getSimpleName();
+    }
+}